@@ -0,0 +1,20 @@
+package net.zoda.api.command;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Writes every invocation to the audit log once it's enabled, see {@link net.zoda.api.command.manager.CommandManager#enableAudit(java.nio.file.Path)}.
+ * Put it on the command class to audit all of it, or on a default run / subcommand method.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface Audited {
+}
@@ -23,4 +23,10 @@ public @interface Command {
     String usage() default "";
 
     String description() default "";
+
+    /**
+     * Answers {@code /<name> help [page]} with the generated help, unless a subcommand or group named help exists.
+     * Only applies to commands with subcommands.
+     */
+    boolean help() default false;
 }
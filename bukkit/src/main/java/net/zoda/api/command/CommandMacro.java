@@ -0,0 +1,26 @@
+package net.zoda.api.command;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * A command running several invocations in sequence, e.g. {@code steps = {"gamemode {player} creative", "heal {player}"}}.
+ * Placeholders are whole tokens filled from the macro's own arguments in order of first appearance,
+ * steps may only target commands registered before the one declaring the macro.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Repeatable(CommandMacros.class)
+public @interface CommandMacro {
+    String name();
+    String[] steps();
+    String[] permissions() default {};
+}
@@ -0,0 +1,43 @@
+package net.zoda.api.command;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Where the command method runs once its arguments are parsed, see {@link net.zoda.api.command.scheduler.CommandScheduler}.
+ * Put it on the command class for all of its methods, or on a default run / subcommand method.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface ExecuteOn {
+
+    Context value();
+
+    /**
+     * Name of the entity, player, selector or location argument whose region is used with {@link Context#ARGUMENT}
+     */
+    String argument() default "";
+
+    enum Context {
+        /**
+         * The thread that dispatched the command, which is what happens without this annotation
+         */
+        CALLER,
+        /**
+         * The sender's region, or the global region for the console
+         */
+        SENDER,
+        /**
+         * The region of the {@link #argument()}, the sender's one if the argument was left out
+         */
+        ARGUMENT,
+        GLOBAL
+    }
+}
@@ -0,0 +1,257 @@
+package net.zoda.api.command.admission;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import net.zoda.api.command.manager.CommandManager;
+import net.zoda.api.command.message.Messages;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Optional layer in front of the dispatcher. Once enabled, invocations run inline while the
+ * current tick's budget lasts, afterwards they are queued and drained on the following ticks,
+ * by priority and round-robin between senders of the same priority.
+ * <p>
+ * Commands are dispatched on the main thread, this class is not thread-safe.
+ * The invocations still queued for a player are dropped when they leave.
+ */
+public class AdmissionController implements Runnable, Listener {
+
+    private final Logger logger;
+
+    private final PriorityLane[] lanes = new PriorityLane[AdmissionPriority.values().length];
+
+    @Getter
+    private boolean enabled;
+
+    /**
+     * Milliseconds of command execution allowed per tick
+     */
+    @Getter
+    @Setter
+    private double tickBudgetMillis = 10;
+
+    /**
+     * Invocations over this bound are rejected with the busy message
+     */
+    @Getter
+    @Setter
+    private int maxQueued = 500;
+
+    /**
+     * Invocations a single player may have queued, the console and other non-player senders are only
+     * bound by {@link #maxQueued} so scripted batches aren't rejected
+     */
+    @Getter
+    @Setter
+    private int maxQueuedPerSender = 5;
+
+    /**
+     * Sent instead of {@link Messages#SERVER_BUSY} if set
+     */
+    @Getter
+    @Setter
+    private String busyMessage;
+
+    @Getter
+    @Setter
+    private Function<CommandSender, AdmissionPriority> priorityResolver = AdmissionPriority::of;
+
+    @Getter
+    private int queued;
+    @Getter
+    private long rejected;
+
+    private long spentNanos;
+    private BukkitTask bukkitTask;
+
+    public AdmissionController(Logger logger) {
+        this.logger = logger;
+
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new PriorityLane();
+        }
+    }
+
+    /**
+     * Does nothing on servers without a single main thread, the tick budget is shared by all commands
+     */
+    public void enable(JavaPlugin plugin) {
+        if (enabled) return;
+
+        if (!CommandManager.getInstance().getCommandScheduler().isSingleThreaded()) {
+            logger.warning("Admission control needs a single main thread, it stays disabled on this server");
+            return;
+        }
+
+        enabled = true;
+        plugin.getServer().getPluginManager().registerEvents(this, plugin);
+        bukkitTask = plugin.getServer().getScheduler().runTaskTimer(plugin, this, 1, 1);
+    }
+
+    /**
+     * Stops admission control, invocations still queued are run right away
+     */
+    public void disable() {
+        if (!enabled) return;
+
+        enabled = false;
+        HandlerList.unregisterAll(this);
+        bukkitTask.cancel();
+        bukkitTask = null;
+
+        Invocation invocation;
+        while ((invocation = poll()) != null) {
+            invoke(invocation);
+        }
+    }
+
+    /**
+     * @return false if the invocation got rejected
+     */
+    public boolean submit(CommandSender sender, Runnable action) {
+        if (!enabled) {
+            action.run();
+            return true;
+        }
+
+        if (queued == 0 && spentNanos < getBudgetNanos()) {
+            long start = System.nanoTime();
+            try {
+                action.run();
+            } finally {
+                spentNanos += System.nanoTime() - start;
+            }
+            return true;
+        }
+
+        PriorityLane lane = lanes[priorityResolver.apply(sender).ordinal()];
+        Deque<Invocation> senderQueue = lane.queues.get(sender);
+
+        boolean senderFull = sender instanceof Player && senderQueue != null && senderQueue.size() >= maxQueuedPerSender;
+
+        if (queued >= maxQueued || senderFull) {
+            rejected++;
+            if (busyMessage != null) {
+                sender.sendMessage(busyMessage);
+            } else {
+                CommandManager.getInstance().getMessages().send(sender, Messages.SERVER_BUSY);
+            }
+            return false;
+        }
+
+        if (senderQueue == null) {
+            senderQueue = new ArrayDeque<>();
+            lane.queues.put(sender, senderQueue);
+            lane.order.addLast(sender);
+        }
+
+        senderQueue.addLast(new Invocation(sender, action));
+        queued++;
+        return true;
+    }
+
+    @Override
+    public void run() {
+        spentNanos = 0;
+        long budget = getBudgetNanos();
+
+        while (spentNanos < budget) {
+            Invocation invocation = poll();
+            if (invocation == null) break;
+
+            long start = System.nanoTime();
+            invoke(invocation);
+            spentNanos += System.nanoTime() - start;
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        drop(event.getPlayer());
+    }
+
+    /**
+     * Discards the invocations queued for the sender
+     *
+     * @return how many were discarded
+     */
+    public int drop(CommandSender sender) {
+        int dropped = 0;
+
+        for (PriorityLane lane : lanes) {
+            Deque<Invocation> senderQueue = lane.queues.remove(sender);
+            if (senderQueue == null) continue;
+
+            lane.order.remove(sender);
+            dropped += senderQueue.size();
+        }
+
+        queued -= dropped;
+        return dropped;
+    }
+
+    private void invoke(Invocation invocation) {
+        try {
+            invocation.action.run();
+        } catch (Exception e) {
+            logger.severe("Queued command of: " + invocation.sender.getName() + " threw an exception");
+            e.printStackTrace();
+        }
+    }
+
+    private Invocation poll() {
+        for (PriorityLane lane : lanes) {
+            CommandSender sender = lane.order.pollFirst();
+            if (sender == null) continue;
+
+            Deque<Invocation> senderQueue = lane.queues.get(sender);
+            Invocation invocation = senderQueue.pollFirst();
+
+            if (senderQueue.isEmpty()) {
+                lane.queues.remove(sender);
+            } else {
+                lane.order.addLast(sender);
+            }
+
+            queued--;
+            return invocation;
+        }
+        return null;
+    }
+
+    private long getBudgetNanos() {
+        return (long) (tickBudgetMillis * TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    private static class PriorityLane {
+        private final Map<CommandSender, Deque<Invocation>> queues = new HashMap<>();
+        private final Deque<CommandSender> order = new ArrayDeque<>();
+    }
+
+    @RequiredArgsConstructor
+    private static class Invocation {
+        private final CommandSender sender;
+        private final Runnable action;
+    }
+}
@@ -0,0 +1,26 @@
+package net.zoda.api.command.admission;
+
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Queued invocations are drained from the highest priority (lowest ordinal) first
+ */
+public enum AdmissionPriority {
+
+    CONSOLE,
+    OPERATOR,
+    PLAYER;
+
+    public static final String OPERATOR_PERMISSION = "commandapi.admission.priority";
+
+    public static AdmissionPriority of(CommandSender sender) {
+        if (!(sender instanceof Player)) return CONSOLE;
+        if (sender.isOp() || sender.hasPermission(OPERATOR_PERMISSION)) return OPERATOR;
+        return PLAYER;
+    }
+}
@@ -0,0 +1,91 @@
+package net.zoda.api.command.argument;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+/**
+ * MIT License
+ *
+ * Copyright (c) 2022 S. S.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Argument {
+
+    String name();
+    ArgumentType type() default ArgumentType.CUSTOM;
+
+    /**
+     * Key of a parser registered in {@link net.zoda.api.command.argument.parser.ArgumentParsers},
+     * only used when the type is {@link ArgumentType#CUSTOM}
+     */
+    String parser() default "";
+
+    /**
+     * Provide with name of the field / method that contains argument completions
+     * A Completer is searched for automatically based on the argument's name
+     * The completer function may return a {@code List}, or a {@code Stream} / {@code Iterator} read only as far as needed,
+     * or a {@code CompletableFuture} of any of those
+     */
+    String completer() default "";
+    CompleterType completerType() default CompleterType.FIELD;
+
+    /**
+     * Milliseconds a completer returning a {@code CompletableFuture} is waited for, past it the last result
+     * it produced is used while the new one loads in the background
+     */
+    long completerDeadline() default 25;
+
+    /**
+     * Milliseconds the result of a {@code CompletableFuture} completer is reused for, it is reloaded in the
+     * background once three quarters of it passed
+     */
+    long completerMaxAge() default 10000;
+
+    boolean completerSuggestionsRequired() default true;
+    boolean disableCompletions() default false;
+    boolean required() default true;
+
+    /**
+     * Parses every token left as elements of this argument's type, handed to the method as a {@code List}
+     * or an array of that type. Must be the last argument, constraints apply to each element.
+     */
+    boolean variadic() default false;
+
+    /**
+     * Makes the argument a named option given as {@code --name} anywhere among the positional arguments, options
+     * are never required. A {@link ArgumentType#BOOLEAN} option is a flag, true when present and false otherwise,
+     * any other option takes its value from the tokens after its name and is null when absent.
+     */
+    boolean option() default false;
+
+    /**
+     * Single letter the option can also be given as, {@code -f}. Unset by default
+     */
+    char alias() default '\0';
+
+    // Constraints, checked right after parsing and before completers or the command method run
+
+    /**
+     * Inclusive bounds of numeric arguments
+     */
+    double min() default Double.NEGATIVE_INFINITY;
+    double max() default Double.POSITIVE_INFINITY;
+
+    /**
+     * Inclusive length bounds of string arguments
+     */
+    int minLength() default 0;
+    int maxLength() default Integer.MAX_VALUE;
+
+    /**
+     * Regular expression string arguments must match as a whole
+     */
+    String pattern() default "";
+
+    /**
+     * Values the argument may take, compared to the parsed value's string form. Enum constants are compared by name,
+     * ignoring case.
+     */
+    String[] allowed() default {};
+
+}
@@ -0,0 +1,164 @@
+package net.zoda.api.command.argument;
+
+import net.zoda.api.command.argument.parser.ArgumentParseException;
+import net.zoda.api.command.argument.parser.ArgumentParser;
+import net.zoda.api.command.argument.parser.ArgumentParsers;
+import net.zoda.api.command.message.Messages;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
+
+import static net.zoda.api.command.manager.CommandManager.getInvalidSignature;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Compiles the constraint members of {@link Argument} into checks run on the parsed value, only the constraints
+ * an argument sets become checks and patterns are compiled once. Arguments without constraints share an empty chain.
+ */
+public final class ArgumentConstraints {
+
+    @FunctionalInterface
+    private interface Check {
+        void check(Argument argument, Object value) throws ArgumentParseException;
+    }
+
+    private static final Check[] NONE = new Check[0];
+
+    private static final Map<Argument, Check[]> COMPILED = new ConcurrentHashMap<>();
+
+    private ArgumentConstraints() {
+    }
+
+    /**
+     * Verifies the constraints fit the argument's type and compiles them
+     *
+     * @param name the command or subcommand the argument belongs to, for the log
+     */
+    public static boolean verify(Argument argument, String name, Logger logger) {
+        ArgumentParser<?> parser = ArgumentParsers.of(argument);
+        Class<?> type = parser == null ? Object.class : parser.getType();
+        String display = "argument: " + argument.name() + " from: " + name;
+
+        boolean numeric = argument.min() != Double.NEGATIVE_INFINITY || argument.max() != Double.POSITIVE_INFINITY;
+        boolean textual = argument.minLength() != 0 || argument.maxLength() != Integer.MAX_VALUE || !argument.pattern().isEmpty();
+
+        if (numeric && !Number.class.isAssignableFrom(type)) {
+            logger.severe(getInvalidSignature(display, "min and max only apply to numbers"));
+            return false;
+        }
+
+        if (argument.min() > argument.max()) {
+            logger.severe(getInvalidSignature(display, "min is greater than max"));
+            return false;
+        }
+
+        if (textual && !String.class.equals(type)) {
+            logger.severe(getInvalidSignature(display, "length and pattern constraints only apply to strings"));
+            return false;
+        }
+
+        if (argument.minLength() < 0 || argument.minLength() > argument.maxLength()) {
+            logger.severe(getInvalidSignature(display, "invalid length bounds (" + argument.minLength() + " - " + argument.maxLength() + ")"));
+            return false;
+        }
+
+        if (!argument.pattern().isEmpty()) {
+            try {
+                Pattern.compile(argument.pattern());
+            } catch (PatternSyntaxException e) {
+                logger.severe(getInvalidSignature(display, "invalid pattern: " + e.getDescription()));
+                return false;
+            }
+        }
+
+        COMPILED.computeIfAbsent(argument, ArgumentConstraints::compile);
+        return true;
+    }
+
+    /**
+     * @throws ArgumentParseException with the message of the first constraint the value breaks
+     */
+    public static void check(Argument argument, Object value) throws ArgumentParseException {
+        if (value == null) return;
+
+        Check[] checks = COMPILED.get(argument);
+        if (checks == null) checks = COMPILED.computeIfAbsent(argument, ArgumentConstraints::compile);
+
+        for (Check check : checks) {
+            check.check(argument, value);
+        }
+    }
+
+    private static Check[] compile(Argument argument) {
+        List<Check> checks = new ArrayList<>(4);
+
+        double min = argument.min();
+        double max = argument.max();
+
+        if (min != Double.NEGATIVE_INFINITY) {
+            checks.add((arg, value) -> {
+                if (((Number) value).doubleValue() < min) throw new ArgumentParseException(Messages.BELOW_MINIMUM, arg.name(), min);
+            });
+        }
+
+        if (max != Double.POSITIVE_INFINITY) {
+            checks.add((arg, value) -> {
+                if (((Number) value).doubleValue() > max) throw new ArgumentParseException(Messages.ABOVE_MAXIMUM, arg.name(), max);
+            });
+        }
+
+        int minLength = argument.minLength();
+        int maxLength = argument.maxLength();
+
+        if (minLength != 0) {
+            checks.add((arg, value) -> {
+                if (((String) value).length() < minLength) throw new ArgumentParseException(Messages.TOO_SHORT, arg.name(), minLength);
+            });
+        }
+
+        if (maxLength != Integer.MAX_VALUE) {
+            checks.add((arg, value) -> {
+                if (((String) value).length() > maxLength) throw new ArgumentParseException(Messages.TOO_LONG, arg.name(), maxLength);
+            });
+        }
+
+        if (!argument.pattern().isEmpty()) {
+            try {
+                Pattern pattern = Pattern.compile(argument.pattern());
+
+                checks.add((arg, value) -> {
+                    if (!pattern.matcher((String) value).matches()) throw new ArgumentParseException(Messages.PATTERN_MISMATCH, arg.name());
+                });
+            } catch (PatternSyntaxException ignored) {
+                // rejected by verify, only reachable for arguments that were never verified
+            }
+        }
+
+        if (argument.allowed().length != 0) {
+            Set<String> allowed = Set.of(argument.allowed());
+            Set<String> allowedNames = allowed.stream().map(value -> value.toLowerCase(Locale.ROOT)).collect(Collectors.toUnmodifiableSet());
+            String display = String.join(", ", argument.allowed());
+
+            checks.add((arg, value) -> {
+                boolean permitted = value instanceof Enum<?> constant
+                        ? allowedNames.contains(constant.name().toLowerCase(Locale.ROOT))
+                        : allowed.contains(String.valueOf(value));
+
+                if (!permitted) throw new ArgumentParseException(Messages.NOT_ALLOWED, arg.name(), display);
+            });
+        }
+
+        return checks.isEmpty() ? NONE : checks.toArray(new Check[0]);
+    }
+}
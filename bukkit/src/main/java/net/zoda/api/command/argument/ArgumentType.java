@@ -0,0 +1,57 @@
+package net.zoda.api.command.argument;
+
+import lombok.RequiredArgsConstructor;
+import net.zoda.api.command.argument.parser.ArgumentParser;
+import net.zoda.api.command.argument.parser.ArgumentParsers;
+import net.zoda.api.command.argument.parser.builtin.*;
+import net.zoda.api.command.argument.selector.EntitySelectorParser;
+import org.bukkit.command.CommandSender;
+
+/**
+ * MIT License
+ *
+ * Copyright (c) 2022 S. S.
+ */
+@RequiredArgsConstructor
+public enum ArgumentType {
+
+    ENUM(EnumParser.INSTANCE),
+    BOOLEAN(SimpleParser.BOOLEAN),
+    STRING(StringParser.INSTANCE),
+    INTEGER(SimpleParser.INTEGER),
+    FLOAT(SimpleParser.FLOAT),
+    DOUBLE(SimpleParser.DOUBLE),
+    LOCATION(LocationParser.INSTANCE),
+    ROTATION(RotationParser.INSTANCE),
+    ANY_PLAYER(AnyPlayerParser.INSTANCE),
+    PLAYER(PlayerParser.INSTANCE),
+    TIMESTAMP(TimestampParser.INSTANCE),
+
+    /**
+     * The rest of the line as a single string, must be the last argument
+     */
+    GREEDY_STRING(GreedyStringParser.INSTANCE),
+
+    /**
+     * A selector or player name, handed to the method as a {@code List<Entity>}
+     */
+    ENTITIES(EntitySelectorParser.ENTITIES),
+
+    /**
+     * A player-only selector or player name, handed to the method as a {@code List<Player>}
+     */
+    PLAYERS(EntitySelectorParser.PLAYERS),
+
+    /**
+     * Resolved through {@link Argument#parser()} from the {@link ArgumentParsers} registry
+     */
+    CUSTOM(null);
+
+    public final ArgumentParser<?> parser;
+
+    @SuppressWarnings("unchecked")
+    public String stringify(CommandSender sender, Object object) {
+        if (parser == null) return object.toString();
+        return ((ArgumentParser<Object>) parser).stringify(sender, object);
+    }
+}
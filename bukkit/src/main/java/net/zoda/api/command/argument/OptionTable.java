@@ -0,0 +1,105 @@
+package net.zoda.api.command.argument;
+
+import lombok.Getter;
+import net.zoda.api.command.utils.PerfectHash;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * The options of a command node split from its positional arguments, their {@code --name} and {@code -a} tokens
+ * are compiled into a {@link PerfectHash} once so a token is matched with a single lookup.
+ */
+public final class OptionTable {
+
+    public static final OptionTable EMPTY = new OptionTable(new Argument[0], new Argument[0], List.of());
+
+    /**
+     * The positional arguments, in the order they were given
+     */
+    @Getter private final Argument[] positional;
+    @Getter private final Argument[] options;
+
+    /**
+     * Every token naming an option, long names first
+     */
+    @Getter private final List<String> names;
+
+    private final PerfectHash hash;
+    private final int[] targets;
+
+    private OptionTable(Argument[] positional, Argument[] options, List<String> names) {
+        this.positional = positional;
+        this.options = options;
+        this.names = names;
+        this.hash = names.isEmpty() ? null : PerfectHash.of(names);
+        this.targets = new int[names.size()];
+    }
+
+    public static OptionTable compile(Argument[] arguments) {
+        List<Argument> positional = new ArrayList<>();
+        List<Argument> options = new ArrayList<>();
+
+        for (Argument argument : arguments) {
+            (argument.option() ? options : positional).add(argument);
+        }
+
+        if (options.isEmpty()) {
+            return positional.isEmpty() ? EMPTY : new OptionTable(positional.toArray(new Argument[0]), new Argument[0], List.of());
+        }
+
+        List<String> names = new ArrayList<>();
+        List<Integer> targets = new ArrayList<>();
+
+        for (int i = 0; i < options.size(); i++) {
+            names.add("--" + options.get(i).name());
+            targets.add(i);
+        }
+
+        for (int i = 0; i < options.size(); i++) {
+            if (options.get(i).alias() == '\0') continue;
+
+            names.add("-" + options.get(i).alias());
+            targets.add(i);
+        }
+
+        OptionTable table = new OptionTable(positional.toArray(new Argument[0]), options.toArray(new Argument[0]), List.copyOf(names));
+        for (int i = 0; i < targets.size(); i++) table.targets[i] = targets.get(i);
+
+        return table;
+    }
+
+    /**
+     * @return the option the token names, null if it doesn't name one
+     */
+    public Argument find(String token) {
+        if (hash == null || token.length() < 2 || token.charAt(0) != '-') return null;
+
+        int index = hash.get(token);
+        return index == -1 ? null : options[targets[index]];
+    }
+
+    /**
+     * @return whether the token can still grow into one of the option names, a negative number can't
+     */
+    public boolean isOptionPrefix(String token) {
+        if (token.isEmpty() || token.charAt(0) != '-') return false;
+
+        for (String name : names) {
+            if (name.startsWith(token)) return true;
+        }
+        return false;
+    }
+
+    public boolean hasOptions() {
+        return options.length != 0;
+    }
+
+    public static boolean isFlag(Argument argument) {
+        return argument.type() == ArgumentType.BOOLEAN;
+    }
+}
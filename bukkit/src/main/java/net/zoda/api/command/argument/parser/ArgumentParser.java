@@ -0,0 +1,74 @@
+package net.zoda.api.command.argument.parser;
+
+import net.zoda.api.command.argument.Argument;
+import org.bukkit.command.CommandSender;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Converts a span of raw tokens into the value handed to a command method.
+ * Register custom parsers through {@link ArgumentParsers#register(String, ArgumentParser)}.
+ */
+public interface ArgumentParser<T> {
+
+    /**
+     * Arity of parsers whose span is decided while reading (quoted strings, timestamps)
+     */
+    int VARIABLE_ARITY = -1;
+
+    /**
+     * Arity of parsers that consume every token left, only allowed on the last argument
+     */
+    int REMAINING_ARITY = -2;
+
+    /**
+     * @return the type of the command method parameter
+     */
+    Class<?> getType();
+
+    /**
+     * @return the type completers of this argument must supply
+     */
+    default Class<?> getCompletionType() {
+        return getType();
+    }
+
+    /**
+     * @return how many tokens this parser consumes for the given sender, or {@link #VARIABLE_ARITY}
+     */
+    default int getArity(CommandSender sender) {
+        return 1;
+    }
+
+    /**
+     * @return whether the span this parser reads depends on the tokens alone and not on the sender
+     */
+    default boolean isArityFixed() {
+        return true;
+    }
+
+    /**
+     * @return whether parsing ignores the sender and the world, so a value can be parsed once ahead of time
+     */
+    default boolean isContextFree() {
+        return false;
+    }
+
+    /**
+     * Parses the span starting at the reader's cursor, leaving the cursor after the last consumed token
+     */
+    T parse(ParseContext context, Argument argument, ArgumentReader reader) throws ArgumentParseException;
+
+    default String stringify(CommandSender sender, T value) {
+        return value.toString();
+    }
+
+    /**
+     * Adds default suggestions for the token currently being typed,
+     * {@link Suggestions#add(String)} drops anything not matching the typed prefix
+     */
+    default void suggest(ParseContext context, Argument argument, Suggestions suggestions) {
+    }
+}
@@ -0,0 +1,53 @@
+package net.zoda.api.command.argument.parser;
+
+import net.zoda.api.command.argument.Argument;
+import net.zoda.api.command.argument.ArgumentType;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Registry of custom argument parsers, referenced by {@link Argument#parser()} with {@link ArgumentType#CUSTOM}.
+ * Keys should be namespaced, e.g. {@code myplugin:world}
+ */
+public final class ArgumentParsers {
+
+    private static final Map<String, ArgumentParser<?>> parsers = new ConcurrentHashMap<>();
+
+    private ArgumentParsers() {
+    }
+
+    public static void register(String key, ArgumentParser<?> parser) {
+        if (parsers.putIfAbsent(key, parser) != null) {
+            throw new IllegalArgumentException("A parser is already registered under: " + key);
+        }
+    }
+
+    public static void unregister(String key) {
+        parsers.remove(key);
+    }
+
+    public static ArgumentParser<?> get(String key) {
+        return parsers.get(key);
+    }
+
+    /**
+     * @return a snapshot of the registered parsers by key
+     */
+    public static Map<String, ArgumentParser<?>> getAll() {
+        return Map.copyOf(parsers);
+    }
+
+    /**
+     * @return the parser handling the argument, or null if its custom parser isn't registered
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ArgumentParser<T> of(Argument argument) {
+        if (argument.type() != ArgumentType.CUSTOM) return (ArgumentParser<T>) argument.type().parser;
+        return (ArgumentParser<T>) get(argument.parser());
+    }
+}
@@ -0,0 +1,21 @@
+package net.zoda.api.command.argument.parser;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import net.zoda.api.command.ACommand;
+import org.bukkit.command.CommandSender;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ */
+@RequiredArgsConstructor
+public class ParseContext {
+
+    @Getter
+    private final CommandSender sender;
+    @Getter
+    private final ACommand command;
+
+}
@@ -0,0 +1,74 @@
+package net.zoda.api.command.argument.parser.builtin;
+
+import net.zoda.api.command.argument.Argument;
+import net.zoda.api.command.argument.parser.ArgumentParseException;
+import net.zoda.api.command.argument.parser.ArgumentParser;
+import net.zoda.api.command.argument.parser.ArgumentReader;
+import net.zoda.api.command.argument.parser.ParseContext;
+import net.zoda.api.command.argument.parser.Suggestions;
+import net.zoda.api.command.manager.CommandManager;
+import net.zoda.api.command.message.Messages;
+import net.zoda.api.command.player.PlayerNameIndex;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.Server;
+import org.bukkit.command.CommandSender;
+
+import java.util.UUID;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Resolves a player by UUID, or by name if they have been cached by the server or are in the
+ * {@link CommandManager#getNameIndex() name index}. Names are completed from the index when it is enabled,
+ * from the online players otherwise.
+ */
+public class AnyPlayerParser implements ArgumentParser<OfflinePlayer> {
+
+    public static final AnyPlayerParser INSTANCE = new AnyPlayerParser();
+
+    @Override
+    public Class<?> getType() {
+        return OfflinePlayer.class;
+    }
+
+    @Override
+    public OfflinePlayer parse(ParseContext context, Argument argument, ArgumentReader reader) throws ArgumentParseException {
+        String raw = reader.next();
+        Server server = context.getSender().getServer();
+
+        OfflinePlayer offlinePlayer;
+        try {
+            offlinePlayer = server.getOfflinePlayer(UUID.fromString(raw));
+        } catch (IllegalArgumentException e) {
+            PlayerNameIndex nameIndex = CommandManager.getInstance().getNameIndex();
+            UUID uuid = nameIndex == null ? null : nameIndex.getIndex().get(raw);
+
+            offlinePlayer = uuid == null ? server.getOfflinePlayerIfCached(raw) : server.getOfflinePlayer(uuid);
+        }
+
+        if (offlinePlayer == null) {
+            throw new ArgumentParseException(Messages.PLAYER_NOT_FOUND);
+        }
+        return offlinePlayer;
+    }
+
+    @Override
+    public String stringify(CommandSender sender, OfflinePlayer value) {
+        return value.getName();
+    }
+
+    @Override
+    public void suggest(ParseContext context, Argument argument, Suggestions suggestions) {
+        CommandManager manager = CommandManager.getInstance();
+        PlayerNameIndex nameIndex = manager.getNameIndex();
+
+        if (nameIndex == null) {
+            PlayerParser.suggestOnlinePlayers(context.getSender(), suggestions);
+            return;
+        }
+
+        nameIndex.getIndex().forEachPrefix(suggestions.getPrefix(), manager.getSuggestionLimit(), suggestions::add);
+    }
+}
@@ -0,0 +1,56 @@
+package net.zoda.api.command.argument.parser.builtin;
+
+import net.zoda.api.command.argument.Argument;
+import net.zoda.api.command.argument.parser.ArgumentParseException;
+import net.zoda.api.command.argument.parser.ArgumentParser;
+import net.zoda.api.command.argument.parser.ArgumentReader;
+import net.zoda.api.command.argument.parser.ParseContext;
+import net.zoda.api.command.manager.CommandManager;
+import net.zoda.api.command.manager.containers.SubcommandsContainer;
+import net.zoda.api.command.message.Messages;
+import org.bukkit.command.CommandSender;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Resolves a constant of the enum class supplied by the argument's completer
+ */
+public class EnumParser implements ArgumentParser<Enum<?>> {
+
+    public static final EnumParser INSTANCE = new EnumParser();
+
+    @Override
+    public Class<?> getType() {
+        return Enum.class;
+    }
+
+    @Override
+    public boolean isContextFree() {
+        return true;
+    }
+
+    @Override
+    public Enum<?> parse(ParseContext context, Argument argument, ArgumentReader reader) throws ArgumentParseException {
+        String raw = reader.next();
+
+        Class<?> enumClass = CommandManager.extractClazz(context.getCommand(),
+                SubcommandsContainer.findCompleter(argument, context.getCommand().getClass()));
+
+        if (enumClass != null && enumClass.isEnum()) {
+            for (Object constant : enumClass.getEnumConstants()) {
+                Enum<?> e = (Enum<?>) constant;
+
+                if (e.name().equalsIgnoreCase(raw)) return e;
+            }
+        }
+
+        throw new ArgumentParseException(Messages.UNKNOWN_VALUE, raw);
+    }
+
+    @Override
+    public String stringify(CommandSender sender, Enum<?> value) {
+        return value.name();
+    }
+}
@@ -0,0 +1,39 @@
+package net.zoda.api.command.argument.parser.builtin;
+
+import net.zoda.api.command.argument.Argument;
+import net.zoda.api.command.argument.parser.ArgumentParser;
+import net.zoda.api.command.argument.parser.ArgumentReader;
+import net.zoda.api.command.argument.parser.ParseContext;
+import org.bukkit.command.CommandSender;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Every token left as one string, quotes are kept as typed
+ */
+public class GreedyStringParser implements ArgumentParser<String> {
+
+    public static final GreedyStringParser INSTANCE = new GreedyStringParser();
+
+    @Override
+    public Class<?> getType() {
+        return String.class;
+    }
+
+    @Override
+    public boolean isContextFree() {
+        return true;
+    }
+
+    @Override
+    public int getArity(CommandSender sender) {
+        return REMAINING_ARITY;
+    }
+
+    @Override
+    public String parse(ParseContext context, Argument argument, ArgumentReader reader) {
+        return reader.readRemaining();
+    }
+}
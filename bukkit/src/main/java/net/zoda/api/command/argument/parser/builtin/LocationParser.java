@@ -0,0 +1,242 @@
+package net.zoda.api.command.argument.parser.builtin;
+
+import net.zoda.api.command.argument.Argument;
+import net.zoda.api.command.argument.ArgumentLocation;
+import net.zoda.api.command.argument.parser.ArgumentParseException;
+import net.zoda.api.command.argument.parser.ArgumentParser;
+import net.zoda.api.command.argument.parser.ArgumentReader;
+import net.zoda.api.command.argument.parser.ParseContext;
+import net.zoda.api.command.argument.parser.Suggestions;
+import net.zoda.api.command.message.Messages;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * {@code <x> <y> <z>}, non-players have to supply an extra {@code <world>}.
+ * Players may give {@code ~<offset>} relative, {@code @} block centered or {@code ^<left> ^<up> ^<forwards>} local
+ * coordinates, all resolved against a single snapshot of their location.
+ * Parses into a {@link Location} while completers supply {@link ArgumentLocation}s
+ */
+public class LocationParser implements ArgumentParser<Object> {
+
+    public static final LocationParser INSTANCE = new LocationParser();
+
+    @Override
+    public Class<?> getType() {
+        return Location.class;
+    }
+
+    @Override
+    public boolean isArityFixed() {
+        return false;
+    }
+
+    @Override
+    public Class<?> getCompletionType() {
+        return ArgumentLocation.class;
+    }
+
+    @Override
+    public int getArity(CommandSender sender) {
+        return sender instanceof Player ? 3 : 4;
+    }
+
+    @Override
+    public Object parse(ParseContext context, Argument argument, ArgumentReader reader) throws ArgumentParseException {
+        CommandSender sender = context.getSender();
+
+        if (reader.remaining() < getArity(sender)) {
+            throw new ArgumentParseException(sender instanceof Player
+                    ? Messages.MISSING_COORDINATES
+                    : Messages.MISSING_COORDINATES_AND_WORLD);
+        }
+
+        String rawX = reader.next();
+        String rawY = reader.next();
+        String rawZ = reader.next();
+
+        // one snapshot of the position and rotation serves every axis
+        Location origin = sender instanceof Player player ? player.getLocation() : null;
+
+        if (origin == null && (isRelative(rawX) || isRelative(rawY) || isRelative(rawZ))) {
+            throw new ArgumentParseException(Messages.RELATIVE_COORDINATES_PLAYERS_ONLY);
+        }
+
+        if (isLocal(rawX) || isLocal(rawY) || isLocal(rawZ)) {
+            if (!isLocal(rawX) || !isLocal(rawY) || !isLocal(rawZ)) {
+                throw new ArgumentParseException(Messages.MIXED_LOCAL_COORDINATES);
+            }
+
+            return resolveLocal(origin, parseOffset("X", rawX), parseOffset("Y", rawY), parseOffset("Z", rawZ));
+        }
+
+        double x = parseAxis("X", rawX, origin == null ? 0 : origin.getX());
+        double y = parseAxis("Y", rawY, origin == null ? 0 : origin.getY());
+        double z = parseAxis("Z", rawZ, origin == null ? 0 : origin.getZ());
+
+        World world;
+
+        if (origin != null) {
+            world = origin.getWorld();
+        } else {
+            String worldName = reader.next();
+            world = sender.getServer().getWorld(worldName);
+
+            if (world == null) {
+                throw new ArgumentParseException(Messages.UNKNOWN_WORLD, worldName);
+            }
+        }
+
+        return new Location(world, x, y, z);
+    }
+
+    @Override
+    public String stringify(CommandSender sender, Object value) {
+        double x = 0, y = 0, z = 0;
+
+        if (value instanceof ArgumentLocation defaultLocation) {
+            x = defaultLocation.x();
+            y = defaultLocation.y();
+            z = defaultLocation.z();
+        } else if (value instanceof Location bukkitLocation) {
+            x = bukkitLocation.getX();
+            y = bukkitLocation.getY();
+            z = bukkitLocation.getZ();
+        }
+
+        return x + " " + y + " " + z;
+    }
+
+    @Override
+    public void suggest(ParseContext context, Argument argument, Suggestions suggestions) {
+        CommandSender sender = context.getSender();
+        int index = suggestions.getIndex();
+
+        if (index == 3 && !(sender instanceof Player)) {
+            for (World world : sender.getServer().getWorlds()) {
+                suggestions.add(world.getName());
+            }
+            return;
+        }
+
+        if (!(sender instanceof Player player)) return;
+
+        Location location = player.getLocation();
+        String current = formatHundredths(location.getX()) + " " + formatHundredths(location.getY()) + " " + formatHundredths(location.getZ());
+
+        for (String custom : new String[]{"~ ~ ~", "^ ^ ^", current}) {
+            if (index == 0) {
+                suggestions.add(custom);
+                continue;
+            }
+
+            String[] split = custom.split(" ");
+            if (index < split.length) suggestions.add(split[index]);
+        }
+    }
+
+    /**
+     * Resolves one world axis, {@code ~} and {@code ~<offset>} are relative to the origin's axis and {@code @} is the
+     * center of the origin's block
+     *
+     * @param origin the sender's position on the axis
+     */
+    public static double parseAxis(String symbol, String arg, double origin) throws ArgumentParseException {
+        if (arg.startsWith("~")) return origin + parseOffset(symbol, arg);
+        if (arg.equals("@")) return Math.floor(origin) + 0.5D;
+
+        try {
+            return Double.parseDouble(arg);
+        } catch (NumberFormatException e) {
+            throw new ArgumentParseException(Messages.INVALID_COORDINATE, symbol);
+        }
+    }
+
+    /**
+     * @deprecated resolves a single axis so local coordinates can't be given, parse the whole location instead
+     */
+    @Deprecated
+    public static double parseLocationValue(String symbol, String arg, CommandSender sender) throws ArgumentParseException {
+        if (!(sender instanceof Player player)) {
+            if (isRelative(arg)) throw new ArgumentParseException(Messages.RELATIVE_COORDINATES_PLAYERS_ONLY);
+            return parseAxis(symbol, arg, 0);
+        }
+
+        if (isLocal(arg)) throw new ArgumentParseException(Messages.MIXED_LOCAL_COORDINATES);
+
+        Location location = player.getLocation();
+        double origin = switch (symbol) {
+            case "Y" -> location.getY();
+            case "Z" -> location.getZ();
+            default -> location.getX();
+        };
+        return parseAxis(symbol, arg, origin);
+    }
+
+    /**
+     * Offsets the origin along its view, as {@code ^<left> ^<up> ^<forwards>} does in vanilla commands
+     */
+    private static Location resolveLocal(Location origin, double left, double up, double forwards) {
+        double yaw = Math.toRadians(origin.getYaw() + 90);
+        double pitch = Math.toRadians(-origin.getPitch());
+        double upPitch = Math.toRadians(-origin.getPitch() + 90);
+
+        double forwardX = Math.cos(yaw) * Math.cos(pitch);
+        double forwardY = Math.sin(pitch);
+        double forwardZ = Math.sin(yaw) * Math.cos(pitch);
+
+        double upX = Math.cos(yaw) * Math.cos(upPitch);
+        double upY = Math.sin(upPitch);
+        double upZ = Math.sin(yaw) * Math.cos(upPitch);
+
+        // left is forwards x up, reversed
+        double leftX = -(forwardY * upZ - forwardZ * upY);
+        double leftY = -(forwardZ * upX - forwardX * upZ);
+        double leftZ = -(forwardX * upY - forwardY * upX);
+
+        return new Location(origin.getWorld(),
+                origin.getX() + forwardX * forwards + upX * up + leftX * left,
+                origin.getY() + forwardY * forwards + upY * up + leftY * left,
+                origin.getZ() + forwardZ * forwards + upZ * up + leftZ * left);
+    }
+
+    /**
+     * @return the number after a {@code ~} or {@code ^}, 0 if there is none
+     */
+    private static double parseOffset(String symbol, String arg) throws ArgumentParseException {
+        if (arg.length() == 1) return 0;
+
+        try {
+            return Double.parseDouble(arg.substring(1));
+        } catch (NumberFormatException e) {
+            throw new ArgumentParseException(Messages.INVALID_COORDINATE, symbol);
+        }
+    }
+
+    private static boolean isRelative(String arg) {
+        return arg.startsWith("~") || arg.startsWith("^") || arg.equals("@");
+    }
+
+    private static boolean isLocal(String arg) {
+        return arg.startsWith("^");
+    }
+
+    /**
+     * Formats with two decimals and a dot whatever the locale, without a formatter per call
+     */
+    static String formatHundredths(double value) {
+        long hundredths = Math.round(Math.abs(value) * 100);
+        long fraction = hundredths % 100;
+
+        StringBuilder builder = new StringBuilder(12);
+        if (value < 0 && hundredths != 0) builder.append('-');
+
+        return builder.append(hundredths / 100).append('.').append(fraction < 10 ? "0" : "").append(fraction).toString();
+    }
+}
@@ -0,0 +1,52 @@
+package net.zoda.api.command.argument.parser.builtin;
+
+import net.zoda.api.command.argument.Argument;
+import net.zoda.api.command.argument.parser.ArgumentParseException;
+import net.zoda.api.command.argument.parser.ArgumentParser;
+import net.zoda.api.command.argument.parser.ArgumentReader;
+import net.zoda.api.command.argument.parser.ParseContext;
+import net.zoda.api.command.argument.parser.Suggestions;
+import net.zoda.api.command.message.Messages;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ */
+public class PlayerParser implements ArgumentParser<Player> {
+
+    public static final PlayerParser INSTANCE = new PlayerParser();
+
+    @Override
+    public Class<?> getType() {
+        return Player.class;
+    }
+
+    @Override
+    public Player parse(ParseContext context, Argument argument, ArgumentReader reader) throws ArgumentParseException {
+        Player player = context.getSender().getServer().getPlayer(reader.next());
+
+        if (player == null) {
+            throw new ArgumentParseException(Messages.PLAYER_NOT_FOUND);
+        }
+        return player;
+    }
+
+    @Override
+    public String stringify(CommandSender sender, Player value) {
+        return value.getName();
+    }
+
+    @Override
+    public void suggest(ParseContext context, Argument argument, Suggestions suggestions) {
+        suggestOnlinePlayers(context.getSender(), suggestions);
+    }
+
+    static void suggestOnlinePlayers(CommandSender sender, Suggestions suggestions) {
+        for (Player player : sender.getServer().getOnlinePlayers()) {
+            suggestions.add(player.getName());
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package net.zoda.api.command.argument.parser.builtin;
+
+import net.zoda.api.command.argument.Argument;
+import net.zoda.api.command.argument.Rotation;
+import net.zoda.api.command.argument.parser.ArgumentParseException;
+import net.zoda.api.command.argument.parser.ArgumentParser;
+import net.zoda.api.command.argument.parser.ArgumentReader;
+import net.zoda.api.command.argument.parser.ParseContext;
+import net.zoda.api.command.argument.parser.Suggestions;
+import net.zoda.api.command.message.Messages;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * {@code <yaw> <pitch>}, accepts compass directions for the yaw and up / down for the pitch
+ */
+public class RotationParser implements ArgumentParser<Rotation> {
+
+    public static final RotationParser INSTANCE = new RotationParser();
+
+    @Override
+    public Class<?> getType() {
+        return Rotation.class;
+    }
+
+    @Override
+    public boolean isContextFree() {
+        return true;
+    }
+
+    @Override
+    public int getArity(CommandSender sender) {
+        return 2;
+    }
+
+    @Override
+    public Rotation parse(ParseContext context, Argument argument, ArgumentReader reader) throws ArgumentParseException {
+        if (reader.remaining() < 2) {
+            throw new ArgumentParseException(Messages.MISSING_ROTATION, argument.name(), reader.remaining());
+        }
+
+        String rawYaw = reader.next();
+        String rawPitch = reader.next();
+
+        float yaw, pitch;
+
+        if (rawYaw.equalsIgnoreCase("north")) {
+            yaw = 180;
+        } else if (rawYaw.equalsIgnoreCase("east")) {
+            yaw = -90;
+        } else if (rawYaw.equalsIgnoreCase("south")) {
+            yaw = 0;
+        } else if (rawYaw.equalsIgnoreCase("west")) {
+            yaw = 90;
+        } else {
+            try {
+                yaw = Float.parseFloat(rawYaw);
+            } catch (NumberFormatException e) {
+                throw new ArgumentParseException(Messages.INVALID_YAW);
+            }
+        }
+
+        if (rawPitch.equalsIgnoreCase("up")) {
+            pitch = -90;
+        } else if (rawPitch.equalsIgnoreCase("down")) {
+            pitch = 90;
+        } else {
+            try {
+                pitch = Float.parseFloat(rawPitch);
+            } catch (NumberFormatException e) {
+                throw new ArgumentParseException(Messages.INVALID_PITCH);
+            }
+        }
+        return new Rotation(yaw, pitch);
+    }
+
+    @Override
+    public String stringify(CommandSender sender, Rotation value) {
+        return value.yaw() + " " + value.pitch();
+    }
+
+    @Override
+    public void suggest(ParseContext context, Argument argument, Suggestions suggestions) {
+        CommandSender sender = context.getSender();
+
+        if (suggestions.getIndex() == 0) {
+            suggestions.add("north");
+            suggestions.add("east");
+            suggestions.add("west");
+            suggestions.add("south");
+            if (sender instanceof Player player) {
+                suggestions.add(LocationParser.formatHundredths(player.getLocation().getYaw()));
+            }
+        } else if (suggestions.getIndex() == 1) {
+            suggestions.add("up");
+            suggestions.add("down");
+            if (sender instanceof Player player) {
+                suggestions.add(LocationParser.formatHundredths(player.getLocation().getPitch()));
+            }
+        }
+    }
+}
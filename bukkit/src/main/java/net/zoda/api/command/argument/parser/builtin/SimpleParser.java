@@ -0,0 +1,81 @@
+package net.zoda.api.command.argument.parser.builtin;
+
+import lombok.RequiredArgsConstructor;
+import net.zoda.api.command.argument.Argument;
+import net.zoda.api.command.argument.parser.ArgumentParseException;
+import net.zoda.api.command.argument.parser.ArgumentParser;
+import net.zoda.api.command.argument.parser.ArgumentReader;
+import net.zoda.api.command.argument.parser.ParseContext;
+import net.zoda.api.command.argument.parser.Suggestions;
+import net.zoda.api.command.message.MessageKey;
+import net.zoda.api.command.message.Messages;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Single token parser backed by a plain conversion function.
+ */
+@RequiredArgsConstructor
+public class SimpleParser<T> implements ArgumentParser<T> {
+
+    public static final SimpleParser<Boolean> BOOLEAN = new SimpleParser<>(Boolean.class, raw -> {
+        if (raw.equalsIgnoreCase("true")) return true;
+        if (raw.equalsIgnoreCase("false")) return false;
+        throw new IllegalArgumentException();
+    }, Messages.NOT_A_BOOLEAN, new String[]{"true", "false"});
+
+    public static final SimpleParser<Integer> INTEGER = new SimpleParser<>(Integer.class, Integer::valueOf, Messages.NOT_AN_INTEGER, new String[0]);
+    public static final SimpleParser<Float> FLOAT = new SimpleParser<>(Float.class, raw -> Double.valueOf(raw).floatValue(), Messages.NOT_A_FLOAT, new String[0]);
+    public static final SimpleParser<Double> DOUBLE = new SimpleParser<>(Double.class, Double::valueOf, Messages.NOT_A_NUMBER, new String[0]);
+
+    @FunctionalInterface
+    public interface Converter<T> {
+        T convert(String raw) throws Exception;
+    }
+
+    private final Class<T> type;
+    private final Converter<T> converter;
+    /**
+     * Sent with the raw token as its only value
+     */
+    private final MessageKey error;
+    private final String[] defaults;
+
+    /**
+     * @param error appended to the raw token
+     */
+    public SimpleParser(Class<T> type, Converter<T> converter, String error, String[] defaults) {
+        this(type, converter, MessageKey.of(type.getSimpleName().toLowerCase() + "-parse-error",
+                "&c{value}" + error.replace("&", "&&").replace("{", "{{"), "value"), defaults);
+    }
+
+    @Override
+    public Class<?> getType() {
+        return type;
+    }
+
+    @Override
+    public boolean isContextFree() {
+        return true;
+    }
+
+    @Override
+    public T parse(ParseContext context, Argument argument, ArgumentReader reader) throws ArgumentParseException {
+        String raw = reader.next();
+
+        try {
+            return converter.convert(raw);
+        } catch (Exception e) {
+            throw new ArgumentParseException(error, raw);
+        }
+    }
+
+    @Override
+    public void suggest(ParseContext context, Argument argument, Suggestions suggestions) {
+        for (String suggestion : defaults) {
+            suggestions.add(suggestion);
+        }
+    }
+}
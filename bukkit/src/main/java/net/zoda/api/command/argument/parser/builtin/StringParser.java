@@ -0,0 +1,53 @@
+package net.zoda.api.command.argument.parser.builtin;
+
+import net.zoda.api.command.argument.Argument;
+import net.zoda.api.command.argument.parser.ArgumentParseException;
+import net.zoda.api.command.argument.parser.ArgumentParser;
+import net.zoda.api.command.argument.parser.ArgumentReader;
+import net.zoda.api.command.argument.parser.ParseContext;
+import net.zoda.api.command.message.Messages;
+import org.bukkit.command.CommandSender;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * A single word, or several words captured between double quotes
+ */
+public class StringParser implements ArgumentParser<String> {
+
+    public static final StringParser INSTANCE = new StringParser();
+
+    @Override
+    public Class<?> getType() {
+        return String.class;
+    }
+
+    @Override
+    public boolean isContextFree() {
+        return true;
+    }
+
+    @Override
+    public int getArity(CommandSender sender) {
+        return VARIABLE_ARITY;
+    }
+
+    @Override
+    public String parse(ParseContext context, Argument argument, ArgumentReader reader) throws ArgumentParseException {
+        if (!reader.isQuoted()) return reader.readUnquoted();
+
+        String value = reader.readQuoted();
+
+        if (value == null) {
+            throw new ArgumentParseException(Messages.UNTERMINATED_STRING, argument.name());
+        }
+        return value;
+    }
+
+    @Override
+    public String stringify(CommandSender sender, String value) {
+        return value.contains(" ") ? '"' + value + '"' : value;
+    }
+}
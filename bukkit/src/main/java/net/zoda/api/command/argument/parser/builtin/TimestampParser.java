@@ -0,0 +1,171 @@
+package net.zoda.api.command.argument.parser.builtin;
+
+import net.zoda.api.command.argument.Argument;
+import net.zoda.api.command.argument.TimeStampType;
+import net.zoda.api.command.argument.parser.ArgumentParseException;
+import net.zoda.api.command.argument.parser.ArgumentParser;
+import net.zoda.api.command.argument.parser.ArgumentReader;
+import net.zoda.api.command.argument.parser.ParseContext;
+import net.zoda.api.command.argument.parser.Suggestions;
+import net.zoda.api.command.message.Messages;
+import org.bukkit.command.CommandSender;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * A duration captured between double quotes, e.g. {@code "1 day 5h"}, parsed into milliseconds
+ */
+public class TimestampParser implements ArgumentParser<Long> {
+
+    public static final TimestampParser INSTANCE = new TimestampParser();
+
+    @Override
+    public Class<?> getType() {
+        return Long.class;
+    }
+
+    @Override
+    public boolean isContextFree() {
+        return true;
+    }
+
+    @Override
+    public int getArity(CommandSender sender) {
+        return VARIABLE_ARITY;
+    }
+
+    @Override
+    public Long parse(ParseContext context, Argument argument, ArgumentReader reader) throws ArgumentParseException {
+        if (!reader.peek().startsWith("\"")) {
+            throw new ArgumentParseException(Messages.TIMESTAMP_NOT_QUOTED);
+        }
+
+        String timestampRaw = reader.readQuoted();
+
+        if (timestampRaw == null) {
+            throw new ArgumentParseException(Messages.UNTERMINATED_TIMESTAMP, argument.name());
+        }
+
+        Map<TimeStampType, Integer> timeMap = new EnumMap<>(TimeStampType.class);
+        Map<String, TimeStampType> typeMap = TimeStampType.getMapped();
+        String[] split = timestampRaw.split(" ");
+
+        for (int j = 0; j < split.length; j++) {
+            String raw = split[j];
+
+            try {
+                int parsed = Integer.parseInt(raw);
+
+                if (j + 1 >= split.length) {
+                    throw new ArgumentParseException(Messages.MISSING_TIMESTAMP_TYPE, argument.name());
+                }
+
+                String type = split[++j];
+                TimeStampType timeStampType = typeMap.get(type);
+
+                if (timeStampType == null) {
+                    throw new ArgumentParseException(Messages.UNKNOWN_TIMESTAMP_TYPE, type);
+                }
+
+                if (timeMap.putIfAbsent(timeStampType, parsed) != null) {
+                    throw new ArgumentParseException(Messages.DUPLICATE_TIMESTAMP_TYPE, type);
+                }
+            } catch (NumberFormatException ignored) {
+                String decimalsRemoved = raw.replaceAll("\\d", "");
+                TimeStampType type = typeMap.get(decimalsRemoved);
+
+                if (type == null) {
+                    throw new ArgumentParseException(Messages.UNKNOWN_TIMESTAMP_TYPE, decimalsRemoved);
+                }
+
+                String timeRemoved = raw.replace(decimalsRemoved, "");
+
+                try {
+                    int time = Integer.parseInt(timeRemoved);
+
+                    if (timeMap.putIfAbsent(type, time) != null) {
+                        throw new ArgumentParseException(Messages.DUPLICATE_TIMESTAMP_TYPE, type);
+                    }
+                } catch (NumberFormatException e) {
+                    throw new ArgumentParseException(Messages.INVALID_TIMESTAMP_VALUE, timeRemoved);
+                }
+            }
+        }
+
+        if (timeMap.isEmpty()) {
+            throw new ArgumentParseException(Messages.NO_TIMESTAMPS);
+        }
+
+        long totalAdd = 0;
+
+        for (Map.Entry<TimeStampType, Integer> entry : timeMap.entrySet()) {
+            totalAdd += (entry.getValue() * (entry.getKey().getMultiply() * 1000));
+        }
+
+        return totalAdd;
+    }
+
+    @Override
+    public String stringify(CommandSender sender, Long value) {
+        return '"' + millisToTime(value) + '"';
+    }
+
+    @Override
+    public void suggest(ParseContext context, Argument argument, Suggestions suggestions) {
+        int index = suggestions.getIndex();
+
+        if (index == 0 && suggestions.getPrefix().isEmpty()) return;
+
+        if (index % 2 != 0) {
+            try {
+                int parsed = Integer.parseInt(suggestions.getToken(index - 1).replaceFirst("\"", ""));
+
+                for (String type : TimeStampType.getAppropriate(parsed)) {
+                    suggestions.add(type);
+                }
+            } catch (NumberFormatException ignored) {
+            }
+            return;
+        }
+
+        String raw = suggestions.getPrefix().replaceFirst("\"", "").replaceAll("[^\\d]", "");
+
+        try {
+            int parsed = Integer.parseInt(raw);
+
+            for (String type : TimeStampType.getAppropriate(parsed)) {
+                suggestions.add((index == 0 ? "\"" : "") + parsed + " " + type);
+            }
+        } catch (NumberFormatException ignored) {
+        }
+    }
+
+    /**
+     * Formats the duration with the units {@link #parse} reads, so the result parses back into the same value.
+     * Leftover milliseconds are dropped, zero is {@code 0 seconds}.
+     */
+    public static String millisToTime(long time) {
+        long seconds = Math.abs(time / 1000);
+        String sign = time < 0 ? "-" : "";
+
+        StringBuilder builder = new StringBuilder();
+
+        for (TimeStampType type : TimeStampType.values()) {
+            long amount = seconds / type.getMultiply();
+            if (amount == 0) continue;
+
+            seconds %= type.getMultiply();
+
+            if (!builder.isEmpty()) builder.append(' ');
+            builder.append(sign).append(amount).append(' ').append(type.name().toLowerCase(Locale.ROOT)).append(amount > 1 ? "s" : "");
+        }
+
+        return builder.isEmpty() ? "0 seconds" : builder.toString();
+    }
+}
@@ -0,0 +1,217 @@
+package net.zoda.api.command.argument.selector;
+
+import net.zoda.api.command.argument.parser.ArgumentParseException;
+import net.zoda.api.command.message.Messages;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.command.BlockCommandSender;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Query plan of a parsed selector such as {@code @e[type=zombie,r=30,limit=5,sort=nearest]}.
+ * Plans are immutable and shared between invocations, see {@link SelectorParser}.
+ */
+public class EntitySelector {
+
+    public enum Base {
+        ALL_PLAYERS, NEAREST_PLAYER, RANDOM_PLAYER, ALL_ENTITIES, SELF
+    }
+
+    public enum Sort {
+        NEAREST, FURTHEST, RANDOM, ARBITRARY
+    }
+
+    final Base base;
+
+    EntityType type;
+    boolean negateType;
+    String name;
+    boolean negateName;
+
+    Double x, y, z;
+    double minDistance;
+    double maxDistance = Double.POSITIVE_INFINITY;
+    Double dx, dy, dz;
+
+    int limit = Integer.MAX_VALUE;
+    Sort sort = Sort.ARBITRARY;
+
+    EntitySelector(Base base) {
+        this.base = base;
+
+        switch (base) {
+            case NEAREST_PLAYER -> {
+                sort = Sort.NEAREST;
+                limit = 1;
+            }
+            case RANDOM_PLAYER -> {
+                sort = Sort.RANDOM;
+                limit = 1;
+            }
+        }
+    }
+
+    public boolean isPlayersOnly() {
+        return base != Base.ALL_ENTITIES || type == EntityType.PLAYER && !negateType;
+    }
+
+    private boolean isPositional() {
+        return maxDistance != Double.POSITIVE_INFINITY || minDistance > 0 || dx != null || dy != null || dz != null
+                || sort == Sort.NEAREST || sort == Sort.FURTHEST;
+    }
+
+    public List<Entity> select(CommandSender sender, SpatialIndex index) throws ArgumentParseException {
+        if (base == Base.SELF) {
+            if (!(sender instanceof Entity entity) || !test(entity, null)) {
+                throw new ArgumentParseException(Messages.NO_ENTITY_FOUND);
+            }
+            return List.of(entity);
+        }
+
+        Location origin = getOrigin(sender);
+
+        if (origin == null && isPositional()) {
+            throw new ArgumentParseException(Messages.SELECTOR_NEEDS_POSITION);
+        }
+
+        List<Entity> selected = new ArrayList<>();
+
+        if (origin != null && isPositional() && isBounded()) {
+            collectNear(sender, origin, index, selected);
+        } else if (isPlayersOnly()) {
+            Collection<? extends Player> players = origin != null && isPositional()
+                    ? origin.getWorld().getPlayers()
+                    : sender.getServer().getOnlinePlayers();
+
+            for (Player player : players) {
+                if (test(player, origin)) selected.add(player);
+            }
+        } else {
+            for (World world : sender.getServer().getWorlds()) {
+                if (origin != null && isPositional() && world != origin.getWorld()) continue;
+
+                for (Entity entity : world.getEntities()) {
+                    if (test(entity, origin)) selected.add(entity);
+                }
+            }
+        }
+
+        sort(selected, origin);
+
+        if (selected.size() > limit) {
+            selected = new ArrayList<>(selected.subList(0, limit));
+        }
+        return selected;
+    }
+
+    private boolean isBounded() {
+        return maxDistance != Double.POSITIVE_INFINITY || (dx != null && dz != null);
+    }
+
+    private void collectNear(CommandSender sender, Location origin, SpatialIndex index, List<Entity> selected) {
+        double minX, minZ, maxX, maxZ;
+
+        if (maxDistance != Double.POSITIVE_INFINITY) {
+            minX = origin.getX() - maxDistance;
+            minZ = origin.getZ() - maxDistance;
+            maxX = origin.getX() + maxDistance;
+            maxZ = origin.getZ() + maxDistance;
+        } else {
+            minX = Math.min(origin.getX(), origin.getX() + dx);
+            minZ = Math.min(origin.getZ(), origin.getZ() + dz);
+            maxX = Math.max(origin.getX(), origin.getX() + dx) + 1;
+            maxZ = Math.max(origin.getZ(), origin.getZ() + dz) + 1;
+        }
+
+        World world = origin.getWorld();
+
+        if (isPlayersOnly() && index.isStarted()) {
+            index.forEachNear(world, minX, minZ, maxX, maxZ, player -> {
+                if (test(player, origin)) selected.add(player);
+            });
+            return;
+        }
+
+        double halfX = (maxX - minX) / 2;
+        double halfZ = (maxZ - minZ) / 2;
+        double halfY = maxDistance != Double.POSITIVE_INFINITY ? maxDistance : world.getMaxHeight() - world.getMinHeight();
+        Location center = new Location(world, minX + halfX, origin.getY(), minZ + halfZ);
+
+        for (Entity entity : world.getNearbyEntities(center, halfX, halfY, halfZ)) {
+            if (test(entity, origin)) selected.add(entity);
+        }
+    }
+
+    private boolean test(Entity entity, Location origin) {
+        if (base != Base.ALL_ENTITIES && !(entity instanceof Player)) return false;
+
+        if (type != null && (entity.getType() == type) == negateType) return false;
+        if (name != null && entity.getName().equals(name) == negateName) return false;
+
+        if (origin == null) return true;
+
+        Location location = entity.getLocation();
+
+        if (maxDistance != Double.POSITIVE_INFINITY || minDistance > 0) {
+            if (location.getWorld() != origin.getWorld()) return false;
+
+            double distance = location.distanceSquared(origin);
+            if (distance > maxDistance * maxDistance || distance < minDistance * minDistance) return false;
+        }
+
+        if (dx != null || dy != null || dz != null) {
+            if (location.getWorld() != origin.getWorld()) return false;
+
+            return within(location.getX(), origin.getX(), dx)
+                    && within(location.getY(), origin.getY(), dy)
+                    && within(location.getZ(), origin.getZ(), dz);
+        }
+        return true;
+    }
+
+    private static boolean within(double value, double origin, Double delta) {
+        if (delta == null) return true;
+        return value >= Math.min(origin, origin + delta) && value <= Math.max(origin, origin + delta) + 1;
+    }
+
+    private void sort(List<Entity> selected, Location origin) {
+        switch (sort) {
+            case NEAREST -> selected.sort(Comparator.comparingDouble(entity -> entity.getLocation().distanceSquared(origin)));
+            case FURTHEST -> selected.sort(Comparator.comparingDouble(entity -> -entity.getLocation().distanceSquared(origin)));
+            case RANDOM -> Collections.shuffle(selected, ThreadLocalRandom.current());
+        }
+    }
+
+    private Location getOrigin(CommandSender sender) {
+        Location origin = null;
+
+        if (sender instanceof Entity entity) {
+            origin = entity.getLocation();
+        } else if (sender instanceof BlockCommandSender blockSender) {
+            origin = blockSender.getBlock().getLocation().add(0.5, 0, 0.5);
+        }
+
+        if (x == null && y == null && z == null) return origin;
+
+        World world = origin != null ? origin.getWorld() : sender.getServer().getWorlds().get(0);
+
+        return new Location(world,
+                x != null ? x : origin != null ? origin.getX() : 0,
+                y != null ? y : origin != null ? origin.getY() : 0,
+                z != null ? z : origin != null ? origin.getZ() : 0);
+    }
+}
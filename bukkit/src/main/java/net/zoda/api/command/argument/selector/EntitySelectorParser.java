@@ -0,0 +1,109 @@
+package net.zoda.api.command.argument.selector;
+
+import net.zoda.api.command.argument.Argument;
+import net.zoda.api.command.argument.parser.ArgumentParseException;
+import net.zoda.api.command.argument.parser.ArgumentParser;
+import net.zoda.api.command.argument.parser.ArgumentReader;
+import net.zoda.api.command.argument.parser.ParseContext;
+import net.zoda.api.command.argument.parser.Suggestions;
+import net.zoda.api.command.manager.CommandManager;
+import net.zoda.api.command.message.Messages;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Parses {@code @a}, {@code @p}, {@code @r}, {@code @e} and {@code @s} selectors into a list,
+ * a plain name selects that single online player. Completers supply single entities or players.
+ */
+public class EntitySelectorParser implements ArgumentParser<Object> {
+
+    public static final EntitySelectorParser ENTITIES = new EntitySelectorParser(false);
+    public static final EntitySelectorParser PLAYERS = new EntitySelectorParser(true);
+
+    private final boolean playersOnly;
+
+    private EntitySelectorParser(boolean playersOnly) {
+        this.playersOnly = playersOnly;
+    }
+
+    @Override
+    public Class<?> getType() {
+        return List.class;
+    }
+
+    @Override
+    public Class<?> getCompletionType() {
+        return playersOnly ? Player.class : Entity.class;
+    }
+
+    @Override
+    public Object parse(ParseContext context, Argument argument, ArgumentReader reader) throws ArgumentParseException {
+        String raw = reader.next();
+        CommandSender sender = context.getSender();
+
+        if (!SelectorParser.isSelector(raw)) {
+            Player player = sender.getServer().getPlayerExact(raw);
+
+            if (player == null) throw new ArgumentParseException(Messages.PLAYER_NOT_FOUND);
+            return List.of(player);
+        }
+
+        EntitySelector selector = SelectorParser.parse(raw);
+
+        if (playersOnly && !selector.isPlayersOnly()) {
+            throw new ArgumentParseException(Messages.PLAYERS_ONLY_SELECTOR);
+        }
+
+        List<Entity> selected = selector.select(sender, CommandManager.getInstance().getSpatialIndex());
+
+        if (selected.isEmpty()) {
+            throw new ArgumentParseException(playersOnly ? Messages.NO_PLAYER_FOUND : Messages.NO_ENTITY_FOUND);
+        }
+        return selected;
+    }
+
+    @Override
+    public String stringify(CommandSender sender, Object value) {
+        if (value instanceof Entity entity) return entity.getName();
+
+        List<String> names = new ArrayList<>();
+
+        for (Object element : (List<?>) value) {
+            names.add(((Entity) element).getName());
+        }
+        return String.join(",", names);
+    }
+
+    @Override
+    public void suggest(ParseContext context, Argument argument, Suggestions suggestions) {
+        String prefix = suggestions.getPrefix();
+        int bracket = prefix.indexOf('[');
+
+        if (bracket != -1 && !prefix.endsWith("]")) {
+            String head = prefix.substring(0, prefix.lastIndexOf(prefix.lastIndexOf(',') > bracket ? ',' : '[') + 1);
+
+            for (String key : SelectorParser.KEYS) {
+                suggestions.add(head + key);
+            }
+            return;
+        }
+
+        suggestions.add("@a");
+        suggestions.add("@p");
+        suggestions.add("@r");
+        suggestions.add("@s");
+        if (!playersOnly) suggestions.add("@e");
+
+        for (Player player : context.getSender().getServer().getOnlinePlayers()) {
+            suggestions.add(player.getName());
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package net.zoda.api.command.argument.selector;
+
+import net.zoda.api.command.argument.parser.ArgumentParseException;
+import net.zoda.api.command.message.Messages;
+import org.bukkit.entity.EntityType;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Compiles selector strings into {@link EntitySelector} plans, recently used plans are reused as-is.
+ */
+public final class SelectorParser {
+
+    private static final int CACHE_SIZE = 256;
+
+    private static final Map<String, EntitySelector> cache = new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, EntitySelector> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    public static final String[] KEYS = new String[]{"type=", "name=", "distance=", "r=", "rm=", "x=", "y=", "z=", "dx=", "dy=", "dz=", "limit=", "sort="};
+
+    private SelectorParser() {
+    }
+
+    public static boolean isSelector(String raw) {
+        return raw.length() >= 2 && raw.charAt(0) == '@';
+    }
+
+    public static EntitySelector parse(String raw) throws ArgumentParseException {
+        synchronized (cache) {
+            EntitySelector cached = cache.get(raw);
+            if (cached != null) return cached;
+        }
+
+        EntitySelector selector = compile(raw);
+
+        synchronized (cache) {
+            cache.put(raw, selector);
+        }
+        return selector;
+    }
+
+    private static EntitySelector compile(String raw) throws ArgumentParseException {
+        if (!isSelector(raw)) throw new ArgumentParseException(Messages.INVALID_SELECTOR, raw);
+
+        EntitySelector.Base base = switch (raw.charAt(1)) {
+            case 'a' -> EntitySelector.Base.ALL_PLAYERS;
+            case 'p' -> EntitySelector.Base.NEAREST_PLAYER;
+            case 'r' -> EntitySelector.Base.RANDOM_PLAYER;
+            case 'e' -> EntitySelector.Base.ALL_ENTITIES;
+            case 's' -> EntitySelector.Base.SELF;
+            default -> throw new ArgumentParseException(Messages.UNKNOWN_SELECTOR_TYPE, raw.substring(0, 2));
+        };
+
+        EntitySelector selector = new EntitySelector(base);
+
+        if (raw.length() == 2) return selector;
+
+        if (raw.charAt(2) != '[' || raw.charAt(raw.length() - 1) != ']') {
+            throw new ArgumentParseException(Messages.INVALID_SELECTOR, raw);
+        }
+
+        String body = raw.substring(3, raw.length() - 1);
+        if (body.isEmpty()) return selector;
+
+        for (String option : body.split(",")) {
+            int separator = option.indexOf('=');
+
+            if (separator <= 0) {
+                throw new ArgumentParseException(Messages.INVALID_SELECTOR_OPTION_FORMAT, option);
+            }
+
+            String key = option.substring(0, separator).trim().toLowerCase(Locale.ROOT);
+            String value = option.substring(separator + 1).trim();
+
+            switch (key) {
+                case "type" -> {
+                    selector.negateType = value.startsWith("!");
+                    String typeName = (selector.negateType ? value.substring(1) : value).replaceFirst("^minecraft:", "");
+
+                    try {
+                        selector.type = EntityType.valueOf(typeName.toUpperCase(Locale.ROOT));
+                    } catch (IllegalArgumentException e) {
+                        throw new ArgumentParseException(Messages.UNKNOWN_ENTITY_TYPE, typeName);
+                    }
+                }
+                case "name" -> {
+                    selector.negateName = value.startsWith("!");
+                    selector.name = selector.negateName ? value.substring(1) : value;
+                }
+                case "x" -> selector.x = parseDouble(key, value);
+                case "y" -> selector.y = parseDouble(key, value);
+                case "z" -> selector.z = parseDouble(key, value);
+                case "dx" -> selector.dx = parseDouble(key, value);
+                case "dy" -> selector.dy = parseDouble(key, value);
+                case "dz" -> selector.dz = parseDouble(key, value);
+                case "r" -> selector.maxDistance = parseDouble(key, value);
+                case "rm" -> selector.minDistance = parseDouble(key, value);
+                case "distance" -> {
+                    int range = value.indexOf("..");
+
+                    if (range == -1) {
+                        selector.minDistance = selector.maxDistance = parseDouble(key, value);
+                    } else {
+                        String min = value.substring(0, range);
+                        String max = value.substring(range + 2);
+
+                        if (!min.isEmpty()) selector.minDistance = parseDouble(key, min);
+                        if (!max.isEmpty()) selector.maxDistance = parseDouble(key, max);
+                    }
+                }
+                case "limit", "c" -> {
+                    try {
+                        selector.limit = Integer.parseInt(value);
+                    } catch (NumberFormatException e) {
+                        throw new ArgumentParseException(Messages.INVALID_SELECTOR_LIMIT, value);
+                    }
+
+                    if (selector.limit <= 0) throw new ArgumentParseException(Messages.NON_POSITIVE_SELECTOR_LIMIT);
+                }
+                case "sort" -> {
+                    try {
+                        selector.sort = EntitySelector.Sort.valueOf(value.toUpperCase(Locale.ROOT));
+                    } catch (IllegalArgumentException e) {
+                        throw new ArgumentParseException(Messages.UNKNOWN_SELECTOR_SORT, value);
+                    }
+                }
+                default -> throw new ArgumentParseException(Messages.UNKNOWN_SELECTOR_OPTION, key);
+            }
+        }
+
+        if (selector.minDistance < 0 || selector.maxDistance < selector.minDistance) {
+            throw new ArgumentParseException(Messages.INVALID_SELECTOR_DISTANCE);
+        }
+
+        return selector;
+    }
+
+    private static double parseDouble(String key, String value) throws ArgumentParseException {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new ArgumentParseException(Messages.INVALID_SELECTOR_OPTION_VALUE, key, value);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package net.zoda.api.command.argument.selector;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.event.vehicle.VehicleMoveEvent;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.spigotmc.event.entity.EntityDismountEvent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Buckets online players by world and chunk so radius and box selectors only visit the chunks they overlap.
+ * Buckets are only moved when a player crosses a chunk border. Players riding a vehicle get no move events of their
+ * own, they follow the vehicle's moves instead.
+ * Non-player entities are looked up through {@link World#getNearbyEntities}, which the server already
+ * answers from its own chunk sections.
+ */
+public class SpatialIndex implements Listener {
+
+    private final Map<UUID, Map<Long, List<Player>>> worlds = new HashMap<>();
+    private final Map<UUID, Long> positions = new HashMap<>();
+    private final Map<UUID, UUID> playerWorlds = new HashMap<>();
+
+    private boolean started;
+
+    public boolean isStarted() {
+        return started;
+    }
+
+    public void start(JavaPlugin plugin) {
+        if (started) return;
+        started = true;
+
+        plugin.getServer().getPluginManager().registerEvents(this, plugin);
+
+        for (Player player : plugin.getServer().getOnlinePlayers()) {
+            update(player, player.getLocation());
+        }
+    }
+
+    /**
+     * Visits every indexed player standing in a chunk overlapping the box around the center,
+     * callers still have to check the exact position
+     */
+    public void forEachNear(World world, double minX, double minZ, double maxX, double maxZ, Consumer<Player> consumer) {
+        Map<Long, List<Player>> buckets = worlds.get(world.getUID());
+        if (buckets == null) return;
+
+        int minChunkX = ((int) Math.floor(minX)) >> 4;
+        int minChunkZ = ((int) Math.floor(minZ)) >> 4;
+        int maxChunkX = ((int) Math.floor(maxX)) >> 4;
+        int maxChunkZ = ((int) Math.floor(maxZ)) >> 4;
+
+        long chunks = (long) (maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1);
+
+        if (chunks > buckets.size()) {
+            for (List<Player> bucket : buckets.values()) {
+                bucket.forEach(consumer);
+            }
+            return;
+        }
+
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                List<Player> bucket = buckets.get(key(chunkX, chunkZ));
+                if (bucket != null) bucket.forEach(consumer);
+            }
+        }
+    }
+
+    private void update(Player player, Location location) {
+        if (location == null || location.getWorld() == null) return;
+
+        UUID worldId = location.getWorld().getUID();
+        long key = key(location.getBlockX() >> 4, location.getBlockZ() >> 4);
+
+        Long previous = positions.get(player.getUniqueId());
+        if (previous != null && previous == key && worldId.equals(playerWorlds.get(player.getUniqueId()))) return;
+
+        remove(player);
+
+        worlds.computeIfAbsent(worldId, id -> new HashMap<>()).computeIfAbsent(key, k -> new ArrayList<>(2)).add(player);
+        positions.put(player.getUniqueId(), key);
+        playerWorlds.put(player.getUniqueId(), worldId);
+    }
+
+    private void remove(Player player) {
+        Long previous = positions.remove(player.getUniqueId());
+        UUID worldId = playerWorlds.remove(player.getUniqueId());
+        if (previous == null || worldId == null) return;
+
+        Map<Long, List<Player>> buckets = worlds.get(worldId);
+        if (buckets == null) return;
+
+        List<Player> bucket = buckets.get(previous);
+        if (bucket == null) return;
+
+        bucket.removeIf(other -> other.getUniqueId().equals(player.getUniqueId()));
+        if (bucket.isEmpty()) buckets.remove(previous);
+    }
+
+    private static long key(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        update(event.getPlayer(), event.getPlayer().getLocation());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        remove(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onMove(PlayerMoveEvent event) {
+        // compared against the indexed chunk rather than the move's origin, which is stale after riding a vehicle
+        update(event.getPlayer(), event.getTo());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onVehicleMove(VehicleMoveEvent event) {
+        for (Entity passenger : event.getVehicle().getPassengers()) {
+            if (passenger instanceof Player player) update(player, event.getTo());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onDismount(EntityDismountEvent event) {
+        if (event.getEntity() instanceof Player player) update(player, player.getLocation());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onTeleport(PlayerTeleportEvent event) {
+        update(event.getPlayer(), event.getTo());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onRespawn(PlayerRespawnEvent event) {
+        update(event.getPlayer(), event.getRespawnLocation());
+    }
+}
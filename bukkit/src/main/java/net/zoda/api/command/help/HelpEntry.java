@@ -0,0 +1,76 @@
+package net.zoda.api.command.help;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.zoda.api.command.argument.Argument;
+import net.zoda.api.command.argument.OptionTable;
+import net.zoda.api.command.message.MessageCatalog;
+import net.zoda.api.command.message.Messages;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * One line of a command's help, clicking it suggests the command up to its first argument
+ */
+@RequiredArgsConstructor
+public class HelpEntry {
+
+    /**
+     * Command line as typed, without arguments, e.g. {@code "/punish ban"}
+     */
+    @Getter
+    private final String line;
+    @Getter
+    private final Argument[] arguments;
+    @Getter
+    private final String description;
+    /**
+     * Command line the entry is a shortcut for, null if it isn't a shortcut
+     */
+    @Getter
+    private final String shortcutFor;
+    /**
+     * All of them are required to see the entry
+     */
+    @Getter
+    private final String[] permissions;
+
+    public String getUsage() {
+        StringBuilder builder = new StringBuilder(line);
+
+        for (Argument argument : arguments) {
+            if (argument.option()) {
+                builder.append(" [--").append(argument.name());
+                if (!OptionTable.isFlag(argument)) builder.append(" <").append(argument.name()).append('>');
+                builder.append(']');
+                continue;
+            }
+
+            builder.append(' ').append(argument.required() ? '<' : '[').append(argument.name())
+                    .append(argument.variadic() ? "..." : "").append(argument.required() ? '>' : ']');
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * @param locale locale the entry's own texts are rendered in
+     */
+    public Component render(MessageCatalog messages, String locale) {
+        Component component = Component.text(getUsage()).color(NamedTextColor.YELLOW)
+                .clickEvent(ClickEvent.suggestCommand(arguments.length == 0 ? line : line + " "))
+                .hoverEvent(HoverEvent.showText(messages.render(locale, Messages.HELP_CLICK_TO_USE)));
+
+        Component text = shortcutFor != null ? messages.render(locale, Messages.HELP_SHORTCUT, shortcutFor)
+                : description.isEmpty() ? null : Component.text(description);
+
+        if (text == null) return component;
+        return component.append(Component.text(" - ").append(text).color(NamedTextColor.GRAY));
+    }
+}
@@ -0,0 +1,245 @@
+package net.zoda.api.command.help;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.zoda.api.command.Command;
+import net.zoda.api.command.CommandShortcut;
+import net.zoda.api.command.argument.Argument;
+import net.zoda.api.command.manager.containers.ResolvedCommand;
+import net.zoda.api.command.manager.containers.SubcommandsContainer;
+import net.zoda.api.command.message.MessageCatalog;
+import net.zoda.api.command.message.Messages;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Help generated from the resolved commands: the default run, every subcommand and every shortcut.
+ * Pages are rendered once per locale and permission fingerprint, the set of the command's permissions a sender
+ * holds, so senders that see the same entries in the same language share the same components and a permission
+ * change simply selects another fingerprint. A command's pages are dropped when it is registered again.
+ */
+public class HelpPages {
+
+    public static final int PAGE_SIZE = 8;
+
+    /**
+     * Locale and fingerprint pairs rendered per command before its pages are rendered afresh
+     */
+    private static final int MAX_FINGERPRINTS = 64;
+
+    private final Function<String, ResolvedCommand> commands;
+    private final MessageCatalog messages;
+    private final Map<String, Index> indexes = new ConcurrentHashMap<>();
+
+    /**
+     * @param commands resolves a label to its registered command
+     */
+    public HelpPages(Function<String, ResolvedCommand> commands, MessageCatalog messages) {
+        this.commands = commands;
+        this.messages = messages;
+    }
+
+    /**
+     * Sends a page of the command's help, pages start at 1
+     */
+    public void send(CommandSender sender, String label, int page) {
+        List<Component> pages = getPages(sender, label);
+
+        if (pages == null) {
+            messages.send(sender, Messages.UNKNOWN_COMMAND, label);
+            return;
+        }
+
+        if (pages.isEmpty()) {
+            messages.send(sender, Messages.NO_PERMISSION);
+            return;
+        }
+
+        if (page < 1 || page > pages.size()) {
+            messages.send(sender, Messages.UNKNOWN_HELP_PAGE, page, pages.size());
+            return;
+        }
+
+        sender.sendMessage(pages.get(page - 1));
+    }
+
+    /**
+     * @return the pages the sender may see, empty if none of the entries is visible to them or null if the
+     * label isn't a registered command
+     */
+    public List<Component> getPages(CommandSender sender, String label) {
+        ResolvedCommand command = commands.apply(label);
+        if (command == null) return null;
+
+        Index index = indexes.compute(command.getBase().name().toLowerCase(),
+                (key, current) -> current != null && current.command == command ? current : new Index(command));
+
+        return index.render(messages, sender);
+    }
+
+    public void invalidate(String name) {
+        indexes.remove(name.toLowerCase());
+    }
+
+    public void invalidateAll() {
+        indexes.clear();
+    }
+
+    /**
+     * @return the help entries of the command, the default run first then subcommands and shortcuts by name
+     */
+    public static List<HelpEntry> getEntries(ResolvedCommand command) {
+        Command base = command.getBase();
+        List<HelpEntry> entries = new ArrayList<>();
+
+        String defaultLine = "/" + base.name();
+        entries.add(base.usage().isEmpty()
+                ? new HelpEntry(defaultLine, command.getOrderedDefaultRunArguments(), base.description(), null, base.permissions())
+                : new HelpEntry(base.usage().startsWith("/") ? base.usage() : "/" + base.usage(), new Argument[0], base.description(), null, base.permissions()));
+
+        Map<String, SubcommandsContainer.ResolvedSubcommand> subcommands = command.getSubcommandsContainer().getSubcommandMap();
+
+        subcommands.entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(entry -> entries.add(new HelpEntry(
+                defaultLine + " " + entry.getKey(),
+                entry.getValue().getOrderedArguments(),
+                entry.getValue().getSubcommand().description(),
+                null,
+                permissions(base, entry.getValue()))));
+
+        Arrays.stream(command.getCommand().getClass().getDeclaredFields())
+                .filter(field -> field.isAnnotationPresent(CommandShortcut.class))
+                .sorted(Comparator.comparing(field -> field.getAnnotation(CommandShortcut.class).shortcutName()))
+                .forEach(field -> {
+                    CommandShortcut shortcut = field.getAnnotation(CommandShortcut.class);
+                    boolean toDefault = shortcut.value().equalsIgnoreCase("default");
+                    SubcommandsContainer.ResolvedSubcommand target = toDefault ? null : subcommands.get(shortcut.value());
+                    if (!toDefault && target == null) return;
+
+                    Argument[] arguments = toDefault ? command.getOrderedDefaultRunArguments() : target.getOrderedArguments();
+
+                    entries.add(new HelpEntry("/" + shortcut.shortcutName(),
+                            remaining(command, field, arguments),
+                            "",
+                            toDefault ? defaultLine : defaultLine + " " + shortcut.value(),
+                            toDefault ? base.permissions() : permissions(base, target)));
+                });
+
+        return entries;
+    }
+
+    private static String[] permissions(Command base, SubcommandsContainer.ResolvedSubcommand subcommand) {
+        if (!(subcommand instanceof SubcommandsContainer.GroupedResolvedSubcommand grouped)) return base.permissions();
+
+        return Stream.concat(Arrays.stream(base.permissions()), Arrays.stream(grouped.getGroup().getPermissions())).toArray(String[]::new);
+    }
+
+    /**
+     * @return the arguments the shortcut's map leaves to the sender
+     */
+    @SuppressWarnings("unchecked")
+    private static Argument[] remaining(ResolvedCommand command, Field field, Argument[] arguments) {
+        try {
+            field.setAccessible(true);
+            Map<String, Object> bound = (Map<String, Object>) field.get(command.getCommand());
+
+            return Arrays.stream(arguments).filter(argument -> !bound.containsKey(argument.name())).toArray(Argument[]::new);
+        } catch (ReflectiveOperationException | ClassCastException | NullPointerException e) {
+            return arguments;
+        }
+    }
+
+    private static class Index {
+
+        private final ResolvedCommand command;
+        private final List<HelpEntry> entries;
+        /**
+         * Distinct permissions of the entries, bit {@code i + 1} of a fingerprint is set if the sender holds
+         * permission {@code i}, bit 0 if the sender is a player
+         */
+        private final List<String> permissions;
+        private final Map<RenderKey, List<Component>> rendered = new ConcurrentHashMap<>();
+
+        private Index(ResolvedCommand command) {
+            this.command = command;
+            this.entries = getEntries(command);
+
+            Set<String> permissions = new LinkedHashSet<>();
+            entries.forEach(entry -> permissions.addAll(List.of(entry.getPermissions())));
+            this.permissions = List.copyOf(permissions);
+        }
+
+        private List<Component> render(MessageCatalog messages, CommandSender sender) {
+            BitSet fingerprint = new BitSet(permissions.size() + 1);
+            if (sender instanceof Player) fingerprint.set(0);
+
+            for (int i = 0; i < permissions.size(); i++) {
+                if (sender.hasPermission(permissions.get(i))) fingerprint.set(i + 1);
+            }
+
+            RenderKey key = new RenderKey(messages.localeOf(sender), fingerprint);
+            List<Component> pages = rendered.get(key);
+            if (pages != null) return pages;
+
+            if (rendered.size() >= MAX_FINGERPRINTS) rendered.clear();
+            return rendered.computeIfAbsent(key, k -> render(messages, k.locale(), k.fingerprint()));
+        }
+
+        private List<Component> render(MessageCatalog messages, String locale, BitSet fingerprint) {
+            Command base = command.getBase();
+            if (base.playerOnly() && !fingerprint.get(0)) return List.of();
+
+            List<HelpEntry> visible = entries.stream()
+                    .filter(entry -> Arrays.stream(entry.getPermissions()).allMatch(permission -> fingerprint.get(permissions.indexOf(permission) + 1)))
+                    .toList();
+
+            if (visible.isEmpty()) return List.of();
+
+            int count = (visible.size() + PAGE_SIZE - 1) / PAGE_SIZE;
+            List<Component> pages = new ArrayList<>(count);
+
+            for (int page = 0; page < count; page++) {
+                Component component = messages.render(locale, Messages.HELP_HEADER, base.name(), page + 1, count);
+
+                for (HelpEntry entry : visible.subList(page * PAGE_SIZE, Math.min(visible.size(), (page + 1) * PAGE_SIZE))) {
+                    component = component.append(Component.newline()).append(entry.render(messages, locale));
+                }
+
+                if (base.help() && count > 1) component = component.append(Component.newline()).append(navigation(messages, locale, base, page, count));
+                pages.add(component);
+            }
+
+            return List.copyOf(pages);
+        }
+
+        private static Component navigation(MessageCatalog messages, String locale, Command base, int page, int count) {
+            Component previous = messages.render(locale, Messages.HELP_PREVIOUS).color(page == 0 ? NamedTextColor.DARK_GRAY : NamedTextColor.AQUA);
+            Component next = messages.render(locale, Messages.HELP_NEXT).color(page == count - 1 ? NamedTextColor.DARK_GRAY : NamedTextColor.AQUA);
+
+            if (page != 0) previous = previous.clickEvent(ClickEvent.runCommand("/" + base.name() + " help " + page));
+            if (page != count - 1) next = next.clickEvent(ClickEvent.runCommand("/" + base.name() + " help " + (page + 2)));
+
+            return previous.append(Component.text(" | ").color(NamedTextColor.GRAY)).append(next);
+        }
+    }
+
+    private record RenderKey(String locale, BitSet fingerprint) {
+    }
+}
@@ -0,0 +1,39 @@
+package net.zoda.api.command.interceptor;
+
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Runs around the invocation of command methods, in the execution context the method runs in.
+ * An interceptor not calling {@code next} keeps the method and the interceptors after it from running.
+ */
+@FunctionalInterface
+public interface CommandInterceptor {
+
+    Object intercept(Invocation invocation, InvocationTarget next) throws Exception;
+
+    /**
+     * @return an interceptor running the action before the method
+     */
+    static CommandInterceptor before(Consumer<Invocation> action) {
+        return (invocation, next) -> {
+            action.accept(invocation);
+            return next.invoke(invocation);
+        };
+    }
+
+    /**
+     * @return an interceptor running the action with the method's result once it returned normally
+     */
+    static CommandInterceptor after(BiConsumer<Invocation, Object> action) {
+        return (invocation, next) -> {
+            Object result = next.invoke(invocation);
+            action.accept(invocation, result);
+            return result;
+        };
+    }
+}
@@ -0,0 +1,144 @@
+package net.zoda.api.command.interceptor;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Interceptors registered globally, for a command or for a subcommand, composed into one {@link InvocationTarget}
+ * per command node whenever the node is registered or the interceptors change. Nodes without interceptors have
+ * no chain at all, so invocations only pay for the interceptors that apply to them.
+ * <p>
+ * Chains run the global interceptors first, then the command's, then the subcommand's, each in registration order.
+ */
+public class InterceptorRegistry {
+
+    private final InvocationTarget terminal;
+
+    private final List<Registration> registrations = new ArrayList<>();
+    private final Map<Method, String> nodes = new HashMap<>();
+
+    private volatile Map<Method, Chain> chains = Map.of();
+
+    /**
+     * @param terminal runs the command method at the end of every chain
+     */
+    public InterceptorRegistry(InvocationTarget terminal) {
+        this.terminal = terminal;
+    }
+
+    /**
+     * @return the compiled chain of the node's method, null if no interceptor applies to it
+     */
+    public Chain get(Method method) {
+        return chains.get(method);
+    }
+
+    /**
+     * @param path the command's name followed by the subcommand's if any
+     */
+    public synchronized void registerNode(Method method, String path) {
+        nodes.put(method, path.toLowerCase());
+
+        Chain chain = compile(path.toLowerCase());
+        if (chain == null && !chains.containsKey(method)) return;
+
+        Map<Method, Chain> compiled = new HashMap<>(chains);
+
+        if (chain == null) {
+            compiled.remove(method);
+        } else {
+            compiled.put(method, chain);
+        }
+
+        chains = Map.copyOf(compiled);
+    }
+
+    /**
+     * @param path a command name, a command name followed by a subcommand, or an empty string for every command
+     */
+    public synchronized void add(String path, CommandInterceptor interceptor) {
+        registrations.add(new Registration(path.toLowerCase().trim(), interceptor));
+        compile();
+    }
+
+    public synchronized boolean remove(CommandInterceptor interceptor) {
+        if (!registrations.removeIf(registration -> registration.interceptor == interceptor)) return false;
+
+        compile();
+        return true;
+    }
+
+    private void compile() {
+        Map<Method, Chain> compiled = new HashMap<>();
+
+        nodes.forEach((method, path) -> {
+            Chain chain = compile(path);
+            if (chain != null) compiled.put(method, chain);
+        });
+
+        chains = Map.copyOf(compiled);
+    }
+
+    private Chain compile(String path) {
+        List<Registration> applying = new ArrayList<>();
+
+        for (Registration registration : registrations) {
+            if (registration.appliesTo(path)) applying.add(registration);
+        }
+
+        if (applying.isEmpty()) return null;
+
+        // shorter paths are broader, so they wrap the narrower ones, the sort keeps registration order otherwise
+        applying.sort(Comparator.comparingInt(Registration::depth));
+
+        InvocationTarget target = terminal;
+
+        for (int i = applying.size() - 1; i >= 0; i--) {
+            CommandInterceptor interceptor = applying.get(i).interceptor;
+            InvocationTarget next = target;
+            target = invocation -> interceptor.intercept(invocation, next);
+        }
+
+        return new Chain(path, target);
+    }
+
+    /**
+     * The interceptors applying to a node composed into a single target
+     */
+    @RequiredArgsConstructor
+    public static final class Chain {
+        @Getter
+        private final String path;
+        @Getter
+        private final InvocationTarget target;
+    }
+
+    private static final class Registration {
+        private final String path;
+        private final CommandInterceptor interceptor;
+
+        private Registration(String path, CommandInterceptor interceptor) {
+            this.path = path;
+            this.interceptor = interceptor;
+        }
+
+        private int depth() {
+            return path.isEmpty() ? 0 : path.split(" ").length;
+        }
+
+        private boolean appliesTo(String node) {
+            return path.isEmpty() || node.equals(path) || node.startsWith(path + " ");
+        }
+    }
+}
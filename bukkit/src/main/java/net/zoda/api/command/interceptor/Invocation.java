@@ -0,0 +1,51 @@
+package net.zoda.api.command.interceptor;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import net.zoda.api.command.ACommand;
+import net.zoda.api.command.argument.Argument;
+import org.bukkit.command.CommandSender;
+
+import java.lang.reflect.Method;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * A command method about to run, handed through the {@link CommandInterceptor}s of its node
+ */
+@RequiredArgsConstructor
+public class Invocation {
+
+    @Getter
+    private final CommandSender sender;
+    @Getter
+    private final ACommand command;
+
+    /**
+     * The command's name followed by the subcommand's, such as {@code "warp set"}
+     */
+    @Getter
+    private final String path;
+    @Getter
+    private final Method method;
+    @Getter
+    private final Argument[] arguments;
+
+    /**
+     * The sender followed by the parsed value of each argument, in the method's parameter order
+     */
+    @Getter
+    private final Object[] values;
+
+    /**
+     * @return the parsed value of the argument, null if it wasn't given or doesn't exist
+     */
+    public Object getValue(String argument) {
+        for (int i = 0; i < arguments.length; i++) {
+            if (arguments[i].name().equals(argument)) return values[i + 1];
+        }
+        return null;
+    }
+}
@@ -0,0 +1,17 @@
+package net.zoda.api.command.interceptor;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * The rest of an interceptor chain, ending with the command method itself
+ */
+@FunctionalInterface
+public interface InvocationTarget {
+
+    /**
+     * @return what the command method returned
+     */
+    Object invoke(Invocation invocation) throws Exception;
+}
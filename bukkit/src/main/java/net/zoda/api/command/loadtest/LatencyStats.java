@@ -0,0 +1,72 @@
+package net.zoda.api.command.loadtest;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Latency samples and allocated bytes of one kind of request
+ */
+public class LatencyStats {
+
+    private long[] samples = new long[1024];
+    @Getter
+    private int count;
+    @Getter
+    private int errors;
+    /**
+     * Bytes allocated by the dispatching thread while handling the requests, -1 if the JVM can't tell
+     */
+    @Getter
+    private long allocatedBytes;
+    private long[] sorted;
+
+    void record(long nanos, long bytes) {
+        if (count == samples.length) samples = Arrays.copyOf(samples, count * 2);
+        samples[count++] = nanos;
+
+        if (bytes < 0 || allocatedBytes < 0) {
+            allocatedBytes = -1;
+        } else {
+            allocatedBytes += bytes;
+        }
+        sorted = null;
+    }
+
+    void error() {
+        errors++;
+    }
+
+    /**
+     * @param percentile between 0 and 100
+     */
+    public long getPercentileNanos(double percentile) {
+        if (count == 0) return 0;
+
+        if (sorted == null) {
+            sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+        }
+
+        int index = (int) Math.ceil(percentile / 100 * count) - 1;
+        return sorted[Math.max(0, Math.min(count - 1, index))];
+    }
+
+    public long getAllocatedBytesPerRequest() {
+        if (count == 0 || allocatedBytes < 0) return allocatedBytes;
+        return allocatedBytes / count;
+    }
+
+    public String format(String name, long wallNanos) {
+        double seconds = wallNanos / 1e9;
+
+        return String.format("%s: %d requests (%d errors), %.1f/s, p50 %.3fms p90 %.3fms p99 %.3fms max %.3fms, %s",
+                name, count, errors, seconds == 0 ? 0 : count / seconds,
+                getPercentileNanos(50) / 1e6, getPercentileNanos(90) / 1e6, getPercentileNanos(99) / 1e6, getPercentileNanos(100) / 1e6,
+                allocatedBytes < 0 ? "allocation unavailable" : getAllocatedBytesPerRequest() + " B/request");
+    }
+}
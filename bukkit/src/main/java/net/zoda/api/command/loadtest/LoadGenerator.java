@@ -0,0 +1,136 @@
+package net.zoda.api.command.loadtest;
+
+import lombok.Getter;
+import net.zoda.api.command.manager.CommandManager;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandSender;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitRunnable;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Replays a trace against registered commands through {@link StandInSenders}, measuring executions and tab
+ * completions separately. Commands deferred by an enabled {@link net.zoda.api.command.admission.AdmissionController}
+ * are only measured up to their admission. The default resolver also works while the manager is
+ * {@link CommandManager#isDetached() detached}, so a trace can be replayed without a server.
+ */
+public class LoadGenerator {
+
+    private final Function<String, Command> resolver;
+    @Getter
+    private final StandInSenders senders = new StandInSenders();
+    private final com.sun.management.ThreadMXBean threadBean;
+
+    public LoadGenerator() {
+        this(label -> CommandManager.getInstance().getBukkitCommand(label));
+    }
+
+    /**
+     * @param resolver finds the command registered under a label, null if there's none
+     */
+    public LoadGenerator(Function<String, Command> resolver) {
+        this.resolver = resolver;
+
+        com.sun.management.ThreadMXBean bean = null;
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean sunBean && sunBean.isThreadAllocatedMemorySupported()) {
+            if (!sunBean.isThreadAllocatedMemoryEnabled()) sunBean.setThreadAllocatedMemoryEnabled(true);
+            bean = sunBean;
+        }
+        this.threadBean = bean;
+    }
+
+    /**
+     * Dispatches the whole trace in the calling thread as fast as possible, ignoring its timestamps
+     */
+    public LoadReport replay(List<TraceEntry> trace) {
+        LatencyStats execution = new LatencyStats();
+        LatencyStats completion = new LatencyStats();
+        long messages = senders.getMessages();
+
+        long start = System.nanoTime();
+        for (TraceEntry entry : trace) {
+            dispatch(entry, execution, completion);
+        }
+
+        return new LoadReport(execution, completion, System.nanoTime() - start, senders.getMessages() - messages);
+    }
+
+    /**
+     * Dispatches the trace on the main thread following its timestamps
+     *
+     * @param speed how much faster than recorded the trace plays
+     */
+    public void replay(JavaPlugin plugin, List<TraceEntry> trace, double speed, Consumer<LoadReport> callback) {
+        if (trace.isEmpty()) {
+            callback.accept(new LoadReport(new LatencyStats(), new LatencyStats(), 0, 0));
+            return;
+        }
+
+        LatencyStats execution = new LatencyStats();
+        LatencyStats completion = new LatencyStats();
+        long messages = senders.getMessages();
+        long first = trace.get(0).getTimestamp();
+
+        new BukkitRunnable() {
+            private final long start = System.nanoTime();
+            private int next;
+
+            @Override
+            public void run() {
+                long elapsedMillis = (long) ((System.nanoTime() - start) / 1e6 * speed);
+
+                while (next < trace.size() && trace.get(next).getTimestamp() - first <= elapsedMillis) {
+                    dispatch(trace.get(next++), execution, completion);
+                }
+
+                if (next < trace.size()) return;
+
+                cancel();
+                callback.accept(new LoadReport(execution, completion, System.nanoTime() - start, senders.getMessages() - messages));
+            }
+        }.runTaskTimer(plugin, 1, 1);
+    }
+
+    private void dispatch(TraceEntry entry, LatencyStats execution, LatencyStats completion) {
+        LatencyStats stats = entry.isTabRequest() ? completion : execution;
+        String[] split = entry.isTabRequest() ? entry.getCommandLine().split(" ", -1) : entry.getCommandLine().split(" ");
+
+        Command command = resolver.apply(split[0]);
+        if (command == null) {
+            stats.error();
+            return;
+        }
+
+        CommandSender sender = senders.get(entry.getSender());
+        String[] args = Arrays.copyOfRange(split, 1, split.length);
+
+        long bytes = allocatedBytes();
+        long start = System.nanoTime();
+
+        try {
+            if (entry.isTabRequest()) {
+                command.tabComplete(sender, split[0], args);
+            } else {
+                command.execute(sender, split[0], args);
+            }
+        } catch (Exception e) {
+            stats.error();
+        }
+
+        long nanos = System.nanoTime() - start;
+        stats.record(nanos, bytes < 0 ? -1 : allocatedBytes() - bytes);
+    }
+
+    private long allocatedBytes() {
+        return threadBean == null ? -1 : threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
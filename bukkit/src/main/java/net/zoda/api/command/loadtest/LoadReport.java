@@ -0,0 +1,32 @@
+package net.zoda.api.command.loadtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ */
+@RequiredArgsConstructor
+public class LoadReport {
+
+    @Getter
+    private final LatencyStats execution;
+    @Getter
+    private final LatencyStats completion;
+    @Getter
+    private final long wallNanos;
+    /**
+     * Messages the commands sent to the stand-in senders
+     */
+    @Getter
+    private final long messages;
+
+    @Override
+    public String toString() {
+        return execution.format("execute", wallNanos) + System.lineSeparator()
+                + completion.format("complete", wallNanos) + System.lineSeparator()
+                + String.format("wall: %.3fs, messages: %d", wallNanos / 1e9, messages);
+    }
+}
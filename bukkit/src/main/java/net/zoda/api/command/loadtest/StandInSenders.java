@@ -0,0 +1,156 @@
+package net.zoda.api.command.loadtest;
+
+import org.bukkit.Location;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Senders that exist only for load tests. They hold every permission and swallow their messages.
+ * They live on a stub server with a single world, which knows the stand-in players as its online players.
+ * Every stand-in player stands at the world's spawn. Nothing needs a running server.
+ * Any other call returns the type's default value, or an empty collection.
+ */
+public class StandInSenders {
+
+    public static final String WORLD_NAME = "world";
+    private static final UUID WORLD_ID = UUID.nameUUIDFromBytes(WORLD_NAME.getBytes(StandardCharsets.UTF_8));
+
+    private final Map<String, CommandSender> senders = new ConcurrentHashMap<>();
+    private final AtomicLong messages = new AtomicLong();
+
+    private final World world = createWorld();
+    private final Server server = createServer();
+
+    public CommandSender get(String name) {
+        return senders.computeIfAbsent(name, key -> key.equalsIgnoreCase("console")
+                ? create(CommandSender.class, key, null)
+                : create(Player.class, key, UUID.nameUUIDFromBytes(("OfflinePlayer:" + key).getBytes(StandardCharsets.UTF_8))));
+    }
+
+    /**
+     * @return how many messages were sent to the stand-ins
+     */
+    public long getMessages() {
+        return messages.get();
+    }
+
+    public Server getServer() {
+        return server;
+    }
+
+    public World getWorld() {
+        return world;
+    }
+
+    /**
+     * @return where stand-in players stand, a new instance on every call like a real player's location
+     */
+    public Location getSpawn() {
+        return new Location(world, 0.5, 64, 0.5, 0, 0);
+    }
+
+    private List<Player> getPlayers() {
+        return senders.values().stream().filter(Player.class::isInstance).map(Player.class::cast).toList();
+    }
+
+    private Player findPlayer(String name) {
+        for (Player player : getPlayers()) {
+            if (player.getName().equalsIgnoreCase(name)) return player;
+        }
+        return null;
+    }
+
+    private Player findPlayer(UUID uuid) {
+        for (Player player : getPlayers()) {
+            if (player.getUniqueId().equals(uuid)) return player;
+        }
+        return null;
+    }
+
+    private CommandSender create(Class<? extends CommandSender> type, String name, UUID uuid) {
+        return (CommandSender) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> switch (method.getName()) {
+            case "getName", "getDisplayName", "getPlayerListName" -> name;
+            case "getUniqueId" -> uuid;
+            case "hasPermission", "isPermissionSet", "isOp", "isOnline" -> true;
+            case "getServer" -> server;
+            case "getWorld" -> world;
+            case "getLocation" -> getSpawn();
+            case "getEyeLocation" -> getSpawn().add(0, 1.62, 0);
+            case "sendMessage", "sendActionBar", "sendRawMessage" -> {
+                messages.incrementAndGet();
+                yield null;
+            }
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "toString" -> "StandIn{" + name + "}";
+            default -> defaultValue(method);
+        });
+    }
+
+    private Server createServer() {
+        return (Server) Proxy.newProxyInstance(Server.class.getClassLoader(), new Class<?>[]{Server.class}, (proxy, method, args) -> switch (method.getName()) {
+            case "getName" -> "StandIn";
+            case "getOnlinePlayers" -> getPlayers();
+            case "getPlayer", "getPlayerExact", "getOfflinePlayer", "getOfflinePlayerIfCached" ->
+                    args[0] instanceof UUID uuid ? findPlayer(uuid) : findPlayer((String) args[0]);
+            case "getWorlds" -> List.of(world);
+            case "getWorld" -> args[0] instanceof UUID uuid ? (WORLD_ID.equals(uuid) ? world : null)
+                    : (WORLD_NAME.equalsIgnoreCase((String) args[0]) ? world : null);
+            case "isPrimaryThread" -> true;
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "toString" -> "StandInServer";
+            default -> defaultValue(method);
+        });
+    }
+
+    private World createWorld() {
+        return (World) Proxy.newProxyInstance(World.class.getClassLoader(), new Class<?>[]{World.class}, (proxy, method, args) -> switch (method.getName()) {
+            case "getName" -> WORLD_NAME;
+            case "getUID" -> WORLD_ID;
+            case "getPlayers" -> getPlayers();
+            case "getSpawnLocation" -> getSpawn();
+            case "getMinHeight" -> 0;
+            case "getMaxHeight" -> 256;
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "toString" -> "StandInWorld{" + WORLD_NAME + "}";
+            default -> defaultValue(method);
+        });
+    }
+
+    private static Object defaultValue(Method method) {
+        Class<?> type = method.getReturnType();
+
+        if (type == List.class || type == Collection.class) return List.of();
+        if (type == Set.class) return Set.of();
+        if (type == Map.class) return Map.of();
+
+        if (!type.isPrimitive() || type == void.class) return null;
+        if (type == boolean.class) return false;
+        if (type == char.class) return '\0';
+        if (type == float.class) return 0f;
+        if (type == double.class) return 0d;
+        if (type == long.class) return 0L;
+        if (type == int.class) return 0;
+        if (type == short.class) return (short) 0;
+        return (byte) 0;
+    }
+}
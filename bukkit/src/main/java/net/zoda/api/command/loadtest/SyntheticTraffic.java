@@ -0,0 +1,80 @@
+package net.zoda.api.command.loadtest;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Generates the trace of simulated players typing commands. Once the label and a space are typed, each
+ * keystroke sends a tab request like the client does, and the finished line is executed. The label itself is
+ * completed by the client from the command tree it got on join, so typing it sends nothing. Players pause between commands,
+ * drawn from an exponential distribution. The same seed always yields the same trace.
+ */
+public class SyntheticTraffic {
+
+    private final List<String> commandLines;
+
+    @Getter
+    @Setter
+    private int players = 50;
+    @Getter
+    @Setter
+    private long durationMillis = 60_000;
+    /**
+     * Commands each player executes per minute on average
+     */
+    @Getter
+    @Setter
+    private double commandsPerMinute = 4;
+    @Getter
+    @Setter
+    private long keystrokeMillis = 150;
+    @Getter
+    @Setter
+    private long seed = 0;
+
+    /**
+     * @param commandLines lines the players pick from, without the leading slash
+     */
+    public SyntheticTraffic(List<String> commandLines) {
+        if (commandLines.isEmpty()) throw new IllegalArgumentException("No command lines to generate traffic from");
+        this.commandLines = commandLines;
+    }
+
+    public List<TraceEntry> generate() {
+        Random random = new Random(seed);
+        List<TraceEntry> entries = new ArrayList<>();
+        double meanPause = 60_000 / commandsPerMinute;
+
+        for (int i = 0; i < players; i++) {
+            String name = "Player" + i;
+            long time = (long) (random.nextDouble() * meanPause);
+
+            while (time < durationMillis) {
+                String line = commandLines.get(random.nextInt(commandLines.size()));
+                int label = line.indexOf(' ');
+
+                for (int typed = 1; typed <= line.length(); typed++) {
+                    time += keystrokeMillis / 2 + random.nextInt((int) Math.max(1, keystrokeMillis));
+                    if (label >= 0 && typed > label) entries.add(new TraceEntry(time, name, true, line.substring(0, typed)));
+                }
+
+                time += keystrokeMillis;
+                entries.add(new TraceEntry(time, name, false, line));
+
+                time += (long) (-Math.log(1 - random.nextDouble()) * meanPause);
+            }
+        }
+
+        entries.removeIf(entry -> entry.getTimestamp() >= durationMillis);
+        entries.sort((a, b) -> Long.compare(a.getTimestamp(), b.getTimestamp()));
+        return entries;
+    }
+}
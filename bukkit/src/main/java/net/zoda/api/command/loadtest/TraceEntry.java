@@ -0,0 +1,71 @@
+package net.zoda.api.command.loadtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * One line of a command traffic trace: {@code <millis> <sender> <exec|tab> <command line>}.
+ * The sender {@code console} stands for the console, anything else for a player of that name.
+ * A tab line's command line is what was typed so far, a trailing space asks for the next argument.
+ */
+@RequiredArgsConstructor
+public class TraceEntry {
+
+    @Getter
+    private final long timestamp;
+    @Getter
+    private final String sender;
+    @Getter
+    private final boolean tabRequest;
+    @Getter
+    private final String commandLine;
+
+    public static TraceEntry parse(String line) {
+        String[] split = line.split(" ", 4);
+
+        if (split.length < 4) {
+            throw new IllegalArgumentException("Invalid trace line: " + line);
+        }
+
+        boolean tab;
+        if (split[2].equalsIgnoreCase("tab")) {
+            tab = true;
+        } else if (split[2].equalsIgnoreCase("exec")) {
+            tab = false;
+        } else {
+            throw new IllegalArgumentException("Unknown trace action: " + split[2]);
+        }
+
+        return new TraceEntry(Long.parseLong(split[0]), split[1], tab, split[3].startsWith("/") ? split[3].substring(1) : split[3]);
+    }
+
+    /**
+     * Reads a trace file, blank lines and lines starting with {@code #} are skipped
+     */
+    public static List<TraceEntry> read(Path path) throws IOException {
+        List<TraceEntry> entries = new ArrayList<>();
+
+        for (String line : Files.readAllLines(path)) {
+            if (line.isBlank() || line.startsWith("#")) continue;
+            entries.add(parse(line));
+        }
+
+        entries.sort((a, b) -> Long.compare(a.timestamp, b.timestamp));
+        return entries;
+    }
+
+    @Override
+    public String toString() {
+        return timestamp + " " + sender + " " + (tabRequest ? "tab" : "exec") + " " + commandLine;
+    }
+}
@@ -0,0 +1,2461 @@
+package net.zoda.api.command.manager;
+
+import lombok.Getter;
+import lombok.Setter;
+import net.zoda.api.command.*;
+
+import net.zoda.api.command.Command;
+import net.zoda.api.command.admission.AdmissionController;
+import net.zoda.api.command.audit.AuditLog;
+import net.zoda.api.command.audit.AuditRecord;
+import net.zoda.api.command.cache.CommandModel;
+import net.zoda.api.command.cache.ModelCache;
+import net.zoda.api.command.completion.AsyncCompletions;
+import net.zoda.api.command.completion.CompletionCache;
+import net.zoda.api.command.completion.CompletionSources;
+import net.zoda.api.command.help.HelpPages;
+import net.zoda.api.command.argument.Argument;
+import net.zoda.api.command.argument.ArgumentConstraints;
+import net.zoda.api.command.argument.ArgumentType;
+import net.zoda.api.command.argument.OptionTable;
+import net.zoda.api.command.argument.parser.ArgumentParseException;
+import net.zoda.api.command.argument.parser.ArgumentParser;
+import net.zoda.api.command.argument.parser.ArgumentParsers;
+import net.zoda.api.command.argument.parser.ArgumentReader;
+import net.zoda.api.command.argument.parser.ParseContext;
+import net.zoda.api.command.argument.parser.Suggestions;
+import net.zoda.api.command.argument.selector.SpatialIndex;
+import net.zoda.api.command.manager.containers.ExecutionTarget;
+import net.zoda.api.command.manager.containers.LazyCommand;
+import net.zoda.api.command.manager.containers.MaterializedCommand;
+import net.zoda.api.command.manager.containers.ResolvedCommand;
+import net.zoda.api.command.manager.containers.ResolvedMacro;
+import net.zoda.api.command.manager.containers.StartupTiming;
+import net.zoda.api.command.manager.containers.SubcommandsContainer;
+import net.zoda.api.command.message.MessageCatalog;
+import net.zoda.api.command.interceptor.CommandInterceptor;
+import net.zoda.api.command.interceptor.InterceptorRegistry;
+import net.zoda.api.command.interceptor.Invocation;
+import net.zoda.api.command.message.Messages;
+import net.zoda.api.command.player.OfflineNameIndex;
+import net.zoda.api.command.player.PlayerNameIndex;
+import net.zoda.api.command.recording.InvocationLog;
+import net.zoda.api.command.recording.InvocationOutcome;
+import net.zoda.api.command.recording.InvocationStages;
+import net.zoda.api.command.scheduler.CommandScheduler;
+import net.zoda.api.command.scheduler.ContextExecutor;
+import net.zoda.api.command.subcommand.Subcommand;
+import net.zoda.api.command.task.SlicedTask;
+import net.zoda.api.command.task.SlicedTaskScheduler;
+import net.zoda.api.command.utils.BufferedLogger;
+import net.zoda.api.command.utils.Pair;
+import net.zoda.api.command.utils.ServerVersion;
+import net.zoda.api.command.wrapper.BukkitCommandWrapper;
+import net.zoda.api.command.wrapper.LazyCommandWrapper;
+import org.bukkit.*;
+import org.bukkit.command.*;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.lang.reflect.*;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ */
+@SuppressWarnings("unchecked")
+public final class CommandManager {
+
+    /**
+     * Audited in place of a value its parser failed to stringify
+     */
+    public static final String UNPRINTABLE_VALUE = "<unprintable>";
+
+    private final Logger logger = Logger.getLogger("CommandAPI");
+
+    /**
+     * Runs the {@link SlicedTask}s returned by command methods across ticks
+     */
+    @Getter
+    private final SlicedTaskScheduler taskScheduler = new SlicedTaskScheduler(logger);
+
+    /**
+     * Optional queue in front of every registered command, see {@link AdmissionController#enable(JavaPlugin)}
+     */
+    @Getter
+    private final AdmissionController admissionController = new AdmissionController(logger);
+
+    /**
+     * Chunk buckets of online players, started once a command with selector arguments is registered
+     */
+    @Getter
+    private final SpatialIndex spatialIndex = new SpatialIndex();
+
+    /**
+     * Last completer candidates of each player, narrowed while they keep typing the same argument
+     */
+    @Getter
+    private final CompletionCache completionCache = new CompletionCache();
+
+    /**
+     * Most suggestions generated for one tab request, {@link java.util.stream.Stream} and {@link Iterator} completers
+     * aren't read any further once it is reached
+     */
+    @Getter
+    @Setter
+    private int suggestionLimit = 200;
+
+    /**
+     * Last results of completers returning a {@link java.util.concurrent.CompletableFuture}
+     */
+    @Getter
+    private final AsyncCompletions asyncCompletions = new AsyncCompletions();
+
+    private final Map<Member, Boolean> futureCompleters = new ConcurrentHashMap<>();
+
+    private static final ThreadLocal<InvocationStages> STAGES = ThreadLocal.withInitial(InvocationStages::new);
+
+    /**
+     * Ring every execution and tab request is appended to while recording, see {@link #startRecording(Path, int)}
+     */
+    @Getter
+    private volatile InvocationLog invocationLog;
+
+    /**
+     * Receives the invocations of {@link Audited} commands, see {@link #enableAudit(Path)}
+     */
+    @Getter
+    private volatile AuditLog auditLog;
+
+    /**
+     * Path of every audited method
+     */
+    private final Map<Method, String> auditedPaths = new ConcurrentHashMap<>();
+
+    /**
+     * Receives the invocations of methods annotated with {@link ExecuteOn}, picked for the running server by default
+     */
+    @Getter
+    @Setter
+    private CommandScheduler commandScheduler = CommandScheduler.detect();
+
+    private final Map<Method, ExecutionTarget> executionTargets = new ConcurrentHashMap<>();
+
+    /**
+     * Interceptors around command methods, see {@link #addInterceptor(String, CommandInterceptor)}
+     */
+    private final InterceptorRegistry interceptors = new InterceptorRegistry(invocation ->
+            invocation.getMethod().invoke(invocation.getCommand(), toParameters(invocation.getMethod(), invocation.getValues())));
+
+    /**
+     * Registered commands by lowercase name and alias
+     */
+    private final Map<String, ResolvedCommand> commands = new ConcurrentHashMap<>();
+
+    /**
+     * Lazily registered commands by lowercase name and alias, kept after they materialize
+     */
+    private final Map<String, LazyCommand> lazyCommands = new ConcurrentHashMap<>();
+
+    /**
+     * Server commands by lowercase label while {@link #isDetached()}, including shortcuts and macros
+     */
+    private final Map<String, org.bukkit.command.Command> detachedCommands = new ConcurrentHashMap<>();
+
+    /**
+     * Commands registered while this is set only put a stub in the command map, verification and building
+     * happen on their first execution or tab completion. Macros declared on such commands appear once it materializes.
+     */
+    @Getter
+    @Setter
+    private boolean lazyRegistration;
+
+    /**
+     * Every player the server has seen by name, null unless {@link #enableNameIndex(JavaPlugin)} was called
+     */
+    @Getter
+    private volatile PlayerNameIndex nameIndex;
+
+    /**
+     * Validated command models from previous starts, null unless {@link #enableModelCache(JavaPlugin)} was called
+     */
+    @Getter
+    private volatile ModelCache modelCache;
+
+    /**
+     * Templates of every message sent to senders, override them per locale
+     */
+    @Getter
+    private final MessageCatalog messages = new MessageCatalog(logger);
+
+    @Getter
+    private final HelpPages helpPages = new HelpPages(this::getCommand, messages);
+
+    /**
+     * How long each command took to materialize, by name
+     */
+    private final Map<String, StartupTiming> startupTimings = new ConcurrentHashMap<>();
+
+    private CommandManager() {
+    }
+
+    private static CommandManager instance;
+
+    public static CommandManager getInstance() {
+        if (instance == null) instance = new CommandManager();
+        return instance;
+    }
+
+    public <T extends CommandSender> boolean checkRunCondition(String forCommand, ACommand command, T sender) {
+        Class<? extends ACommand> clazz = command.getClass();
+
+        for (Field searchField : clazz.getDeclaredFields()) {
+            if (!searchField.isAnnotationPresent(CommandRunCondition.class)) continue;
+            searchField.setAccessible(true);
+            CommandRunCondition runCondition = searchField.getAnnotation(CommandRunCondition.class);
+
+            if (!runCondition.value()[0].equalsIgnoreCase("*") && !List.of(runCondition.value()).contains(forCommand))
+                continue;
+            try {
+                if (!((Function<T, Boolean>) searchField.get(command)).apply((sender))) return false;
+            } catch (IllegalAccessException ignored) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Runs the interceptor around every command method
+     */
+    public void addInterceptor(CommandInterceptor interceptor) {
+        interceptors.add("", interceptor);
+    }
+
+    /**
+     * Runs the interceptor around the methods of a command and its subcommands, or of a single subcommand
+     *
+     * @param path a command name, optionally followed by a subcommand such as {@code "warp set"}
+     */
+    public void addInterceptor(String path, CommandInterceptor interceptor) {
+        interceptors.add(path, interceptor);
+    }
+
+    public boolean removeInterceptor(CommandInterceptor interceptor) {
+        return interceptors.remove(interceptor);
+    }
+
+    /**
+     * Starts appending every execution and tab request to a ring file of the given number of records,
+     * replacing the current recording if any
+     */
+    public void startRecording(Path path, int slots) throws IOException {
+        InvocationLog log = InvocationLog.open(path, slots, InvocationLog.DEFAULT_SLOT_SIZE);
+        InvocationLog previous = invocationLog;
+
+        invocationLog = log;
+        if (previous != null) previous.close();
+    }
+
+    public void stopRecording() throws IOException {
+        InvocationLog log = invocationLog;
+        invocationLog = null;
+
+        if (log != null) log.close();
+    }
+
+    /**
+     * Starts writing the invocations of {@link Audited} commands to {@code audit.log} in the directory
+     */
+    public void enableAudit(Path directory) throws IOException {
+        if (auditLog != null) return;
+
+        AuditLog log = new AuditLog(directory, 4096, logger);
+        log.start();
+        auditLog = log;
+    }
+
+    /**
+     * Stops auditing once the records already queued are written
+     */
+    public void disableAudit() {
+        AuditLog log = auditLog;
+        auditLog = null;
+
+        if (log != null) log.stop();
+    }
+
+    /**
+     * Resolves {@link ArgumentType#ANY_PLAYER} arguments and completes them from an index of every player the server
+     * has seen, kept in {@code player-names.idx} in the plugin's data folder
+     */
+    public void enableNameIndex(JavaPlugin plugin) throws IOException {
+        if (nameIndex != null) return;
+
+        PlayerNameIndex index = new PlayerNameIndex(OfflineNameIndex.open(plugin.getDataFolder().toPath().resolve("player-names.idx")), logger);
+        index.start(plugin);
+        nameIndex = index;
+    }
+
+    /**
+     * Stops updating the index once the names still pending are written
+     */
+    public void disableNameIndex() {
+        PlayerNameIndex index = nameIndex;
+        nameIndex = null;
+
+        if (index != null) index.stop();
+    }
+
+    /**
+     * Keeps the validated model of each command in the plugin's data folder, commands whose class didn't change
+     * since are bound from it on the next start instead of being validated again.
+     * Must be called after the custom parsers are registered and before the commands are. The file is written once
+     * at the end of {@link #registerCommands}, models of commands registered on their own or materialized lazily
+     * are written by {@link #saveModelCache()}.
+     */
+    public void enableModelCache(JavaPlugin plugin) {
+        enableModelCache(plugin.getDataFolder().toPath().resolve("command-models.bin"));
+    }
+
+    public void enableModelCache(Path file) {
+        modelCache = ModelCache.open(file, modelCacheSalt());
+    }
+
+    /**
+     * @return the library's own hash folded with every parser a model may be validated against, so a changed,
+     * added or removed parser discards the models
+     */
+    private static String modelCacheSalt() {
+        StringBuilder salt = new StringBuilder(String.valueOf(ModelCache.hashOf(CommandManager.class)));
+
+        for (ArgumentType type : ArgumentType.values()) {
+            if (type.parser != null) appendParser(salt, type.name(), type.parser);
+        }
+
+        new TreeMap<>(ArgumentParsers.getAll()).forEach((key, parser) -> appendParser(salt, key, parser));
+        return ModelCache.hashOf(salt.toString());
+    }
+
+    private static void appendParser(StringBuilder salt, String key, ArgumentParser<?> parser) {
+        Class<?> type = parser.getClass();
+        salt.append('\n').append(key).append('=').append(type.getName()).append('@').append(ModelCache.hashOf(type));
+    }
+
+    /**
+     * Drops the models of commands that weren't registered since the cache was enabled and writes the cache
+     */
+    public void saveModelCache() {
+        ModelCache cache = modelCache;
+        if (cache == null) return;
+
+        cache.prune();
+        writeModelCache(cache);
+    }
+
+    private void writeModelCache(ModelCache cache) {
+        try {
+            cache.save();
+        } catch (IOException e) {
+            logger.severe("Couldn't write the command model cache: " + cache.getFile() + " (" + e + ")");
+        }
+    }
+
+    public Collection<StartupTiming> getStartupTimings() {
+        return Collections.unmodifiableCollection(startupTimings.values());
+    }
+
+    /**
+     * Materializes the command first if it was registered lazily
+     */
+    public ResolvedCommand getCommand(String label) {
+        String key = label.toLowerCase();
+        ResolvedCommand command = commands.get(key);
+        if (command != null) return command;
+
+        LazyCommand lazyCommand = lazyCommands.get(key);
+        if (lazyCommand == null) return null;
+
+        lazyCommand.get();
+        return commands.get(key);
+    }
+
+    /**
+     * @return the server command under this label, including shortcuts and macros, or null
+     */
+    public org.bukkit.command.Command getBukkitCommand(String label) {
+        if (isDetached()) return detachedCommands.get(label.toLowerCase());
+
+        try {
+            return getCommandMap().getCommand(label);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Verifies and builds the commands in parallel, then registers them in order on the calling thread.
+     * Problems are reported once all commands were analysed, in the order the commands were given.
+     */
+    public void registerCommands(JavaPlugin plugin, ACommand command, ACommand... commands) {
+        List<ACommand> all = new ArrayList<>(commands.length + 1);
+        all.add(command);
+        all.addAll(List.of(commands));
+
+        if (lazyRegistration || all.size() == 1) {
+            all.forEach(command1 -> registerCommand(command1, plugin));
+
+            ModelCache cache = modelCache;
+            if (cache != null) writeModelCache(cache);
+            return;
+        }
+
+        List<ACommand> annotated = all.stream().filter(command1 -> command1.getClass().isAnnotationPresent(Command.class)).toList();
+        List<BufferedLogger> logs = new ArrayList<>(annotated.size());
+        List<ForkJoinTask<MaterializedCommand>> tasks = new ArrayList<>(annotated.size());
+
+        for (ACommand command1 : annotated) {
+            BufferedLogger log = new BufferedLogger(logger.getName());
+            Command base = command1.getClass().getAnnotation(Command.class);
+
+            logs.add(log);
+            tasks.add(ForkJoinPool.commonPool().submit(() -> materialize(command1, plugin, base, log)));
+        }
+
+        StringBuilder report = new StringBuilder();
+        int failed = 0;
+
+        for (int i = 0; i < annotated.size(); i++) {
+            Class<? extends ACommand> clazz = annotated.get(i).getClass();
+            Command base = clazz.getAnnotation(Command.class);
+            BufferedLogger log = logs.get(i);
+            MaterializedCommand materialized = null;
+
+            try {
+                materialized = tasks.get(i).join();
+            } catch (RuntimeException e) {
+                log.log(Level.SEVERE, "Couldn't analyse command: " + base.name() + " (" + e + ")", e);
+            }
+
+            if (materialized == null) failed++;
+
+            if (log.hasProblems()) {
+                report.append(System.lineSeparator()).append("  ").append(base.name()).append(materialized == null ? " (not registered):" : ":");
+
+                for (LogRecord record : log.getRecords()) {
+                    if (record.getLevel().intValue() < Level.WARNING.intValue()) continue;
+                    report.append(System.lineSeparator()).append("    - ").append(record.getLevel().getName()).append(": ").append(record.getMessage());
+                }
+            }
+
+            if (materialized != null) register(plugin, base, materialized);
+        }
+
+        if (!report.isEmpty()) {
+            logger.severe("Validation report, " + failed + " of " + annotated.size() + " commands failed:" + report);
+        }
+
+        ModelCache cache = modelCache;
+        if (cache != null) {
+            logStartupTimings(annotated);
+            writeModelCache(cache);
+        }
+
+        for (ACommand command1 : annotated) {
+            if (getCommand(command1.getClass().getAnnotation(Command.class).name()) != null) {
+                registerAnnotatedMacros(plugin, command1.getClass());
+            }
+        }
+    }
+
+    public void registerCommand(ACommand command, JavaPlugin plugin) {
+        Class<? extends ACommand> clazz = command.getClass();
+
+        if (!clazz.isAnnotationPresent(Command.class)) {
+            return;
+        }
+
+        Command base = clazz.getAnnotation(Command.class);
+
+        if (lazyRegistration) {
+            registerLazily(command, plugin, base);
+            return;
+        }
+
+        MaterializedCommand materialized = materialize(command, plugin, base, logger);
+        if (materialized == null) return;
+
+        if (register(plugin, base, materialized)) registerAnnotatedMacros(plugin, clazz);
+    }
+
+    private void logStartupTimings(List<ACommand> commands) {
+        StringBuilder report = new StringBuilder();
+        long total = 0;
+        int cached = 0;
+
+        for (ACommand command : commands) {
+            StartupTiming timing = startupTimings.get(command.getClass().getAnnotation(Command.class).name());
+            if (timing == null) continue;
+
+            total += timing.getNanos();
+            if (timing.isCached()) cached++;
+
+            report.append(System.lineSeparator()).append("  ").append(timing.getCommand())
+                    .append(timing.isCached() ? " (cached): " : " (rebuilt): ")
+                    .append(String.format("%.2f", timing.getNanos() / 1_000_000D)).append("ms");
+        }
+
+        logger.info("Startup timings, " + cached + " cached and " + (commands.size() - cached) + " rebuilt commands took "
+                + String.format("%.2f", total / 1_000_000D) + "ms of analysis:" + report);
+    }
+
+    /**
+     * Publishes a materialized command and puts it in the command map, must run on the main thread
+     */
+    private boolean register(JavaPlugin plugin, Command base, MaterializedCommand materialized) {
+        publish(plugin, base, materialized);
+
+        try {
+            unregisterExisting(base.name(), base.aliases());
+
+            BukkitCommandWrapper bukkitCmd = new BukkitCommandWrapper(base, materialized.getExecutor(), materialized.getTabCompleter(), admissionController);
+            addCommand(plugin, bukkitCmd);
+
+            logger.info("Command: " + base.name() + " has successfully been registered!");
+
+            for (Map.Entry<String, Pair<CommandExecutor, TabCompleter>> entry : materialized.getShortcuts().entrySet()) {
+                BukkitCommandWrapper.ShortcutWrapper shortCutBukkitCmd = new BukkitCommandWrapper.ShortcutWrapper(entry.getKey(), entry.getValue().getA(), entry.getValue().getB(), admissionController);
+                addCommand(plugin, shortCutBukkitCmd);
+            }
+        } catch (Exception e) {
+            logger.severe("Couldn't register command: " + base.name());
+            e.printStackTrace();
+            return false;
+        }
+        return true;
+    }
+
+    private void publish(JavaPlugin plugin, Command base, MaterializedCommand materialized) {
+        ResolvedCommand resolvedCommand = materialized.getResolvedCommand();
+        commands.put(base.name().toLowerCase(), resolvedCommand);
+        Arrays.stream(base.aliases()).forEach(alias -> commands.put(alias.toLowerCase(), resolvedCommand));
+
+        // the index is only kept by the main thread, selectors scan the worlds on regionized servers
+        if (materialized.isUsesSelectors() && commandScheduler.isSingleThreaded() && !isDetached()) spatialIndex.start(plugin);
+        completionCache.invalidateAll();
+        helpPages.invalidate(base.name());
+    }
+
+    /**
+     * Registers a stub holding only the name, aliases and permissions, the command and its shortcuts
+     * are materialized on their first execution or tab completion
+     */
+    private void registerLazily(ACommand command, JavaPlugin plugin, Command base) {
+        Class<? extends ACommand> clazz = command.getClass();
+
+        LazyCommand lazyCommand = new LazyCommand(() -> {
+            MaterializedCommand materialized = materialize(command, plugin, base, logger);
+            if (materialized == null) return null;
+
+            publish(plugin, base, materialized);
+            registerAnnotatedMacros(plugin, clazz);
+            return materialized;
+        });
+
+        try {
+            unregisterExisting(base.name(), base.aliases());
+
+            LazyCommandWrapper stub = new LazyCommandWrapper(base.name(), base.description(), base.usage(), List.of(base.aliases()), base.permissions(), lazyCommand, null, admissionController);
+            addCommand(plugin, stub);
+
+            lazyCommands.put(base.name().toLowerCase(), lazyCommand);
+            Arrays.stream(base.aliases()).forEach(alias -> lazyCommands.put(alias.toLowerCase(), lazyCommand));
+
+            for (Field searchField : clazz.getDeclaredFields()) {
+                if (!searchField.isAnnotationPresent(CommandShortcut.class)) continue;
+                String shortcutName = searchField.getAnnotation(CommandShortcut.class).shortcutName();
+
+                LazyCommandWrapper shortcutStub = new LazyCommandWrapper(shortcutName, "", "", List.of(), base.permissions(), lazyCommand, shortcutName, admissionController);
+                addCommand(plugin, shortcutStub);
+            }
+
+            logger.info("Command: " + base.name() + " has been registered lazily");
+        } catch (Exception e) {
+            logger.severe("Couldn't register command: " + base.name());
+            e.printStackTrace();
+        }
+    }
+
+    private void registerAnnotatedMacros(JavaPlugin plugin, Class<? extends ACommand> clazz) {
+        for (CommandMacro macro : clazz.getAnnotationsByType(CommandMacro.class)) {
+            registerMacro(plugin, macro.name(), macro.steps(), macro.permissions());
+        }
+    }
+
+    /**
+     * Builds the routing, executors and shortcuts of the command, bound from its cached model if the class is
+     * unchanged and verified from scratch otherwise. Only models that verified without warnings are cached.
+     *
+     * @return null if the command is invalid, the reason is logged
+     */
+    private MaterializedCommand materialize(ACommand command, JavaPlugin plugin, Command base, Logger logger) {
+        Class<? extends ACommand> clazz = command.getClass();
+        long start = System.nanoTime();
+
+        ModelCache cache = modelCache;
+        String hash = cache == null ? null : ModelCache.hashOf(clazz);
+
+        if (hash != null) {
+            CommandModel model = cache.get(clazz.getName(), hash);
+            MaterializedCommand materialized = model == null ? null : materializeCached(command, plugin, base, logger, model);
+
+            if (materialized != null) {
+                startupTimings.put(base.name(), new StartupTiming(base.name(), true, System.nanoTime() - start));
+                return materialized;
+            }
+        }
+
+        BufferedLogger log = new BufferedLogger(logger.getName());
+        List<String> shortcuts = new ArrayList<>();
+        MaterializedCommand materialized = rebuild(command, plugin, base, log, shortcuts);
+        log.getRecords().forEach(logger::log);
+
+        if (materialized != null && hash != null && !log.hasProblems()) {
+            cache.put(clazz.getName(), hash, describe(materialized.getResolvedCommand(), shortcuts));
+        }
+
+        startupTimings.put(base.name(), new StartupTiming(base.name(), false, System.nanoTime() - start));
+        return materialized;
+    }
+
+    /**
+     * Binds a cached model back to the members of the command without validating them again
+     *
+     * @return null if the model no longer fits the command, it is then rebuilt
+     */
+    private MaterializedCommand materializeCached(ACommand command, JavaPlugin plugin, Command base, Logger logger, CommandModel model) {
+        Class<? extends ACommand> clazz = command.getClass();
+
+        Method defaultRunMethod = bindMethod(clazz, model.getDefaultRun());
+        if (defaultRunMethod == null || !defaultRunMethod.isAnnotationPresent(DefaultRun.class)) return null;
+
+        Argument[] orderedDefaultRunArguments = bindArguments(clazz, defaultRunMethod.getAnnotation(DefaultRun.class).arguments(), model.getDefaultRun());
+        if (orderedDefaultRunArguments == null) return null;
+
+        Map<String, SubcommandsContainer.ResolvedSubcommandGroupMeta> groups = new HashMap<>();
+        for (CommandModel.GroupModel group : model.getGroups()) {
+            groups.put(group.getName(), new SubcommandsContainer.ResolvedSubcommandGroupMeta(group.getName(), group.getPermissions()));
+        }
+
+        Map<String, SubcommandsContainer.ResolvedSubcommand> subcommands = new HashMap<>();
+        for (CommandModel.RouteModel route : model.getRoutes()) {
+            Method method = bindMethod(clazz, route.getMethod());
+            if (method == null || !method.isAnnotationPresent(Subcommand.class)) return null;
+
+            Subcommand subcommand = method.getAnnotation(Subcommand.class);
+            Argument[] orderedArguments = bindArguments(clazz, subcommand.arguments(), route.getMethod());
+            if (orderedArguments == null) return null;
+
+            if (route.getGroup() == null) {
+                subcommands.put(route.getKey(), new SubcommandsContainer.ResolvedSubcommand(subcommand, orderedArguments, method));
+            } else {
+                SubcommandsContainer.ResolvedSubcommandGroupMeta group = groups.get(route.getGroup());
+                if (group == null) return null;
+
+                subcommands.put(route.getKey(), new SubcommandsContainer.GroupedResolvedSubcommand(group, subcommand, orderedArguments, method));
+            }
+        }
+
+        List<Field> shortcutFields = new ArrayList<>();
+        for (String name : model.getShortcuts()) {
+            try {
+                shortcutFields.add(clazz.getDeclaredField(name));
+            } catch (NoSuchFieldException e) {
+                return null;
+            }
+        }
+
+        SubcommandsContainer subcommandsContainer = new SubcommandsContainer(clazz, base, logger, groups, subcommands);
+        return assemble(command, plugin, base, logger, subcommandsContainer, defaultRunMethod, orderedDefaultRunArguments, shortcutFields, new ArrayList<>());
+    }
+
+    private static Method bindMethod(Class<? extends ACommand> clazz, CommandModel.MethodModel model) {
+        for (Method method : clazz.getDeclaredMethods()) {
+            if (method.getName().equals(model.getName()) && Arrays.equals(typeNames(method), model.getParameterTypes())) return method;
+        }
+
+        return null;
+    }
+
+    /**
+     * Orders the declared arguments as the model did and primes their completers
+     *
+     * @return null if an argument or completer is gone, or a custom parser isn't registered anymore
+     */
+    private static Argument[] bindArguments(Class<? extends ACommand> clazz, Argument[] declared, CommandModel.MethodModel model) {
+        if (declared.length != model.getArguments().length) return null;
+
+        Argument[] ordered = new Argument[declared.length];
+        Member[] completers = new Member[declared.length];
+
+        for (int i = 0; i < ordered.length; i++) {
+            for (Argument argument : declared) {
+                if (argument.name().equals(model.getArguments()[i])) ordered[i] = argument;
+            }
+
+            if (ordered[i] == null || ArgumentParsers.of(ordered[i]) == null) return null;
+
+            String completer = model.getCompleters()[i];
+            if (completer.isEmpty()) continue;
+
+            try {
+                completers[i] = completer.endsWith("()")
+                        ? clazz.getDeclaredMethod(completer.substring(0, completer.length() - 2))
+                        : clazz.getDeclaredField(completer);
+            } catch (NoSuchMethodException | NoSuchFieldException e) {
+                return null;
+            }
+        }
+
+        for (int i = 0; i < ordered.length; i++) {
+            SubcommandsContainer.bindCompleter(ordered[i], clazz, completers[i]);
+        }
+
+        return ordered;
+    }
+
+    private static CommandModel describe(ResolvedCommand resolvedCommand, List<String> shortcuts) {
+        Class<? extends ACommand> clazz = resolvedCommand.getCommand().getClass();
+        SubcommandsContainer subcommandsContainer = resolvedCommand.getSubcommandsContainer();
+
+        List<CommandModel.RouteModel> routes = new ArrayList<>();
+        subcommandsContainer.getSubcommandMap().forEach((key, subcommand) -> routes.add(new CommandModel.RouteModel(key,
+                subcommand instanceof SubcommandsContainer.GroupedResolvedSubcommand grouped ? grouped.getGroup().getName() : null,
+                describe(clazz, subcommand.getMethod(), subcommand.getOrderedArguments()))));
+
+        List<CommandModel.GroupModel> groups = new ArrayList<>();
+        subcommandsContainer.getGroupsMetaMap().forEach((name, group) -> groups.add(new CommandModel.GroupModel(name, group.getPermissions())));
+
+        return new CommandModel(describe(clazz, resolvedCommand.getDefaultRunMethod(), resolvedCommand.getOrderedDefaultRunArguments()), routes, groups, shortcuts);
+    }
+
+    private static CommandModel.MethodModel describe(Class<? extends ACommand> clazz, Method method, Argument[] orderedArguments) {
+        String[] arguments = new String[orderedArguments.length];
+        String[] completers = new String[orderedArguments.length];
+
+        for (int i = 0; i < orderedArguments.length; i++) {
+            Member completer = SubcommandsContainer.findCompleter(orderedArguments[i], clazz);
+
+            arguments[i] = orderedArguments[i].name();
+            completers[i] = completer == null ? "" : completer instanceof Method ? completer.getName() + "()" : completer.getName();
+        }
+
+        return new CommandModel.MethodModel(method.getName(), typeNames(method), arguments, completers);
+    }
+
+    private static String[] typeNames(Method method) {
+        return Arrays.stream(method.getParameterTypes()).map(Class::getName).toArray(String[]::new);
+    }
+
+    /**
+     * Verifies the command from scratch and builds it
+     *
+     * @param shortcuts receives the fields of the shortcuts that were built
+     */
+    private MaterializedCommand rebuild(ACommand command, JavaPlugin plugin, Command base, Logger logger, List<String> shortcuts) {
+        Class<? extends ACommand> clazz = command.getClass();
+
+        SubcommandsContainer subcommandsContainer = new SubcommandsContainer(clazz, base, logger, command);
+
+        DefaultRun defaultRun = null;
+        Method defaultRunMethod = null;
+        Argument[] orderedDefaultRunArguments = new Argument[0];
+
+        for (Method method : clazz.getDeclaredMethods()) {
+            if (!method.isAnnotationPresent(DefaultRun.class)) continue;
+
+            if (defaultRun != null) {
+                logger.severe("Multiple default run methods found on command: " + base.name());
+                return null;
+            }
+
+            defaultRun = method.getAnnotation(DefaultRun.class);
+
+            if (!verifyArguments(defaultRun.arguments(), clazz, "default", base.playerOnly(), logger)) {
+                defaultRun = null;
+                break;
+            }
+
+            if (!verifySignature(defaultRun.arguments(), method, "default", base.playerOnly(), logger, command)) {
+                defaultRun = null;
+                break;
+            }
+
+            defaultRunMethod = method;
+            orderedDefaultRunArguments = orderArguments(defaultRun.arguments());
+        }
+
+        if (defaultRun == null) {
+            logger.severe("Couldn't find default run method for command: " + base.name());
+            return null;
+        }
+
+        if (orderedDefaultRunArguments.length != 0 && subcommandsContainer.size() != 0) {
+            logger.severe(getInvalidSignature(base.name(), "a default run method cannot have any arguments if any subcommand is present"));
+        }
+
+        for (Field searchField : clazz.getDeclaredFields()) {
+            if (!searchField.isAnnotationPresent(CommandRunCondition.class)) continue;
+            searchField.setAccessible(true);
+            CommandRunCondition runCondition = searchField.getAnnotation(CommandRunCondition.class);
+
+            String displayName = runCondition.value()[0].equalsIgnoreCase("*") ? "the command" : Arrays.toString(runCondition.value());
+
+            if (runCondition.value().length == 0) {
+                logger.severe(getInvalidSignature("run condition of: " + displayName, "condition targets nothing"));
+                return null;
+            }
+
+            if (!searchField.getType().equals(Function.class)) {
+                logger.severe(getInvalidSignature("run condition of: " + displayName, "field isn't a Function"));
+                return null;
+            }
+
+            ParameterizedType type = (ParameterizedType) searchField.getGenericType();
+
+            Class<?> firstClass = (Class<?>) type.getActualTypeArguments()[0];
+            Class<?> secondClass = (Class<?>) type.getActualTypeArguments()[1];
+
+            if (!firstClass.equals(Player.class) && !firstClass.equals(CommandSender.class)) {
+                logger.severe(getInvalidSignature("run condition of: " + displayName, "first parameter is neither a Player or a CommandSender"));
+                return null;
+            }
+
+            if (firstClass.equals(Player.class) && !base.playerOnly()) {
+                logger.severe(getInvalidSignature("run condition of: " + displayName, "non-player-only commands cannot supply Player type"));
+                return null;
+            }
+
+            if (!secondClass.equals(Boolean.class)) {
+                logger.severe(getInvalidSignature("run condition of: " + displayName, "second parameter is not a boolean!"));
+                return null;
+            }
+        }
+
+        return assemble(command, plugin, base, logger, subcommandsContainer, defaultRunMethod, orderedDefaultRunArguments, List.of(clazz.getDeclaredFields()), shortcuts);
+    }
+
+    /**
+     * Builds the executors, execution targets and shortcuts of a verified command
+     *
+     * @param shortcutFields fields searched for {@link CommandShortcut}s
+     * @param shortcuts      receives the fields of the shortcuts that were built
+     */
+    private MaterializedCommand assemble(ACommand command, JavaPlugin plugin, Command base, Logger logger, SubcommandsContainer subcommandsContainer,
+                                         Method defaultRunMethod, Argument[] orderedDefaultRunArguments, List<Field> shortcutFields, List<String> shortcuts) {
+        Class<? extends ACommand> clazz = command.getClass();
+
+        boolean selectors = usesSelectors(orderedDefaultRunArguments) || subcommandsContainer.getSubcommandMap().values().stream()
+                .anyMatch(subcommand -> usesSelectors(subcommand.getOrderedArguments()));
+
+        OptionTable defaultRunOptions = OptionTable.compile(orderedDefaultRunArguments);
+
+        try {
+            CommandExecutor executor = recorded(base.name(), buildLogic(plugin, base, orderedDefaultRunArguments, defaultRunOptions, defaultRunMethod, subcommandsContainer, command));
+            TabCompleter tabCompleter = recorded(base.name(), buildTabCompletion(base, defaultRunOptions, subcommandsContainer, command));
+
+            ResolvedCommand resolvedCommand = new ResolvedCommand(base, command, plugin, defaultRunMethod, orderedDefaultRunArguments, defaultRunOptions, subcommandsContainer);
+
+            resolveExecutionTarget(clazz, defaultRunMethod, orderedDefaultRunArguments, base.name(), logger);
+            subcommandsContainer.getSubcommandMap().forEach((key, subcommand) ->
+                    resolveExecutionTarget(clazz, subcommand.getMethod(), subcommand.getOrderedArguments(), base.name() + " " + key, logger));
+
+            interceptors.registerNode(defaultRunMethod, base.name());
+            subcommandsContainer.getSubcommandMap().forEach((key, subcommand) -> interceptors.registerNode(subcommand.getMethod(), base.name() + " " + key));
+
+            boolean auditAll = clazz.isAnnotationPresent(Audited.class);
+            if (auditAll || defaultRunMethod.isAnnotationPresent(Audited.class)) auditedPaths.put(defaultRunMethod, base.name());
+
+            for (Map.Entry<String, SubcommandsContainer.ResolvedSubcommand> entry : subcommandsContainer.getSubcommandMap().entrySet()) {
+                Method subcommandMethod = entry.getValue().getMethod();
+                if (auditAll || subcommandMethod.isAnnotationPresent(Audited.class)) auditedPaths.put(subcommandMethod, base.name() + " " + entry.getKey());
+            }
+
+            Map<String, Pair<CommandExecutor, TabCompleter>> builtShortcuts = new HashMap<>();
+
+            loop:
+            for (Field searchField : shortcutFields) {
+                if (!searchField.isAnnotationPresent(CommandShortcut.class)) continue;
+                CommandShortcut shortcut = searchField.getAnnotation(CommandShortcut.class);
+
+                Argument[] arguments;
+                OptionTable options;
+                Method method;
+                String[] permissions = new String[0];
+
+                if (shortcut.value().equalsIgnoreCase("default")) {
+                    arguments = orderedDefaultRunArguments;
+                    options = defaultRunOptions;
+                    method = defaultRunMethod;
+                } else {
+                    SubcommandsContainer.ResolvedSubcommand subcommand = subcommandsContainer.getSubcommandMap().get(shortcut.value());
+
+                    if (subcommand == null) {
+                        logger.severe("Unknown subcommand of shortcut: " + shortcut.shortcutName() + " (" + shortcut.value() + ")");
+                        continue;
+                    }
+
+                    arguments = subcommand.getOrderedArguments();
+                    options = subcommand.getOptions();
+                    method = subcommand.getMethod();
+                    if (subcommand instanceof SubcommandsContainer.GroupedResolvedSubcommand groupedResolvedSubcommand) {
+                        permissions = groupedResolvedSubcommand.getGroup().getPermissions();
+                    }
+                }
+
+
+                if (!searchField.getType().equals(Map.class)) {
+                    logger.severe("Shortcut field type of: " + shortcut.shortcutName() + " is not a map!");
+                    continue;
+                }
+
+                ParameterizedType type = (ParameterizedType) searchField.getGenericType();
+                Class<?> firstType = (Class<?>) type.getActualTypeArguments()[0];
+                Class<?> secondType = (Class<?>) type.getActualTypeArguments()[1];
+
+
+                if (!firstType.equals(String.class)) {
+                    logger.severe("Shortcut map of: " + shortcut.shortcutName() + " Key generic is not String");
+                    continue;
+                }
+
+
+                if (!secondType.equals(Object.class)) {
+                    logger.severe("Shortcut map of: " + shortcut.shortcutName() + " Key generic is not Object");
+                    continue;
+                }
+
+                searchField.setAccessible(true);
+                Map<String, Object> argumentsMap = (Map<String, Object>) searchField.get(command);
+                ArrayList<Argument> reducedNeededArgumentsArray = new ArrayList<>(List.of(arguments));
+
+
+                for (Argument argument : arguments) {
+                    if (argumentsMap.containsKey(argument.name())) {
+
+                        Object obj = argumentsMap.get(argument.name());
+
+                        if (argument.type().equals(ArgumentType.ENUM)) {
+                            if (!obj.getClass().isEnum()) {
+                                logger.severe("Shortcut argument type mismatch: " + shortcut.shortcutName() + " (" + obj.getClass().getCanonicalName() + " is not an enum)");
+                                continue loop;
+                            }
+                        } else if (argument.variadic() ? !(obj instanceof List<?> list && list.stream().allMatch(ArgumentParsers.of(argument).getType()::isInstance))
+                                : !ArgumentParsers.of(argument).getType().isInstance(obj)) {
+                            logger.severe("Shortcut argument type mismatch: " + shortcut.shortcutName() + " (expected: " + ArgumentParsers.of(argument).getType().getCanonicalName() + " got: " + obj.getClass().getCanonicalName() + ")");
+                            continue loop;
+                        }
+
+                        reducedNeededArgumentsArray.remove(argument);
+                    }
+                }
+
+                Argument[] reducedNeededArguments = orderArguments(reducedNeededArgumentsArray.toArray(new Argument[0]));
+
+                try {
+                    CommandExecutor commandExecutor = recorded(shortcut.shortcutName(), buildShortcutLogic(plugin, base, arguments, options, argumentsMap, reducedNeededArguments, command, method, permissions));
+                    TabCompleter tabCompletion = recorded(shortcut.shortcutName(), buildShortcutTabCompletion(base, OptionTable.compile(reducedNeededArguments), command));
+
+                    builtShortcuts.put(shortcut.shortcutName(), new Pair<>(commandExecutor, tabCompletion));
+                    shortcuts.add(searchField.getName());
+                } catch (Exception ignored) {
+                    logger.severe("Couldn't build shortcut logic: " + shortcut.shortcutName());
+                }
+            }
+
+            return new MaterializedCommand(executor, tabCompleter, builtShortcuts, resolvedCommand, selectors);
+        } catch (Exception e) {
+            logger.log(Level.SEVERE, "Couldn't build logic of command: " + base.name(), e);
+            return null;
+        }
+
+    }
+
+    /**
+     * @return whether no server is running, e.g. in tests and load runs. Commands are then kept by the manager
+     * instead of the server's command map and are reached through {@link #getBukkitCommand(String)}, invocations with
+     * an {@link ExecuteOn} context need a {@link net.zoda.api.command.scheduler.LocalCommandScheduler}
+     */
+    public boolean isDetached() {
+        return Bukkit.getServer() == null;
+    }
+
+    /**
+     * Puts the command in the server's command map, or in the detached commands without a server
+     */
+    private void addCommand(JavaPlugin plugin, org.bukkit.command.Command command) throws ReflectiveOperationException {
+        if (isDetached()) {
+            detachedCommands.put(command.getName().toLowerCase(), command);
+            command.getAliases().forEach(alias -> detachedCommands.put(alias.toLowerCase(), command));
+            return;
+        }
+
+        CommandMap commandMap = getCommandMap();
+        commandMap.register(plugin.getName(), command);
+        command.register(commandMap);
+    }
+
+    private void unregisterExisting(String name, String[] aliases) throws ReflectiveOperationException {
+        if (isDetached()) {
+            detachedCommands.remove(name.toLowerCase());
+            Arrays.stream(aliases).forEach(alias -> detachedCommands.remove(alias.toLowerCase()));
+            return;
+        }
+
+        unregisterExisting(getCommandMap(), name, aliases);
+    }
+
+    private CommandMap getCommandMap() throws ReflectiveOperationException {
+        Server server = Bukkit.getServer();
+        Field field = server.getClass().getDeclaredField("commandMap");
+        field.setAccessible(true);
+
+        return (CommandMap) field.get(server);
+    }
+
+    private void unregisterExisting(CommandMap commandMap, String name, String[] aliases) throws ReflectiveOperationException {
+        ServerVersion version = ServerVersion.getVersion();
+
+        Map<String, org.bukkit.command.Command> map;
+        org.bukkit.command.Command cmd = commandMap.getCommand(name);
+
+        if (version.equals(ServerVersion.MODERN)) {
+            map = (Map<String, org.bukkit.command.Command>) commandMap.getClass().getDeclaredMethod("getKnownCommands").invoke(commandMap);
+        } else {
+            Field commandField = commandMap.getClass().getDeclaredField("knownCommands");
+            commandField.setAccessible(true);
+            map = (Map<String, org.bukkit.command.Command>) commandField.get(commandMap);
+        }
+
+        if (cmd != null) {
+            cmd.unregister(commandMap);
+            map.remove(name);
+            Arrays.stream(aliases).forEach(map::remove);
+        }
+    }
+
+    private void resolveExecutionTarget(Class<?> clazz, Method method, Argument[] arguments, String name, Logger logger) {
+        ExecuteOn executeOn = method.isAnnotationPresent(ExecuteOn.class) ? method.getAnnotation(ExecuteOn.class) : clazz.getAnnotation(ExecuteOn.class);
+        if (executeOn == null || executeOn.value() == ExecuteOn.Context.CALLER) return;
+
+        if (executeOn.value() != ExecuteOn.Context.ARGUMENT) {
+            executionTargets.put(method, new ExecutionTarget(executeOn.value(), -1));
+            return;
+        }
+
+        for (int i = 0; i < arguments.length; i++) {
+            if (!arguments[i].name().equals(executeOn.argument())) continue;
+
+            executionTargets.put(method, new ExecutionTarget(ExecuteOn.Context.ARGUMENT, i));
+            return;
+        }
+
+        logger.warning("No argument named: " + executeOn.argument() + " to execute on in: " + name + ", using the sender's region");
+        executionTargets.put(method, new ExecutionTarget(ExecuteOn.Context.SENDER, -1));
+    }
+
+    private static boolean usesSelectors(Argument[] arguments) {
+        for (Argument argument : arguments) {
+            if (argument.type() == ArgumentType.ENTITIES || argument.type() == ArgumentType.PLAYERS) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Registers every macro of the section, each key is a macro name mapped to either a list of steps
+     * or a section holding {@code steps} and {@code permissions}
+     */
+    public void registerMacros(JavaPlugin plugin, ConfigurationSection section) {
+        for (String name : section.getKeys(false)) {
+            if (section.isList(name)) {
+                registerMacro(plugin, name, section.getStringList(name).toArray(new String[0]), new String[0]);
+                continue;
+            }
+
+            ConfigurationSection macroSection = section.getConfigurationSection(name);
+
+            if (macroSection == null) {
+                logger.severe("Invalid macro: " + name + " (neither a list of steps or a section)");
+                continue;
+            }
+
+            registerMacro(plugin, name,
+                    macroSection.getStringList("steps").toArray(new String[0]),
+                    macroSection.getStringList("permissions").toArray(new String[0]));
+        }
+    }
+
+    /**
+     * Binds the steps against the registered commands and registers the macro as a command
+     */
+    public void registerMacro(JavaPlugin plugin, String name, String[] steps, String[] permissions) {
+        ResolvedMacro macro = bindMacro(name, steps, permissions);
+        if (macro == null) return;
+
+        try {
+            unregisterExisting(name, new String[0]);
+
+            BukkitCommandWrapper.ShortcutWrapper macroCmd = new BukkitCommandWrapper.ShortcutWrapper(name, recorded(name, buildMacroLogic(plugin, macro)), recorded(name, buildMacroTabCompletion(macro)), admissionController);
+            addCommand(plugin, macroCmd);
+
+            logger.info("Macro: " + name + " has successfully been registered!");
+        } catch (Exception e) {
+            logger.severe("Couldn't build logic of macro: " + name);
+            e.printStackTrace();
+        }
+    }
+
+    private ResolvedMacro bindMacro(String name, String[] steps, String[] permissions) {
+        List<String> placeholders = new ArrayList<>();
+        List<OptionTable> placeholderOptions = new ArrayList<>();
+        List<ResolvedCommand> placeholderCommands = new ArrayList<>();
+        List<ResolvedMacro.BoundStep> boundSteps = new ArrayList<>();
+
+        for (String step : steps) {
+            String[] tokens = step.trim().split(" +");
+            String label = tokens[0].startsWith("/") ? tokens[0].substring(1) : tokens[0];
+
+            ResolvedCommand target = getCommand(label);
+
+            if (target == null) {
+                logger.severe("Unknown command in step of macro: " + name + " (" + step + ")");
+                return null;
+            }
+
+            String[] args = Arrays.copyOfRange(tokens, 1, tokens.length);
+            SubcommandsContainer subcommandsContainer = target.getSubcommandsContainer();
+
+            Argument[] arguments;
+            OptionTable options;
+            Method method;
+            String condition;
+            String[] groupPermissions = new String[0];
+
+            if (subcommandsContainer.size() == 0 || args.length == 0) {
+                arguments = target.getOrderedDefaultRunArguments();
+                options = target.getDefaultRunOptions();
+                method = target.getDefaultRunMethod();
+                condition = "default";
+            } else {
+                SubcommandsContainer.Route route = subcommandsContainer.route(args);
+
+                if (route.getSubcommand() == null || isPlaceholder(args, 0, route.getConsumed())) {
+                    logger.severe("Couldn't route step of macro: " + name + " (" + step + ")");
+                    return null;
+                }
+
+                arguments = route.getSubcommand().getOrderedArguments();
+                options = route.getSubcommand().getOptions();
+                method = route.getSubcommand().getMethod();
+                condition = route.getConditionName();
+                groupPermissions = route.getPermissions();
+                args = route.getRemaining(args);
+            }
+
+            Map<Argument, Object> boundValues = new HashMap<>();
+            List<Argument> runtimeArguments = new ArrayList<>();
+            List<String> runtimeTokens = new ArrayList<>();
+            ParseContext context = new ParseContext(null, target.getCommand());
+
+            int cursor = 0;
+            // options may appear anywhere, so the tokens of a node having any are only parsed at runtime
+            boolean tail = options.hasOptions() && args.length > 0;
+
+            for (Argument argument : arguments) {
+                ArgumentParser<Object> parser = ArgumentParsers.of(argument);
+
+                if (tail || cursor >= args.length || !parser.isArityFixed() || argument.variadic()) {
+                    if (cursor < args.length) tail = true;
+
+                    if (cursor >= args.length && argument.required() && !argument.option() && !tail) {
+                        logger.severe("Missing argument: " + argument.name() + " in step of macro: " + name + " (" + step + ")");
+                        return null;
+                    }
+
+                    runtimeArguments.add(argument);
+                    continue;
+                }
+
+                int end = Math.min(getSpanEnd(parser, args, cursor, null), args.length);
+
+                if (!isPlaceholder(args, cursor, end) && parser.isContextFree()) {
+                    ArgumentReader reader = new ArgumentReader(Arrays.copyOfRange(args, 0, end), cursor);
+
+                    try {
+                        boundValues.put(argument, parser.parse(context, argument, reader));
+                    } catch (ArgumentParseException e) {
+                        logger.severe("Invalid step of macro: " + name + " (" + e.getMessage() + ")");
+                        return null;
+                    }
+                } else {
+                    if (end - cursor == 1 && isPlaceholder(args[cursor]) && !placeholders.contains(args[cursor])) {
+                        placeholders.add(args[cursor]);
+                        placeholderOptions.add(OptionTable.compile(new Argument[]{argument}));
+                        placeholderCommands.add(target);
+                    }
+
+                    runtimeArguments.add(argument);
+                    runtimeTokens.addAll(Arrays.asList(args).subList(cursor, end));
+                }
+
+                cursor = end;
+            }
+
+            if (tail) {
+                runtimeTokens.addAll(Arrays.asList(args).subList(cursor, args.length));
+            } else if (cursor < args.length) {
+                logger.severe("Too many arguments in step of macro: " + name + " (" + step + ")");
+                return null;
+            }
+
+            List<Integer> slots = new ArrayList<>();
+            List<Integer> indexes = new ArrayList<>();
+
+            for (int i = 0; i < runtimeTokens.size(); i++) {
+                String token = runtimeTokens.get(i);
+                if (!isPlaceholder(token)) continue;
+
+                if (!placeholders.contains(token)) {
+                    placeholders.add(token);
+                    placeholderOptions.add(null);
+                    placeholderCommands.add(null);
+                }
+
+                slots.add(i);
+                indexes.add(placeholders.indexOf(token));
+            }
+
+            boundSteps.add(new ResolvedMacro.BoundStep(target, method, arguments, options, condition, groupPermissions, boundValues,
+                    runtimeArguments.toArray(new Argument[0]), runtimeTokens.toArray(new String[0]),
+                    slots.stream().mapToInt(Integer::intValue).toArray(), indexes.stream().mapToInt(Integer::intValue).toArray()));
+        }
+
+        return new ResolvedMacro(name, permissions, placeholders.toArray(new String[0]),
+                placeholderOptions.toArray(new OptionTable[0]), placeholderCommands.toArray(new ResolvedCommand[0]), boundSteps);
+    }
+
+    private static boolean isPlaceholder(String token) {
+        return token.length() > 2 && token.startsWith("{") && token.endsWith("}");
+    }
+
+    private static boolean isPlaceholder(String[] tokens, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (isPlaceholder(tokens[i])) return true;
+        }
+        return false;
+    }
+
+    private CommandExecutor buildMacroLogic(JavaPlugin plugin, ResolvedMacro macro) {
+        return (sender, cmd, label, args) -> {
+            if (!checkPermissions(sender, macro.getPermissions())) return true;
+
+            String[] placeholders = macro.getPlaceholders();
+
+            if (args.length < placeholders.length) {
+                messages.send(sender, Messages.MISSING_ARGUMENT, placeholders[args.length].substring(1, placeholders[args.length].length() - 1));
+                return true;
+            }
+
+            for (ResolvedMacro.BoundStep step : macro.getSteps()) {
+                ResolvedCommand target = step.getTarget();
+
+                if (!checkAccess(sender, target.getBase(), step.getPermissions())) return true;
+                if (!checkRunCondition(step.getCondition(), target.getCommand(), sender)) return true;
+
+                Object[] objects = resolveArguments(sender, step.getArguments(), step.getOptions(), step.fill(args), target.getCommand(), step.getBoundValues(), step.getRuntimeArguments());
+                if (objects == null || objects == MISSING_ARGUMENTS) return true;
+
+                invoke(plugin, sender, step.getMethod(), step.getArguments(), target.getCommand(), objects);
+            }
+            return true;
+        };
+    }
+
+    private TabCompleter buildMacroTabCompletion(ResolvedMacro macro) {
+        return (sender, cmd, label, args) -> {
+            int index = args.length - 1;
+            if (index < 0 || index >= macro.getPlaceholders().length) return new ArrayList<>();
+
+            OptionTable signature = macro.getPlaceholderOptions()[index];
+            if (signature == null) return new ArrayList<>();
+
+            ResolvedCommand target = macro.getPlaceholderCommands()[index];
+            return getCompletions(new String[]{args[index]}, signature, target.getCommand(), sender);
+        };
+    }
+
+    private TabCompleter buildShortcutTabCompletion(Command base, OptionTable reducedNeededOptions, ACommand command) {
+        return ((sender, cmd, label, args) -> {
+            if (!(sender instanceof Player) && base.playerOnly()) {
+                return new ArrayList<>();
+            }
+            return getCompletions(args, reducedNeededOptions, command, sender);
+        });
+    }
+
+    private CommandExecutor buildShortcutLogic(JavaPlugin plugin, Command base, Argument[] arguments, OptionTable options, Map<String, Object> argumentsMap, Argument[] reducedNeededArguments, ACommand command, Method method, String[] permissions) {
+        return ((sender, cmd, label, args) -> {
+            if (!checkAccess(sender, base, permissions)) return true;
+
+            Map<Argument, Object> mappedArguments = new HashMap<>();
+
+            for (Argument argument : arguments) {
+                if (argumentsMap.containsKey(argument.name())) {
+                    mappedArguments.put(argument, argumentsMap.get(argument.name()));
+                }
+            }
+
+            return attemptResolveAndRun(plugin, sender, arguments, options, args, method, command, mappedArguments, reducedNeededArguments);
+        });
+    }
+
+
+    private CommandExecutor buildLogic(JavaPlugin plugin, Command base, Argument[] orderedDefaultRunArguments, OptionTable defaultRunOptions, Method defaultMethod, SubcommandsContainer subcommandsContainer, ACommand aCommand) {
+        return (sender, command, label, args) -> {
+            if (!checkAccess(sender, base, new String[0])) return true;
+
+            if (subcommandsContainer.size() == 0 || args.length == 0) {
+                if (!checkRunCondition("default", aCommand, sender)) return true;
+
+                markRouted(base.name());
+                return attemptResolveAndRun(plugin, sender, orderedDefaultRunArguments, defaultRunOptions, args, defaultMethod, aCommand);
+            } else {
+                if (base.help() && args[0].equalsIgnoreCase("help") && !subcommandsContainer.getSubcommandMap().containsKey("help")
+                        && !subcommandsContainer.getGroupsMetaMap().containsKey("help")) {
+                    markRouted(base.name() + " help");
+
+                    try {
+                        helpPages.send(sender, base.name(), args.length > 1 ? Integer.parseInt(args[1]) : 1);
+                    } catch (NumberFormatException e) {
+                        messages.send(sender, Messages.INVALID_HELP_PAGE, args[1]);
+                    }
+                    return true;
+                }
+
+                SubcommandsContainer.Route route = subcommandsContainer.route(args);
+
+                if (route.getSubcommand() == null) {
+                    InvocationStages stages = currentStages();
+                    if (stages != null) stages.setOutcome(InvocationOutcome.UNKNOWN_SUBCOMMAND);
+
+                    int groupDepth = route.getGroupDepth();
+
+                    if (groupDepth >= args.length) {
+                        messages.send(sender, Messages.MISSING_SUBCOMMAND);
+                        return true;
+                    }
+
+                    String parent = String.join(" ", Arrays.copyOfRange(args, 0, groupDepth));
+                    List<String> closest = subcommandsContainer.findClosestLiterals(parent, args[groupDepth], 3);
+
+                    if (closest.isEmpty()) {
+                        messages.send(sender, Messages.UNKNOWN_SUBCOMMAND, args[groupDepth]);
+                    } else {
+                        messages.send(sender, Messages.UNKNOWN_SUBCOMMAND_SUGGESTIONS, args[groupDepth], String.join(", ", closest));
+                    }
+                    return true;
+                }
+
+                if (!checkPermissions(sender, route.getPermissions())) return true;
+
+                if (!checkRunCondition(route.getConditionName(), aCommand, sender)) return true;
+
+                markRouted(base.name() + " " + route.getConditionName());
+                return attemptResolveAndRun(plugin, sender, route.getSubcommand().getOrderedArguments(), route.getSubcommand().getOptions(), route.getRemaining(args), route.getSubcommand().getMethod(), aCommand);
+            }
+        };
+    }
+
+    private CommandExecutor recorded(String node, CommandExecutor executor) {
+        return (sender, cmd, label, args) -> {
+            InvocationLog log = invocationLog;
+            if (log == null) return executor.onCommand(sender, cmd, label, args);
+
+            InvocationStages stages = STAGES.get();
+            stages.begin(node);
+            InvocationOutcome outcome = InvocationOutcome.FAILED;
+
+            try {
+                boolean handled = executor.onCommand(sender, cmd, label, args);
+                outcome = stages.getOutcome();
+                return handled;
+            } finally {
+                log.append(false, outcome, sender instanceof Player player ? player.getUniqueId() : null, stages.getNode(), args, stages);
+            }
+        };
+    }
+
+    private TabCompleter recorded(String node, TabCompleter completer) {
+        return (sender, cmd, label, args) -> {
+            InvocationLog log = invocationLog;
+            if (log == null) return completer.onTabComplete(sender, cmd, label, args);
+
+            InvocationStages stages = STAGES.get();
+            stages.begin(node);
+            InvocationOutcome outcome = InvocationOutcome.FAILED;
+
+            try {
+                List<String> list = completer.onTabComplete(sender, cmd, label, args);
+                outcome = InvocationOutcome.SUCCESS;
+                return list;
+            } finally {
+                log.append(true, outcome, sender instanceof Player player ? player.getUniqueId() : null, stages.getNode(), args, stages);
+            }
+        };
+    }
+
+    /**
+     * @return the stages of the request being handled, null while not recording
+     */
+    private InvocationStages currentStages() {
+        return invocationLog == null ? null : STAGES.get();
+    }
+
+    private void markRouted(String node) {
+        InvocationStages stages = currentStages();
+        if (stages == null) return;
+
+        stages.setNode(node);
+        stages.markRouted();
+    }
+
+    private boolean checkAccess(CommandSender sender, Command base, String[] permissions) {
+        if (!(sender instanceof Player) && base.playerOnly()) {
+            messages.send(sender, Messages.ONLY_PLAYERS);
+            return false;
+        }
+
+        return checkPermissions(sender, base.permissions()) && checkPermissions(sender, permissions);
+    }
+
+    private boolean checkPermissions(CommandSender sender, String[] permissions) {
+        for (String permission : permissions) {
+            if (sender.hasPermission(permission)) continue;
+
+            messages.send(sender, Messages.NO_PERMISSION);
+            return false;
+        }
+        return true;
+    }
+
+    private TabCompleter buildTabCompletion(Command base, OptionTable defaultRunOptions, SubcommandsContainer subcommandsContainer, ACommand command) {
+        return (sender, command1, s, args) -> {
+
+            if (!(sender instanceof Player) && base.playerOnly()) {
+                return new ArrayList<>();
+            }
+
+            int deepest = 0;
+            if (subcommandsContainer.size() == 0) {
+                return getCompletions(args, defaultRunOptions, command, sender);
+            } else {
+
+                Map<Integer, List<Pair<String, SubcommandsContainer.ResolvedSubcommandGroupMeta>>> subcommandsMap = new HashMap<>();
+
+                for (String key : subcommandsContainer.getSubcommandMap().keySet()) {
+                    String[] splitName = key.split(" ");
+
+                    if (splitName.length > deepest) {
+                        deepest = splitName.length;
+                    }
+
+                    int i = 0;
+                    SubcommandsContainer.ResolvedSubcommand resolvedSubcommand = subcommandsContainer.getSubcommandMap().get(key);
+
+                    for (String split : splitName) {
+                        List<Pair<String, SubcommandsContainer.ResolvedSubcommandGroupMeta>> list = subcommandsMap.getOrDefault(i, new ArrayList<>());
+                        list.add(new Pair<>(split, (resolvedSubcommand instanceof SubcommandsContainer.GroupedResolvedSubcommand groupedResolvedSubcommand) ? groupedResolvedSubcommand.getGroup() : null));
+
+                        subcommandsMap.put(i, list);
+                        i++;
+                    }
+                }
+
+                int j = 0;
+                SubcommandsContainer.ResolvedSubcommandGroupMeta group = null;
+                SubcommandsContainer.ResolvedSubcommand subcommand = null;
+
+                StringBuilder groupFinder = new StringBuilder();
+
+                for (int i = 0; i < deepest; i++) {
+                    if (args.length <= i) break;
+
+                    SubcommandsContainer.ResolvedSubcommandGroupMeta searchGroup = subcommandsContainer.getGroupsMetaMap().get(groupFinder.toString());
+                    if (searchGroup != null) group = searchGroup;
+
+                    groupFinder.append(i == 0 ? "" : " ").append(args[i]);
+                    j = i;
+                }
+
+                StringBuilder cmdFinder = new StringBuilder();
+                String cmdFoundOn = "";
+
+                for (int i = 0; i <= deepest; i++) {
+                    if (args.length <= i) break;
+
+                    SubcommandsContainer.ResolvedSubcommand searchCommand = subcommandsContainer.getSubcommandMap().get(cmdFinder.toString());
+                    cmdFinder.append(i == 0 ? "" : " ").append(args[i]);
+
+                    if (searchCommand != null) {
+                        subcommand = searchCommand;
+                        cmdFoundOn = cmdFinder.toString();
+                    }
+
+                    j = i;
+                }
+
+                if (subcommand == null) {
+                    List<String> list = new ArrayList<>();
+
+                    if (subcommandsMap.containsKey(args.length - 1)) {
+                        for (Pair<String, SubcommandsContainer.ResolvedSubcommandGroupMeta> pair : subcommandsMap.get(args.length - 1)) {
+                            if (pair.getB() == null || args.length == 1) {
+                                list.add(pair.getA());
+                            } else {
+                                SubcommandsContainer.ResolvedSubcommandGroupMeta groupSub = pair.getB();
+
+                                if (group == null) continue;
+
+                                boolean nameEquals = groupSub.getName().equals(group.getName());
+                                if (!nameEquals) {
+                                    nameEquals = groupSub.getName().split(" ")[j - 1].equals(group.getName());
+                                }
+
+                                if (!nameEquals) continue;
+                                list.add(pair.getA());
+                            }
+                        }
+                    }
+
+                    return list;
+                }
+
+                j = cmdFoundOn.split(" ").length;
+                if (j % 2 == 0) j--;
+
+                String[] newArgs = new String[(args.length - j)];
+                System.arraycopy(args, j, newArgs, 0, args.length - j);
+
+                return getCompletions(newArgs, subcommand.getOptions(), command, sender);
+            }
+        };
+    }
+
+    private List<String> getCompletions(String[] args, OptionTable options, ACommand command, CommandSender sender) {
+        if (args.length == 0) return new ArrayList<>();
+
+        Argument[] positional = options.getPositional();
+
+        int position = 0;
+        int cursor = 0;
+        Argument argument;
+
+        while (true) {
+            if (cursor == args.length - 1 && options.isOptionPrefix(args[cursor])) {
+                return suggestOptions(options, args, cursor);
+            }
+
+            Argument option = options.find(args[cursor]);
+
+            if (option != null) {
+                cursor++;
+                if (OptionTable.isFlag(option)) continue;
+
+                int end = getSpanEnd(ArgumentParsers.of(option), args, cursor, sender);
+                if (end >= args.length) {
+                    argument = option;
+                    break;
+                }
+
+                cursor = end;
+                continue;
+            }
+
+            if (position >= positional.length) {
+                return cursor == args.length - 1 ? suggestOptions(options, args, cursor) : new ArrayList<>();
+            }
+
+            int end = getSpanEnd(ArgumentParsers.of(positional[position]), args, cursor, sender);
+            if (end >= args.length) {
+                argument = positional[position];
+                break;
+            }
+
+            cursor = end;
+            // variadic arguments stay in place so every element gets the same completions
+            if (!positional[position].variadic()) position++;
+        }
+
+        if (argument.disableCompletions()) return new ArrayList<>();
+
+        ArgumentParser<Object> parser = ArgumentParsers.of(argument);
+        Suggestions suggestions = new Suggestions(args, cursor);
+
+        // an option's value is narrowed on its own, apart from the positional arguments of the node
+        Object node = argument.option() ? argument : options;
+        UUID owner = sender instanceof Player player ? player.getUniqueId() : null;
+        // only settled results are stored, so a future completer is never narrowed from a stale or pending list
+        Boolean narrowed = completionCache.narrow(owner, node, suggestions);
+        boolean completed;
+
+        if (narrowed != null) {
+            completed = narrowed;
+        } else {
+            completed = generateArgumentInfo(argument, parser, command, sender, suggestions);
+            // a cut list can't be narrowed, candidates past the limit may match the longer prefix
+            if (suggestions.getList().size() < suggestionLimit) completionCache.store(owner, node, suggestions, completed);
+        }
+
+        if (!completed || !argument.completerSuggestionsRequired()) {
+            parser.suggest(new ParseContext(sender, command), argument, suggestions);
+        }
+
+        return suggestions.getList();
+    }
+
+    /**
+     * @return the names of the options not given before the cursor, matching the token being typed
+     */
+    private static List<String> suggestOptions(OptionTable options, String[] args, int cursor) {
+        Suggestions suggestions = new Suggestions(args, cursor);
+        Set<Argument> given = new HashSet<>();
+
+        for (int i = 0; i < cursor; i++) {
+            Argument option = options.find(args[i]);
+            if (option != null) given.add(option);
+        }
+
+        for (String name : options.getNames()) {
+            if (!given.contains(options.find(name))) suggestions.add(name);
+        }
+
+        return suggestions.getList();
+    }
+
+    /**
+     * @return the index after the last token of the argument span starting at the cursor
+     */
+    private int getSpanEnd(ArgumentParser<?> parser, String[] args, int cursor, CommandSender sender) {
+        int arity = parser.getArity(sender);
+
+        if (arity == ArgumentParser.REMAINING_ARITY) return args.length;
+        if (arity != ArgumentParser.VARIABLE_ARITY) return cursor + arity;
+        if (!ArgumentReader.isQuoteStart(args[cursor])) return cursor + 1;
+
+        int end = ArgumentReader.findQuoteEnd(args, cursor);
+        return end == -1 ? args.length : end + 1;
+    }
+
+    /**
+     * Adds the completer's values matching the tokens already typed inside the span, the completer is only read
+     * until {@link #suggestionLimit} suggestions were added
+     *
+     * @return whether the completer supplied anything at all
+     */
+    private <T extends CommandSender> boolean generateArgumentInfo(Argument argument, ArgumentParser<Object> parser, ACommand aCommand, T sender, Suggestions suggestions) {
+        int index = suggestions.getIndex();
+        boolean supplied = false;
+
+        try (Stream<?> rawCompletions = openCompletions(argument, aCommand, sender, suggestions)) {
+            Iterator<?> iterator = rawCompletions.iterator();
+
+            loop:
+            while (suggestions.getList().size() < suggestionLimit && iterator.hasNext()) {
+                String converted = parser.stringify(sender, iterator.next());
+                supplied = true;
+
+                if (index == 0) {
+                    suggestions.add(converted);
+                    continue;
+                }
+
+                String[] convertedSplit = converted.split(" ");
+                if (index >= convertedSplit.length) continue;
+
+                for (int i = 0; i < index; i++) {
+                    if (!convertedSplit[i].equals(suggestions.getToken(i))) continue loop;
+                }
+
+                suggestions.add(convertedSplit[index]);
+            }
+        }
+
+        suggestions.getList().sort(null);
+        return supplied;
+    }
+
+
+    /**
+     * @return the completer's candidates, lazily read for completers returning a stream or an iterator, futures
+     * are waited for at most the argument's {@link Argument#completerDeadline()}, the suggestions if any are marked
+     * provisional when a future's result is stale or still loading
+     */
+    private <T extends CommandSender> Stream<?> openCompletions(Argument argument, ACommand aCommand, T sender, Suggestions suggestions) {
+        Member field = SubcommandsContainer.findCompleter(argument, aCommand.getClass());
+
+        if (field == null) {
+            return Stream.empty();
+        }
+
+        if (argument.type().equals(ArgumentType.ENUM)) {
+            Class<?> enumClass = extractClazz(aCommand, field);
+
+            if (enumClass == null) {
+                logger.severe("Got a null enum class from argument: " + argument.name());
+                return Stream.empty();
+            }
+
+            return Stream.of(enumClass.getEnumConstants());
+        }
+
+        if (futureCompleters.computeIfAbsent(field, CommandManager::isFutureCompleter)) {
+            Object owner = sender instanceof Player player ? player.getUniqueId() : sender.getName();
+
+            AsyncCompletions.Result result = asyncCompletions.get(field, owner, () -> ((CompletableFuture<?>) invokeCompleter(field, aCommand, sender)).whenComplete((value, throwable) -> {
+                if (throwable != null) logger.warning("Completer of argument: " + argument.name() + " failed (" + throwable.getMessage() + ")");
+            }), argument.completerDeadline(), argument.completerMaxAge());
+
+            if (!result.isSettled() && suggestions != null) suggestions.markProvisional();
+            return result.getCandidates().stream();
+        }
+
+        return CompletionSources.open(invokeCompleter(field, aCommand, sender));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends CommandSender> Object invokeCompleter(Member field, ACommand aCommand, T sender) {
+        if (field instanceof Method method) {
+            try {
+                method.setAccessible(true);
+                return ((Function<T, ?>) method.invoke(aCommand)).apply((sender));
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new RuntimeException(e);
+            }
+        } else if (field instanceof Field field1) {
+            try {
+                field1.setAccessible(true);
+                return ((Function<T, ?>) field1.get(aCommand)).apply((sender));
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        return null;
+    }
+
+    private static boolean isFutureCompleter(Member field) {
+        Type type = field instanceof Method method ? method.getGenericReturnType() : ((Field) field).getGenericType();
+        if (!(type instanceof ParameterizedType function)) return false;
+
+        Type result = function.getActualTypeArguments()[1];
+        return result instanceof ParameterizedType parameterized && CompletionSources.isFuture((Class<?>) parameterized.getRawType());
+    }
+
+    /**
+     * Returned instead of the parameters when a required argument is missing, so Bukkit still shows the usage
+     */
+    private static final Object[] MISSING_ARGUMENTS = new Object[0];
+
+    private boolean attemptResolveAndRun(JavaPlugin plugin, CommandSender sender, Argument[] arguments, OptionTable options, String[] args, Method method, ACommand command) {
+        return attemptResolveAndRun(plugin, sender, arguments, options, args, method, command, Map.of(), new Argument[0]);
+    }
+
+    private boolean attemptResolveAndRun(JavaPlugin plugin, CommandSender sender, Argument[] arguments, OptionTable options, String[] args, Method method, ACommand command, Map<Argument, Object> objectMap, Argument[] reducedNeededArguments) {
+        Object[] objects = resolveArguments(sender, arguments, options, args, command, objectMap, reducedNeededArguments);
+        if (objects == null) return true;
+        if (objects == MISSING_ARGUMENTS) return false;
+
+        invoke(plugin, sender, method, arguments, command, objects);
+        return true;
+    }
+
+    /**
+     * Parses the tokens into the method's parameters, anything going wrong is reported to the sender
+     *
+     * @return the parameters, null or {@link #MISSING_ARGUMENTS} if the method must not run
+     */
+    private Object[] resolveArguments(CommandSender sender, Argument[] arguments, OptionTable options, String[] args, ACommand command, Map<Argument, Object> objectMap, Argument[] reducedNeededArguments) {
+        Object[] objects = parseArguments(sender, arguments, options, args, command, objectMap, reducedNeededArguments);
+        InvocationStages stages = currentStages();
+
+        if (stages != null) {
+            if (objects == null || objects == MISSING_ARGUMENTS) {
+                stages.setOutcome(InvocationOutcome.INVALID_ARGUMENTS);
+            } else {
+                stages.markParsed();
+            }
+        }
+        return objects;
+    }
+
+    private Object[] parseArguments(CommandSender sender, Argument[] arguments, OptionTable options, String[] args, ACommand command, Map<Argument, Object> objectMap, Argument[] reducedNeededArguments) {
+        Object[] objects = new Object[arguments.length + 1];
+        objects[0] = sender;
+
+        for (Map.Entry<Argument, Object> entry : objectMap.entrySet()) {
+            objects[indexOf(arguments, entry.getKey()) + 1] = entry.getValue();
+        }
+
+        ArgumentReader reader = new ArgumentReader(args);
+        ParseContext context = new ParseContext(sender, command);
+
+        for (Argument argument : objectMap.isEmpty() ? arguments : reducedNeededArguments) {
+            if (argument.option()) continue;
+            if (!readOptions(sender, arguments, options, reader, context, command, objects)) return null;
+
+            if (!reader.hasNext()) {
+                if (!argument.required()) {
+                    if (argument.variadic()) objects[indexOf(arguments, argument) + 1] = new ArrayList<>(0);
+                    continue;
+                }
+
+                messages.send(sender, Messages.MISSING_ARGUMENT, argument.name());
+                return MISSING_ARGUMENTS;
+            }
+
+            Object object;
+            ArgumentParser<Object> parser = ArgumentParsers.of(argument);
+
+            try {
+                if (argument.variadic()) {
+                    List<Object> elements = new ArrayList<>();
+
+                    while (reader.hasNext()) {
+                        if (!readOptions(sender, arguments, options, reader, context, command, objects)) return null;
+                        if (!reader.hasNext()) break;
+
+                        Object element = parser.parse(context, argument, reader);
+                        ArgumentConstraints.check(argument, element);
+                        elements.add(element);
+                    }
+
+                    object = elements;
+                } else {
+                    object = parser.parse(context, argument, reader);
+                    ArgumentConstraints.check(argument, object);
+                }
+            } catch (ArgumentParseException e) {
+                messages.send(sender, e.getKey(), e.getValues());
+                return null;
+            }
+
+            if (argument.required() && object == null) {
+                messages.send(sender, Messages.MISSING_ARGUMENT, argument.name());
+                return MISSING_ARGUMENTS;
+            }
+
+            if (!isSuggested(argument, command, sender, object)) return null;
+
+            objects[indexOf(arguments, argument) + 1] = object;
+        }
+
+        if (!readOptions(sender, arguments, options, reader, context, command, objects)) return null;
+
+        for (Argument option : options.getOptions()) {
+            int index = indexOf(arguments, option) + 1;
+            if (OptionTable.isFlag(option) && objects[index] == null) objects[index] = Boolean.FALSE;
+        }
+
+        return objects;
+    }
+
+    /**
+     * Consumes the options at the reader's cursor, a flag is set by its name alone and any other option parses
+     * the tokens after it
+     *
+     * @return false if one of them was invalid, the sender was told why
+     */
+    private boolean readOptions(CommandSender sender, Argument[] arguments, OptionTable options, ArgumentReader reader, ParseContext context, ACommand command, Object[] objects) {
+        if (!options.hasOptions()) return true;
+
+        Argument option;
+
+        while (reader.hasNext() && (option = options.find(reader.peek())) != null) {
+            reader.next();
+            Object value = Boolean.TRUE;
+
+            if (!OptionTable.isFlag(option)) {
+                if (!reader.hasNext()) {
+                    messages.send(sender, Messages.MISSING_ARGUMENT, option.name());
+                    return false;
+                }
+
+                try {
+                    value = ArgumentParsers.of(option).parse(context, option, reader);
+                    ArgumentConstraints.check(option, value);
+                } catch (ArgumentParseException e) {
+                    messages.send(sender, e.getKey(), e.getValues());
+                    return false;
+                }
+
+                if (!isSuggested(option, command, sender, value)) return false;
+            }
+
+            objects[indexOf(arguments, option) + 1] = value;
+        }
+
+        return true;
+    }
+
+    /**
+     * @return whether the value is among the argument's completions when it requires so, the sender is told otherwise.
+     * A future completer that didn't settle in time can't vouch for the value, so it is rejected until it does
+     */
+    private boolean isSuggested(Argument argument, ACommand command, CommandSender sender, Object object) {
+        if (!argument.completerSuggestionsRequired() || argument.type() == ArgumentType.ENUM) return true;
+
+        Suggestions settledness = new Suggestions(new String[]{""}, 0);
+
+        try (Stream<?> completions = openCompletions(argument, command, sender, settledness)) {
+            if (settledness.isProvisional()) {
+                messages.send(sender, Messages.SUGGESTIONS_LOADING, argument.name());
+                return false;
+            }
+
+            Iterator<?> iterator = completions.iterator();
+            if (!iterator.hasNext()) return true;
+
+            // read only until every value was seen
+            Set<Object> missing = new HashSet<>(argument.variadic() ? (List<?>) object : Collections.singletonList(object));
+            while (!missing.isEmpty() && iterator.hasNext()) missing.remove(iterator.next());
+
+            if (missing.isEmpty()) return true;
+        }
+
+        messages.send(sender, Messages.INVALID_ARGUMENT, argument.name());
+        return false;
+    }
+
+    /**
+     * Runs the method right away, or hands it to the {@link #commandScheduler} if it has an execution context.
+     * Invocations the scheduler doesn't run inline are recorded as {@link InvocationOutcome#DEFERRED}.
+     */
+    private void invoke(JavaPlugin plugin, CommandSender sender, Method method, Argument[] arguments, ACommand command, Object[] objects) {
+        ExecutionTarget target = executionTargets.get(method);
+        InvocationStages stages = currentStages();
+
+        if (target == null) {
+            invokeNow(plugin, sender, method, arguments, command, objects, (runnable, retired) -> scheduleForSender(plugin, sender, runnable, retired));
+            if (stages != null) stages.markInvoked();
+            return;
+        }
+
+        Thread caller = Thread.currentThread();
+        AtomicBoolean inline = new AtomicBoolean();
+
+        ContextExecutor context = (runnable, retired) -> schedule(plugin, sender, target, objects, runnable, retired);
+        context.execute(() -> {
+            if (Thread.currentThread() == caller) inline.set(true);
+            invokeNow(plugin, sender, method, arguments, command, objects, context);
+        }, () -> {
+            logger.info("Invocation of command: " + command.getClass().getAnnotation(Command.class).name() + " by: " + sender.getName()
+                    + " was dropped, the entity it should run for was removed first");
+            messages.send(sender, Messages.TARGET_REMOVED);
+        });
+
+        if (stages == null) return;
+
+        if (inline.get()) {
+            stages.markInvoked();
+        } else {
+            stages.markDeferred();
+        }
+    }
+
+    private void schedule(JavaPlugin plugin, CommandSender sender, ExecutionTarget target, Object[] objects, Runnable runnable, Runnable retired) {
+        switch (target.getContext()) {
+            case GLOBAL -> commandScheduler.runGlobal(plugin, runnable);
+            case ARGUMENT -> {
+                Object object = objects[target.getArgumentIndex() + 1];
+
+                if (object instanceof List<?> list && !list.isEmpty()) object = list.get(0);
+                if (object instanceof OfflinePlayer offlinePlayer && !(object instanceof Player)) object = offlinePlayer.getPlayer();
+
+                if (object instanceof Entity entity) {
+                    commandScheduler.runFor(plugin, entity, runnable, retired);
+                } else if (object instanceof Location location) {
+                    commandScheduler.runAt(plugin, location, runnable);
+                } else {
+                    scheduleForSender(plugin, sender, runnable, retired);
+                }
+            }
+            default -> scheduleForSender(plugin, sender, runnable, retired);
+        }
+    }
+
+    private void scheduleForSender(JavaPlugin plugin, CommandSender sender, Runnable runnable, Runnable retired) {
+        if (sender instanceof Entity entity) {
+            commandScheduler.runFor(plugin, entity, runnable, retired);
+        } else if (sender instanceof BlockCommandSender blockSender) {
+            commandScheduler.runAt(plugin, blockSender.getBlock().getLocation(), runnable);
+        } else {
+            commandScheduler.runGlobal(plugin, runnable);
+        }
+    }
+
+    /**
+     * @param context runs work in the context the method ran in, sliced tasks it returns are driven through it
+     *                unless the server has a single main thread
+     */
+    private void invokeNow(JavaPlugin plugin, CommandSender sender, Method method, Argument[] arguments, ACommand command, Object[] objects, ContextExecutor context) {
+        String auditPath = auditLog == null ? null : auditedPaths.get(method);
+        Object result;
+
+        InterceptorRegistry.Chain chain = interceptors.get(method);
+
+        try {
+            result = chain == null ? method.invoke(command, toParameters(method, objects))
+                    : chain.getTarget().invoke(new Invocation(sender, command, chain.getPath(), method, arguments, objects));
+        } catch (Exception e) {
+            if (auditPath != null) audit(sender, auditPath, arguments, objects, InvocationOutcome.FAILED);
+            throw new RuntimeException(e);
+        }
+
+        if (auditPath != null) audit(sender, auditPath, arguments, objects, InvocationOutcome.SUCCESS);
+
+        SlicedTask task = result instanceof SlicedTask slicedTask ? slicedTask
+                : result instanceof Iterator<?> iterator ? SlicedTask.of(iterator) : null;
+        if (task == null) return;
+
+        String name = command.getClass().getAnnotation(Command.class).name();
+
+        if (commandScheduler.isSingleThreaded()) {
+            taskScheduler.submit(plugin, name, sender, task);
+        } else {
+            // regionized servers have no main thread to tick the task, its slices stay where the command ran
+            taskScheduler.submit(name, sender, task, context);
+        }
+    }
+
+    /**
+     * @return the parsed values with variadic lists turned into arrays where the method takes one
+     */
+    private static Object[] toParameters(Method method, Object[] objects) {
+        Object[] parameters = objects;
+        Class<?>[] types = method.getParameterTypes();
+
+        for (int i = 1; i < objects.length && i < types.length; i++) {
+            if (!(objects[i] instanceof List<?> list) || !types[i].isArray()) continue;
+
+            if (parameters == objects) parameters = objects.clone();
+
+            Object array = Array.newInstance(types[i].getComponentType(), list.size());
+            for (int j = 0; j < list.size(); j++) Array.set(array, j, list.get(j));
+            parameters[i] = array;
+        }
+
+        return parameters;
+    }
+
+    /**
+     * Records the invocation, never throws so a command that ran is never reported as failed because of its record
+     */
+    private void audit(CommandSender sender, String path, Argument[] arguments, Object[] objects, InvocationOutcome outcome) {
+        AuditLog log = auditLog;
+        if (log == null) return;
+
+        try {
+            String[] names = new String[arguments.length];
+            String[] values = new String[arguments.length];
+
+            for (int i = 0; i < arguments.length; i++) {
+                Object object = objects[i + 1];
+                Argument argument = arguments[i];
+
+                names[i] = argument.name();
+                ArgumentParser<Object> parser = ArgumentParsers.of(argument);
+
+                if (object == null) {
+                    values[i] = null;
+                } else if (argument.variadic()) {
+                    values[i] = ((List<?>) object).stream().map(element -> stringify(sender, path, argument, parser, element)).collect(Collectors.joining(" "));
+                } else {
+                    values[i] = stringify(sender, path, argument, parser, object);
+                }
+            }
+
+            log.offer(new AuditRecord(System.currentTimeMillis(), sender.getName(), sender instanceof Player player ? player.getUniqueId() : null,
+                    path, names, values, outcome));
+        } catch (RuntimeException e) {
+            logger.log(Level.SEVERE, "Couldn't audit invocation of: " + path, e);
+        }
+    }
+
+    /**
+     * @return the value's string form, or {@link #UNPRINTABLE_VALUE} if its parser fails to stringify it
+     */
+    private String stringify(CommandSender sender, String path, Argument argument, ArgumentParser<Object> parser, Object value) {
+        try {
+            return parser.stringify(sender, value);
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "Couldn't stringify argument: " + argument.name() + " of: " + path + " for the audit log", e);
+            return UNPRINTABLE_VALUE;
+        }
+    }
+
+    private static int indexOf(Argument[] arguments, Argument argument) {
+        for (int i = 0; i < arguments.length; i++) {
+            if (arguments[i] == argument) return i;
+        }
+        return -1;
+    }
+
+
+    private Argument[] orderArguments(Argument[] arguments) {
+        return getArguments(arguments);
+    }
+
+    @NotNull
+    public static Argument[] getArguments(Argument[] arguments) {
+        ArrayList<Argument> sorted = new ArrayList<>();
+        ArrayList<Argument> sortedLast = new ArrayList<>();
+
+        for (Argument argument : arguments) {
+            if (argument.required()) {
+                sorted.add(argument);
+            } else {
+                sortedLast.add(argument);
+            }
+        }
+
+        sorted.addAll(sortedLast);
+        sortedLast.clear();
+        return sorted.toArray(new Argument[0]);
+    }
+
+
+    public static boolean verifySignature(Argument[] arguments, Method method, String name, boolean playerOnly, Logger logger, ACommand command) {
+        if (method.getReturnType() != void.class && method.getReturnType() != SlicedTask.class && method.getReturnType() != Iterator.class) {
+            logger.severe(getInvalidSignature(name, "method must return void, a SlicedTask or an Iterator"));
+            return false;
+        }
+
+        if (method.getParameterTypes().length < arguments.length + 1) {
+            logger.severe(getInvalidSignature(name, "method types must be: " + (arguments.length + 1) + ", got: " + method.getParameterTypes().length));
+            return false;
+        }
+
+        if (!method.getParameterTypes()[0].equals(Player.class) && !method.getParameterTypes()[0].equals(CommandSender.class)) {
+            logger.severe(getInvalidSignature(name, "first parameter is neither a Player or a CommandSender"));
+            return false;
+        }
+
+        if (method.getParameterTypes()[0].equals(Player.class) && !playerOnly) {
+            logger.severe(getInvalidSignature(name, "non-player-only commands cannot supply Player type"));
+            return false;
+        }
+
+        int index = 1;
+
+        for (Argument argument : arguments) {
+            Class<?> clazz = ArgumentParsers.of(argument).getType();
+
+            if (argument.type().equals(ArgumentType.ENUM)) {
+                Member field = SubcommandsContainer.findCompleter(argument, command.getClass());
+
+                clazz = extractClazz(command, field);
+            }
+
+            if (argument.variadic()) {
+                if (!isVariadicParameter(method, index, clazz)) {
+                    logger.severe(getInvalidSignature(name, "type mismatch at argument: " + argument.name() + ", expected: List<" + clazz.getSimpleName()
+                            + "> or " + clazz.getSimpleName() + "[] got: " + method.getGenericParameterTypes()[index].getTypeName()));
+                    return false;
+                }
+            } else if (!method.getParameterTypes()[index].equals(clazz)) {
+                logger.severe(getInvalidSignature(name, "type mismatch at argument: " + argument.name() + ", expected: " + clazz.getSimpleName() + " got: " + method.getParameterTypes()[index].getSimpleName()));
+                return false;
+            }
+            index++;
+        }
+        return true;
+    }
+
+    /**
+     * @return whether the parameter is an array of the element type or a {@code List} of it, raw or wildcard lists are accepted
+     */
+    private static boolean isVariadicParameter(Method method, int index, Class<?> element) {
+        Class<?> type = method.getParameterTypes()[index];
+
+        if (type.isArray()) return type.getComponentType().equals(element);
+        if (!type.equals(List.class)) return false;
+
+        if (!(method.getGenericParameterTypes()[index] instanceof ParameterizedType parameterized)) return true;
+
+        Type argument = parameterized.getActualTypeArguments()[0];
+        if (argument instanceof WildcardType) return true;
+        if (argument instanceof ParameterizedType parameterizedArgument) argument = parameterizedArgument.getRawType();
+
+        return argument.equals(element);
+    }
+
+    public static Class<?> extractClazz(ACommand command, Member field) {
+        Class<?> enumClass = null;
+        if (field instanceof Method methodA) {
+            try {
+                methodA.setAccessible(true);
+                enumClass = (Class<?>) methodA.invoke(command);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new RuntimeException(e);
+            }
+        } else if (field instanceof Field field1) {
+            try {
+                field1.setAccessible(true);
+                enumClass = (Class<?>) field1.get(command);
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        return enumClass;
+    }
+
+    private static boolean isLastPositional(Argument[] arguments, int index) {
+        for (int i = index + 1; i < arguments.length; i++) {
+            if (!arguments[i].option()) return false;
+        }
+        return true;
+    }
+
+    public static String getInvalidSignature(String name, String reason) {
+        return "Invalid signature of: " + name + " (" + reason + ")";
+    }
+
+    public static boolean verifyArguments(Argument[] arguments, Class<? extends ACommand> command, String name, boolean playerOnly, Logger logger) {
+        for (Argument argument : arguments) {
+            if (ArgumentParsers.of(argument) == null) {
+                logger.severe(getInvalidSignature("argument: " + argument.name() + " from: " + name, "no parser registered under: " + argument.parser()));
+                return false;
+            }
+        }
+
+        Argument[] orderedArguments = getArguments(arguments);
+
+        for (int i = 0; i < orderedArguments.length; i++) {
+            Argument argument = orderedArguments[i];
+            boolean greedy = ArgumentParsers.of(argument).getArity(null) == ArgumentParser.REMAINING_ARITY;
+
+            if (argument.variadic() && greedy) {
+                logger.severe(getInvalidSignature("argument: " + argument.name() + " from: " + name, "greedy arguments cannot be variadic"));
+                return false;
+            }
+
+            if (argument.option()) {
+                if (argument.variadic() || greedy) {
+                    logger.severe(getInvalidSignature("argument: " + argument.name() + " from: " + name, "options cannot be variadic or greedy"));
+                    return false;
+                }
+                continue;
+            }
+
+            if ((argument.variadic() || greedy) && !isLastPositional(orderedArguments, i)) {
+                logger.severe(getInvalidSignature("argument: " + argument.name() + " from: " + name, "only the last argument may be variadic or greedy"));
+                return false;
+            }
+        }
+
+        Set<String> optionNames = new HashSet<>();
+
+        for (Argument argument : arguments) {
+            if (!argument.option()) {
+                if (argument.alias() != '\0') {
+                    logger.severe(getInvalidSignature("argument: " + argument.name() + " from: " + name, "only options can have an alias"));
+                    return false;
+                }
+                continue;
+            }
+
+            if (argument.name().isEmpty() || argument.name().startsWith("-") || argument.name().contains(" ")) {
+                logger.severe(getInvalidSignature("argument: " + argument.name() + " from: " + name, "option names cannot be empty, start with a dash or contain spaces"));
+                return false;
+            }
+
+            if (argument.alias() != '\0' && !Character.isLetter(argument.alias())) {
+                logger.severe(getInvalidSignature("argument: " + argument.name() + " from: " + name, "option aliases must be letters"));
+                return false;
+            }
+
+            if (!optionNames.add("--" + argument.name()) || (argument.alias() != '\0' && !optionNames.add("-" + argument.alias()))) {
+                logger.severe(getInvalidSignature("argument: " + argument.name() + " from: " + name, "option name or alias is already taken"));
+                return false;
+            }
+        }
+
+        for (Argument argument : arguments) {
+
+            if (!ArgumentConstraints.verify(argument, name, logger)) return false;
+
+            Member field = null;
+            if (argument.completer().isBlank() || argument.completer().isEmpty()) {
+                field = attemptFindCompleter(command, argument.name());
+            } else {
+                field = attemptFindCompleter(command, argument.completer());
+
+                if (field == null && argument.completer().startsWith("field=")) {
+                    try {
+                        field = command.getDeclaredField(argument.completer().replaceFirst("field=", ""));
+                    } catch (NoSuchFieldException ignored) {
+                    }
+                } else if (field == null && argument.completer().startsWith("method=")) {
+                    try {
+                        field = command.getDeclaredMethod(argument.completer().replaceFirst("method=", ""));
+                    } catch (NoSuchMethodException ignored) {
+                    }
+                }
+            }
+            if (field == null) {
+                if (argument.type().equals(ArgumentType.ENUM)) {
+                    logger.severe("Enum arguments must have a class field / method to identify it");
+                    return false;
+                }
+                logger.warning("Couldn't resolve any completer for argument: " + argument.completer() + " from: " + name);
+                continue;
+            }
+
+            if (field instanceof Method method) {
+                if (method.getParameterTypes().length != 0) {
+                    logger.severe(getInvalidSignature("argument: " + argument.name() + " from: " + name, "no parameters should be added to the completer getter method"));
+                    return false;
+                }
+
+                if (argument.type().equals(ArgumentType.ENUM)) {
+                    try {
+                        Class<?> clazz = (Class<?>) ((ParameterizedType) method.getGenericReturnType()).getActualTypeArguments()[0];
+                        if (!clazz.isEnum()) {
+                            logger.severe(getInvalidSignature("argument: " + argument.name() + " from: " + name, "enum arguments must set its completer as a class not a function"));
+                            return false;
+                        }
+                    } catch (Exception e) {
+                        logger.severe(getInvalidSignature("argument: " + argument.name() + " from: " + name, "enum completer is not a class!"));
+                        return false;
+                    }
+                    continue;
+                }
+
+                if (!method.getReturnType().equals(Function.class)) {
+                    logger.severe(getInvalidSignature("argument: " + argument.name() + " from: " + name, "getter method doesn't return a Function"));
+                    return false;
+                }
+
+                ParameterizedType type = (ParameterizedType) method.getGenericReturnType();
+
+                if (check(name, playerOnly, argument, type, logger)) return false;
+            } else if (field instanceof Field field1) {
+
+                if (argument.type().equals(ArgumentType.ENUM)) {
+                    try {
+
+                        Class<?> clazz = (Class<?>) ((ParameterizedType) field1.getGenericType()).getActualTypeArguments()[0];
+
+                        if (!clazz.isEnum()) {
+                            logger.severe(getInvalidSignature("argument: " + argument.name() + " from: " + name, "enum arguments must set its completer as a class not a function"));
+                            return false;
+                        }
+                    } catch (Exception e) {
+                        e.printStackTrace();
+                        logger.severe(getInvalidSignature("argument: " + argument.name() + " from: " + name, "enum completer is not a class!"));
+                        return false;
+                    }
+                    continue;
+                }
+
+
+                if (!field1.getType().equals(Function.class)) {
+                    logger.severe(getInvalidSignature("argument: " + argument.name() + " from: " + name, "getter method doesn't return a Function"));
+                    return false;
+                }
+
+                ParameterizedType type = (ParameterizedType) field1.getGenericType();
+
+                if (check(name, playerOnly, argument, type, logger)) return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean check(String name, boolean playerOnly, Argument argument, ParameterizedType type, Logger logger) {
+
+        if (argument.type().equals(ArgumentType.BOOLEAN)) {
+            logger.severe(getInvalidSignature("argument: " + argument.name() + " from: " + name, "a boolean argument cannot have completions"));
+            return true;
+        }
+
+        Class<?> firstClass = (Class<?>) type.getActualTypeArguments()[0];
+        ParameterizedType type1 = ((ParameterizedType) type.getActualTypeArguments()[1]);
+
+        if (CompletionSources.isFuture((Class<?>) type1.getRawType())) {
+            if (!(type1.getActualTypeArguments()[0] instanceof ParameterizedType result)) {
+                logger.severe(getInvalidSignature("argument: " + argument.name() + " from: " + name, "completer future has no result type!"));
+                return true;
+            }
+            type1 = result;
+        }
+
+        Class<?> secondClass = (Class<?>) type1.getRawType();
+
+        if (!firstClass.equals(Player.class) && !firstClass.equals(CommandSender.class)) {
+            logger.severe(getInvalidSignature("argument: " + argument.name() + " from: " + name, "first parameter is neither a Player or a CommandSender"));
+            return true;
+        }
+
+        if (firstClass.equals(Player.class) && !playerOnly) {
+            logger.severe(getInvalidSignature("argument: " + argument.name() + " from: " + name, "non-player-only commands cannot supply Player type"));
+            return true;
+        }
+
+        if (!CompletionSources.isSupported(secondClass)) {
+            logger.severe(getInvalidSignature("argument: " + argument.name() + " from: " + name, "second parameter is not a List, Stream, Iterator or a CompletableFuture of one!"));
+            return true;
+        }
+
+        Class<?> completionType = ArgumentParsers.of(argument).getCompletionType();
+
+        if (!type1.getActualTypeArguments()[0].equals(completionType)) {
+            logger.severe("Completer type mismatch on argument: " + argument.name() + "(expected: " + completionType.getSimpleName() + ", got: " + ((Class<?>) type1.getActualTypeArguments()[0]).getSimpleName() + ")");
+            return true;
+        }
+
+        return false;
+    }
+
+    private static Member attemptFindCompleter(Class<? extends ACommand> command, String search) {
+        try {
+            return command.getDeclaredField(search);
+        } catch (NoSuchFieldException e) {
+            try {
+                return command.getDeclaredMethod(search);
+            } catch (NoSuchMethodException ex) {
+                return null;
+            }
+        }
+    }
+}
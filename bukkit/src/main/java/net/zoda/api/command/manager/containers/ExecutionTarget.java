@@ -0,0 +1,24 @@
+package net.zoda.api.command.manager.containers;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import net.zoda.api.command.ExecuteOn;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * The {@link ExecuteOn} context of a method, resolved against its ordered arguments
+ */
+@RequiredArgsConstructor
+public class ExecutionTarget {
+
+    @Getter
+    private final ExecuteOn.Context context;
+    /**
+     * Index into the ordered arguments, only used with {@link ExecuteOn.Context#ARGUMENT}
+     */
+    @Getter
+    private final int argumentIndex;
+}
@@ -0,0 +1,42 @@
+package net.zoda.api.command.manager.containers;
+
+import java.util.function.Supplier;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Materializes a lazily registered command exactly once, whichever thread asks first.
+ * A command that fails to materialize is not retried, the reason was already logged.
+ */
+public class LazyCommand {
+
+    private final Supplier<MaterializedCommand> factory;
+
+    private volatile MaterializedCommand materialized;
+    private volatile boolean attempted;
+
+    public LazyCommand(Supplier<MaterializedCommand> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * @return the materialized command, or null if it's invalid
+     */
+    public MaterializedCommand get() {
+        if (attempted) return materialized;
+
+        synchronized (this) {
+            if (!attempted) {
+                materialized = factory.get();
+                attempted = true;
+            }
+            return materialized;
+        }
+    }
+
+    public boolean isMaterialized() {
+        return materialized != null;
+    }
+}
@@ -0,0 +1,37 @@
+package net.zoda.api.command.manager.containers;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import net.zoda.api.command.utils.Pair;
+import org.bukkit.command.CommandExecutor;
+import org.bukkit.command.TabCompleter;
+
+import java.util.Map;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * The executors of a verified command and of its shortcuts, ready to be wrapped for the command map
+ */
+@RequiredArgsConstructor
+public class MaterializedCommand {
+
+    @Getter
+    private final CommandExecutor executor;
+    @Getter
+    private final TabCompleter tabCompleter;
+    /**
+     * Executor and tab completer of each shortcut by name
+     */
+    @Getter
+    private final Map<String, Pair<CommandExecutor, TabCompleter>> shortcuts;
+    @Getter
+    private final ResolvedCommand resolvedCommand;
+    /**
+     * Whether any argument needs the spatial index, which must be started from the main thread
+     */
+    @Getter
+    private final boolean usesSelectors;
+}
@@ -0,0 +1,37 @@
+package net.zoda.api.command.manager.containers;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import net.zoda.api.command.ACommand;
+import net.zoda.api.command.Command;
+import net.zoda.api.command.argument.Argument;
+import net.zoda.api.command.argument.OptionTable;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.lang.reflect.Method;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Everything a registered command resolved to, kept so other features can route into it without going through Bukkit
+ */
+@RequiredArgsConstructor
+public class ResolvedCommand {
+
+    @Getter
+    private final Command base;
+    @Getter
+    private final ACommand command;
+    @Getter
+    private final JavaPlugin plugin;
+    @Getter
+    private final Method defaultRunMethod;
+    @Getter
+    private final Argument[] orderedDefaultRunArguments;
+    @Getter
+    private final OptionTable defaultRunOptions;
+    @Getter
+    private final SubcommandsContainer subcommandsContainer;
+}
@@ -0,0 +1,91 @@
+package net.zoda.api.command.manager.containers;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import net.zoda.api.command.argument.Argument;
+import net.zoda.api.command.argument.OptionTable;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * A macro whose steps were routed and, where possible, parsed when it was registered
+ */
+@RequiredArgsConstructor
+public class ResolvedMacro {
+
+    @Getter
+    private final String name;
+    @Getter
+    private final String[] permissions;
+    /**
+     * Placeholder names, the macro's n-th argument fills the n-th one
+     */
+    @Getter
+    private final String[] placeholders;
+    /**
+     * One-argument node each placeholder is completed as, null if it never fills a single-token span.
+     * Built once so that completions share the cache node of the signature
+     */
+    @Getter
+    private final OptionTable[] placeholderOptions;
+    @Getter
+    private final ResolvedCommand[] placeholderCommands;
+    @Getter
+    private final List<BoundStep> steps;
+
+    @RequiredArgsConstructor
+    public static class BoundStep {
+
+        @Getter
+        private final ResolvedCommand target;
+        @Getter
+        private final Method method;
+        @Getter
+        private final Argument[] arguments;
+        @Getter
+        private final OptionTable options;
+        /**
+         * Run condition name and group permissions of the route taken
+         */
+        @Getter
+        private final String condition;
+        @Getter
+        private final String[] permissions;
+
+        /**
+         * Values parsed ahead of time
+         */
+        @Getter
+        private final Map<Argument, Object> boundValues;
+        /**
+         * Arguments left to parse on every run, in order, along with their raw tokens
+         */
+        @Getter
+        private final Argument[] runtimeArguments;
+        @Getter
+        private final String[] runtimeTokens;
+
+        /**
+         * Indexes into the runtime tokens and the macro's placeholders, pairwise
+         */
+        @Getter
+        private final int[] placeholderSlots;
+        @Getter
+        private final int[] placeholderIndexes;
+
+        public String[] fill(String[] values) {
+            String[] tokens = runtimeTokens.clone();
+
+            for (int i = 0; i < placeholderSlots.length; i++) {
+                tokens[placeholderSlots[i]] = values[placeholderIndexes[i]];
+            }
+            return tokens;
+        }
+    }
+}
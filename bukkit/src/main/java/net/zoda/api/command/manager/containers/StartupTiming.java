@@ -0,0 +1,22 @@
+package net.zoda.api.command.manager.containers;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Time a command took to materialize, either bound from the model cache or rebuilt and validated
+ */
+@RequiredArgsConstructor
+public class StartupTiming {
+
+    @Getter
+    private final String command;
+    @Getter
+    private final boolean cached;
+    @Getter
+    private final long nanos;
+}
@@ -6,7 +6,9 @@ import net.zoda.api.command.ACommand;
 import net.zoda.api.command.Command;
 import net.zoda.api.command.argument.Argument;
 import net.zoda.api.command.argument.CompleterType;
+import net.zoda.api.command.argument.OptionTable;
 import net.zoda.api.command.manager.CommandManager;
+import net.zoda.api.command.routing.LiteralRouter;
 import net.zoda.api.command.subcommand.Subcommand;
 import net.zoda.api.command.subcommand.group.SubcommandGroup;
 import net.zoda.api.command.subcommand.group.SubcommandGroups;
@@ -16,9 +18,12 @@ import net.zoda.api.command.subcommand.group.info.SubcommandGroupsMeta;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
 import static net.zoda.api.command.manager.CommandManager.getArguments;
@@ -42,6 +47,22 @@ public class SubcommandsContainer {
     @Getter
     private final Map<String, ResolvedSubcommandGroupMeta> groupsMetaMap;
 
+    /**
+     * Routes over the subcommand and group paths, platform-neutral so it lives in core
+     */
+    private final LiteralRouter<ResolvedSubcommand, ResolvedSubcommandGroupMeta> router;
+
+
+    /**
+     * Completer members each command class resolved, by the name they were searched under
+     */
+    private static final ClassValue<Map<String, Optional<Member>>> COMPLETERS = new ClassValue<>() {
+        @Override
+        protected Map<String, Optional<Member>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
 
     public SubcommandsContainer(Class<? extends ACommand> clazz, Command base, Logger logger, ACommand command) {
         this.clazz = clazz;
@@ -50,14 +71,44 @@ public class SubcommandsContainer {
 
         this.groupsMetaMap = findGroupsMeta();
         this.subcommandMap = findSubcommands(groupsMetaMap, command);
+        this.router = new LiteralRouter<>(subcommandMap, groupsMetaMap);
+    }
+
+    /**
+     * Builds the container from subcommands that were already validated, e.g. bound from a cached model
+     */
+    public SubcommandsContainer(Class<? extends ACommand> clazz, Command base, Logger logger,
+                                Map<String, ResolvedSubcommandGroupMeta> groupsMetaMap, Map<String, ResolvedSubcommand> subcommandMap) {
+        this.clazz = clazz;
+        this.logger = logger;
+        this.base = base;
+        this.groupsMetaMap = groupsMetaMap;
+        this.subcommandMap = subcommandMap;
+        this.router = new LiteralRouter<>(subcommandMap, groupsMetaMap);
+    }
+
+    /**
+     * @return the literals closest to the mistyped one under the given group path, closest first
+     */
+    public List<String> findClosestLiterals(String parent, String typed, int limit) {
+        return router.findClosestLiterals(parent, typed, limit);
     }
 
     public static Member findCompleter(Argument argument, Class<? extends ACommand> command) {
-        if (argument.completer().isBlank() && argument.completer().isEmpty()) {
-            return attemptFindCompleter(command, argument.name());
-        } else {
-            return attemptFindCompleter(command, argument.completer());
-        }
+        return COMPLETERS.get(command)
+                .computeIfAbsent(completerName(argument), search -> Optional.ofNullable(attemptFindCompleter(command, search)))
+                .orElse(null);
+    }
+
+    /**
+     * Remembers the completer of an argument without looking it up, used when binding a cached model
+     */
+    public static void bindCompleter(Argument argument, Class<? extends ACommand> command, Member member) {
+        COMPLETERS.get(command).put(completerName(argument), Optional.ofNullable(member));
+    }
+
+    private static String completerName(Argument argument) {
+        return argument.completer().isBlank() && argument.completer().isEmpty() ? argument.name() : argument.completer();
     }
 
     private Map<String, ResolvedSubcommand> findSubcommands(Map<String, ResolvedSubcommandGroupMeta> groupsMetaMap, ACommand command) {
@@ -190,7 +241,17 @@ public class SubcommandsContainer {
         return subcommandMap.size();
     }
 
-    @RequiredArgsConstructor
+    /**
+     * Walks the group path the arguments start with and resolves the subcommand they point to
+     */
+    public Route route(String[] args) {
+        LiteralRouter.Route<ResolvedSubcommand, ResolvedSubcommandGroupMeta> route = router.route(args);
+        ResolvedSubcommandGroupMeta group = route.getGroup();
+
+        String conditionName = (group != null ? group.getName() + " " : "") + route.getLiteral();
+        return new Route(route.getLeaf(), group, route.getConsumed(), route.getGroupDepth(), conditionName);
+    }
+
     public static class ResolvedSubcommand {
 
         @Getter
@@ -199,7 +260,53 @@ public class SubcommandsContainer {
         private final Argument[] orderedArguments;
         @Getter
         private final Method method;
+        /**
+         * Options of the node, compiled once when it is resolved
+         */
+        @Getter
+        private final OptionTable options;
+
+        public ResolvedSubcommand(Subcommand subcommand, Argument[] orderedArguments, Method method) {
+            this.subcommand = subcommand;
+            this.orderedArguments = orderedArguments;
+            this.method = method;
+            this.options = OptionTable.compile(orderedArguments);
+        }
+    }
+
+    @RequiredArgsConstructor
+    public static class Route {
+
+        /**
+         * Null if routing failed
+         */
+        @Getter
+        private final ResolvedSubcommand subcommand;
+        @Getter
+        private final ResolvedSubcommandGroupMeta group;
+        /**
+         * Tokens taken by the route, the subcommand's arguments start right after
+         */
+        @Getter
+        private final int consumed;
+        /**
+         * Tokens taken by the group path alone
+         */
+        @Getter
+        private final int groupDepth;
+        /**
+         * Name run conditions target this route by
+         */
+        @Getter
+        private final String conditionName;
+
+        public String[] getRemaining(String[] args) {
+            return Arrays.copyOfRange(args, Math.min(consumed, args.length), args.length);
+        }
 
+        public String[] getPermissions() {
+            return group == null ? new String[0] : group.getPermissions();
+        }
     }
 
     public static class GroupedResolvedSubcommand extends ResolvedSubcommand {
@@ -0,0 +1,249 @@
+package net.zoda.api.command.message;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.bukkit.command.CommandSender;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.Player;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Message templates by id with per-locale overrides. A template is compiled once per locale into prebuilt
+ * components for its literal parts, rendering only builds the placeholder values, and messages without
+ * placeholders are rendered once per locale.
+ * <p>
+ * Locales are lowercase client locales such as {@code de_de}, an override for {@code de} applies to every
+ * German locale without an override of its own.
+ */
+public class MessageCatalog {
+
+    private static final NamedTextColor[] COLORS = {
+            NamedTextColor.BLACK, NamedTextColor.DARK_BLUE, NamedTextColor.DARK_GREEN, NamedTextColor.DARK_AQUA,
+            NamedTextColor.DARK_RED, NamedTextColor.DARK_PURPLE, NamedTextColor.GOLD, NamedTextColor.GRAY,
+            NamedTextColor.DARK_GRAY, NamedTextColor.BLUE, NamedTextColor.GREEN, NamedTextColor.AQUA,
+            NamedTextColor.RED, NamedTextColor.LIGHT_PURPLE, NamedTextColor.YELLOW, NamedTextColor.WHITE
+    };
+
+    /**
+     * Compiled templates kept before the cache is cleared, client locales aren't validated
+     */
+    private static final int MAX_COMPILED = 4096;
+
+    private static final TextDecoration[] DECORATIONS = {
+            TextDecoration.OBFUSCATED, TextDecoration.BOLD, TextDecoration.STRIKETHROUGH, TextDecoration.UNDERLINED, TextDecoration.ITALIC
+    };
+
+    private final Logger logger;
+    private final Map<String, MessageKey> keys = new ConcurrentHashMap<>();
+    /**
+     * Parsed overrides by locale then message id
+     */
+    private final Map<String, Map<String, MessageTemplate>> overrides = new ConcurrentHashMap<>();
+    /**
+     * Compiled templates by locale and message id
+     */
+    private final Map<String, Compiled> compiled = new ConcurrentHashMap<>();
+
+    /**
+     * Locale of senders that aren't players
+     */
+    @Getter
+    private volatile String defaultLocale = "en_us";
+
+    public MessageCatalog(Logger logger) {
+        this.logger = logger;
+
+        for (Field field : Messages.class.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) || field.getType() != MessageKey.class) continue;
+
+            try {
+                register((MessageKey) field.get(null));
+            } catch (IllegalAccessException e) {
+                logger.severe("Couldn't register message: " + field.getName());
+            }
+        }
+    }
+
+    /**
+     * Makes a message of another plugin overridable by id
+     */
+    public void register(MessageKey key) {
+        keys.put(key.getId(), key);
+    }
+
+    public void setDefaultLocale(String defaultLocale) {
+        this.defaultLocale = defaultLocale.toLowerCase();
+        compiled.clear();
+    }
+
+    /**
+     * Replaces the template of a message for a locale
+     *
+     * @return false if the message is unknown or the template invalid, the reason is logged
+     */
+    public boolean override(String locale, String id, String template) {
+        MessageKey key = keys.get(id);
+
+        if (key == null) {
+            logger.severe("Unknown message: " + id + " (" + locale + ")");
+            return false;
+        }
+
+        try {
+            overrides.computeIfAbsent(locale.toLowerCase(), k -> new ConcurrentHashMap<>()).put(id, MessageTemplate.parse(key, template));
+        } catch (IllegalArgumentException e) {
+            logger.severe("Invalid template of message: " + id + " (" + locale + "): " + e.getMessage());
+            return false;
+        }
+
+        compiled.clear();
+        return true;
+    }
+
+    /**
+     * Loads overrides from a section of locales, each mapping message ids to templates:
+     * <pre>
+     * de_de:
+     *   no-permission: "&amp;cKeine Berechtigung"
+     * </pre>
+     */
+    public void load(ConfigurationSection section) {
+        for (String locale : section.getKeys(false)) {
+            ConfigurationSection messages = section.getConfigurationSection(locale);
+            if (messages == null) continue;
+
+            for (String id : messages.getKeys(false)) {
+                String template = messages.getString(id);
+                if (template != null) override(locale, id, template);
+            }
+        }
+    }
+
+    public void clearOverrides() {
+        overrides.clear();
+        compiled.clear();
+    }
+
+    public void send(CommandSender sender, MessageKey key, Object... values) {
+        sender.sendMessage(render(localeOf(sender), key, values));
+    }
+
+    public Component render(CommandSender sender, MessageKey key, Object... values) {
+        return render(localeOf(sender), key, values);
+    }
+
+    public Component render(String locale, MessageKey key, Object... values) {
+        String cacheKey = locale + ' ' + key.getId();
+        Compiled message = compiled.get(cacheKey);
+
+        if (message == null) {
+            if (compiled.size() >= MAX_COMPILED) compiled.clear();
+            message = compiled.computeIfAbsent(cacheKey, k -> compile(locale, key));
+        }
+
+        if (message.constant != null) return message.constant;
+
+        TextComponent.Builder builder = Component.text();
+        MessageTemplate.Segment[] segments = message.template.getSegments();
+
+        for (int i = 0; i < segments.length; i++) {
+            builder.append(message.parts[i] != null ? message.parts[i]
+                    : style(Component.text(message.template.format(message.locale, segments[i].getPlaceholder(), values)), segments[i]));
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * @return the message as plain text in the sender's locale
+     */
+    public String toPlain(CommandSender sender, MessageKey key, Object... values) {
+        String locale = localeOf(sender);
+        return template(locale, key).toPlain(toLocale(locale), values);
+    }
+
+    public String localeOf(CommandSender sender) {
+        if (sender instanceof Player player) {
+            String locale = player.getLocale();
+            if (locale != null && !locale.isEmpty()) return locale.toLowerCase();
+        }
+        return defaultLocale;
+    }
+
+    private MessageTemplate template(String locale, MessageKey key) {
+        MessageTemplate template = find(locale, key);
+        if (template != null) return template;
+
+        int separator = locale.indexOf('_');
+        if (separator != -1 && (template = find(locale.substring(0, separator), key)) != null) return template;
+
+        return key.getDefaultTemplate();
+    }
+
+    private MessageTemplate find(String locale, MessageKey key) {
+        Map<String, MessageTemplate> templates = overrides.get(locale);
+        return templates == null ? null : templates.get(key.getId());
+    }
+
+    private Compiled compile(String locale, MessageKey key) {
+        MessageTemplate template = template(locale, key);
+        MessageTemplate.Segment[] segments = template.getSegments();
+        Component[] parts = new Component[segments.length];
+
+        for (int i = 0; i < segments.length; i++) {
+            if (!segments[i].isPlaceholder()) parts[i] = style(Component.text(segments[i].getText()), segments[i]);
+        }
+
+        Component constant = null;
+        if (!template.hasPlaceholders()) {
+            TextComponent.Builder builder = Component.text();
+            for (Component part : parts) builder.append(part);
+            constant = builder.build();
+        }
+
+        return new Compiled(template, toLocale(locale), parts, constant);
+    }
+
+    private static Component style(Component component, MessageTemplate.Segment segment) {
+        if (segment.getColor() != 0) component = component.color(COLORS[Character.digit(segment.getColor(), 16)]);
+
+        for (int i = 0; i < DECORATIONS.length; i++) {
+            if ((segment.getDecorations() & (1 << i)) != 0) component = component.decorate(DECORATIONS[i]);
+        }
+
+        return component;
+    }
+
+    private static Locale toLocale(String locale) {
+        return Locale.forLanguageTag(locale.replace('_', '-'));
+    }
+
+    @RequiredArgsConstructor
+    private static class Compiled {
+
+        private final MessageTemplate template;
+        private final Locale locale;
+        /**
+         * Prebuilt literal parts, null at placeholders
+         */
+        private final Component[] parts;
+        /**
+         * The whole message if it has no placeholders
+         */
+        private final Component constant;
+    }
+}
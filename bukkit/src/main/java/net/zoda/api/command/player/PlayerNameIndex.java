@@ -0,0 +1,134 @@
+package net.zoda.api.command.player;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import lombok.Getter;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Keeps an {@link OfflineNameIndex} of every player the server has seen. The server's {@code usercache.json}
+ * is imported whenever it changed since the index was last written, players are recorded as they join
+ * and the pending names are compacted into the file off the main thread.
+ */
+public class PlayerNameIndex implements Listener {
+
+    private static final long COMPACT_PERIOD = 20L * 60 * 5;
+
+    @Getter
+    private final OfflineNameIndex index;
+    private final Logger logger;
+
+    private BukkitTask compactTask;
+
+    public PlayerNameIndex(OfflineNameIndex index, Logger logger) {
+        this.index = index;
+        this.logger = logger;
+    }
+
+    public void start(JavaPlugin plugin) {
+        if (compactTask != null) return;
+
+        plugin.getServer().getPluginManager().registerEvents(this, plugin);
+
+        Map<String, UUID> online = new HashMap<>();
+        for (Player player : plugin.getServer().getOnlinePlayers()) {
+            online.put(player.getName(), player.getUniqueId());
+        }
+
+        // the server keeps its user cache in its working directory
+        Path userCache = Paths.get("usercache.json");
+
+        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+            if (isNewer(userCache, index.getFile())) index.putAll(readUserCache(userCache));
+
+            // players online now are more recent than the user cache
+            index.putAll(online);
+            compact();
+        });
+
+        compactTask = plugin.getServer().getScheduler().runTaskTimerAsynchronously(plugin, this::compact, COMPACT_PERIOD, COMPACT_PERIOD);
+    }
+
+    /**
+     * Stops recording joins and writes the names still pending
+     */
+    public void stop() {
+        if (compactTask == null) return;
+
+        HandlerList.unregisterAll(this);
+        compactTask.cancel();
+        compactTask = null;
+
+        compact();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        index.put(event.getPlayer().getName(), event.getPlayer().getUniqueId());
+    }
+
+    private void compact() {
+        try {
+            index.compact();
+        } catch (IOException e) {
+            logger.severe("Couldn't write the player name index: " + index.getFile() + " (" + e + ")");
+        }
+    }
+
+    private Map<String, UUID> readUserCache(Path userCache) {
+        Map<String, UUID> names = new HashMap<>();
+
+        try (Reader reader = Files.newBufferedReader(userCache, StandardCharsets.UTF_8)) {
+            JsonElement root = JsonParser.parseReader(reader);
+            if (!root.isJsonArray()) return names;
+
+            for (JsonElement element : root.getAsJsonArray()) {
+                if (!element.isJsonObject()) continue;
+
+                JsonObject entry = element.getAsJsonObject();
+                if (!entry.has("name") || !entry.has("uuid")) continue;
+
+                try {
+                    names.put(entry.get("name").getAsString(), UUID.fromString(entry.get("uuid").getAsString()));
+                } catch (IllegalArgumentException ignored) {
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Couldn't read the server's user cache: " + userCache + " (" + e + ")");
+        }
+
+        return names;
+    }
+
+    private static boolean isNewer(Path file, Path than) {
+        try {
+            if (!Files.exists(file)) return false;
+            return !Files.exists(than) || Files.getLastModifiedTime(file).compareTo(Files.getLastModifiedTime(than)) > 0;
+        } catch (IOException e) {
+            return true;
+        }
+    }
+}
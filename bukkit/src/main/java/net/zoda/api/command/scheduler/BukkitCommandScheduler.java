@@ -0,0 +1,40 @@
+package net.zoda.api.command.scheduler;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.java.JavaPlugin;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Single main thread, every context is the main thread so invocations already on it run inline
+ */
+public class BukkitCommandScheduler implements CommandScheduler {
+
+    @Override
+    public void runGlobal(JavaPlugin plugin, Runnable runnable) {
+        if (Bukkit.isPrimaryThread()) {
+            runnable.run();
+            return;
+        }
+        Bukkit.getScheduler().runTask(plugin, runnable);
+    }
+
+    @Override
+    public void runAt(JavaPlugin plugin, Location location, Runnable runnable) {
+        runGlobal(plugin, runnable);
+    }
+
+    @Override
+    public void runFor(JavaPlugin plugin, Entity entity, Runnable runnable, Runnable retired) {
+        runGlobal(plugin, runnable);
+    }
+
+    @Override
+    public boolean isSingleThreaded() {
+        return true;
+    }
+}
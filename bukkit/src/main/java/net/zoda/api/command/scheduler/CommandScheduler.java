@@ -0,0 +1,49 @@
+package net.zoda.api.command.scheduler;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.java.JavaPlugin;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Where invocations with an {@link net.zoda.api.command.ExecuteOn} context are handed to once their arguments are parsed
+ */
+public interface CommandScheduler {
+
+    void runGlobal(JavaPlugin plugin, Runnable runnable);
+
+    void runAt(JavaPlugin plugin, Location location, Runnable runnable);
+
+    /**
+     * Runs wherever the entity is
+     *
+     * @param retired runs instead if the entity is removed first, schedulers whose contexts don't follow entities
+     *                always run the runnable
+     */
+    void runFor(JavaPlugin plugin, Entity entity, Runnable runnable, Runnable retired);
+
+    /**
+     * @return whether every context is one main thread, main-thread facilities such as the
+     * {@link net.zoda.api.command.task.SlicedTaskScheduler}'s tick loop and admission control only work then
+     */
+    default boolean isSingleThreaded() {
+        return false;
+    }
+
+    /**
+     * @return the Folia scheduler when running on Folia, the Bukkit one otherwise
+     */
+    static CommandScheduler detect() {
+        try {
+            Class.forName("io.papermc.paper.threadedregions.RegionizedServer");
+            return new FoliaCommandScheduler();
+        } catch (ClassNotFoundException e) {
+            return new BukkitCommandScheduler();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Couldn't hook into the Folia schedulers", e);
+        }
+    }
+}
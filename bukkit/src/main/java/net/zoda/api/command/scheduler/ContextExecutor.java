@@ -0,0 +1,17 @@
+package net.zoda.api.command.scheduler;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Runs work in the context a command ran in, through the {@link CommandScheduler}
+ */
+@FunctionalInterface
+public interface ContextExecutor {
+
+    /**
+     * @param retired runs instead of the work if the context's entity is removed before the work could run
+     */
+    void execute(Runnable runnable, Runnable retired);
+}
@@ -0,0 +1,66 @@
+package net.zoda.api.command.scheduler;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Server;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Hands invocations to Folia's global, region and entity schedulers. The API is compiled against Paper,
+ * so the schedulers are looked up once through reflection.
+ */
+public class FoliaCommandScheduler implements CommandScheduler {
+
+    private final Method globalScheduler;
+    private final Method globalExecute;
+    private final Method regionScheduler;
+    private final Method regionExecute;
+    private final Method entityScheduler;
+    private final Method entityExecute;
+
+    public FoliaCommandScheduler() throws ReflectiveOperationException {
+        String base = "io.papermc.paper.threadedregions.scheduler.";
+
+        globalScheduler = Server.class.getMethod("getGlobalRegionScheduler");
+        globalExecute = Class.forName(base + "GlobalRegionScheduler").getMethod("execute", Plugin.class, Runnable.class);
+        regionScheduler = Server.class.getMethod("getRegionScheduler");
+        regionExecute = Class.forName(base + "RegionScheduler").getMethod("execute", Plugin.class, Location.class, Runnable.class);
+        entityScheduler = Entity.class.getMethod("getScheduler");
+        entityExecute = Class.forName(base + "EntityScheduler").getMethod("execute", Plugin.class, Runnable.class, Runnable.class, long.class);
+    }
+
+    @Override
+    public void runGlobal(JavaPlugin plugin, Runnable runnable) {
+        call(globalExecute, call(globalScheduler, Bukkit.getServer()), plugin, runnable);
+    }
+
+    @Override
+    public void runAt(JavaPlugin plugin, Location location, Runnable runnable) {
+        call(regionExecute, call(regionScheduler, Bukkit.getServer()), plugin, location, runnable);
+    }
+
+    @Override
+    public void runFor(JavaPlugin plugin, Entity entity, Runnable runnable, Runnable retired) {
+        // false when the entity is already removed, neither callback is ever called then
+        if (!(Boolean) call(entityExecute, call(entityScheduler, entity), plugin, runnable, retired, 1L)) retired.run();
+    }
+
+    private static Object call(Method method, Object target, Object... args) {
+        try {
+            return method.invoke(target, args);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        } catch (InvocationTargetException e) {
+            throw e.getCause() instanceof RuntimeException runtime ? runtime : new IllegalStateException(e.getCause());
+        }
+    }
+}
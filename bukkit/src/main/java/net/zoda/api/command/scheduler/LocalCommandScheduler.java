@@ -0,0 +1,94 @@
+package net.zoda.api.command.scheduler;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Stand-in for tests and load runs without a server, invocations are queued with the context they were
+ * handed to and run when {@link #runPending()} is called
+ */
+public class LocalCommandScheduler implements CommandScheduler {
+
+    private final Deque<Handoff> pending = new ArrayDeque<>();
+
+    @Override
+    public synchronized void runGlobal(JavaPlugin plugin, Runnable runnable) {
+        pending.add(new Handoff(null, null, runnable, null));
+    }
+
+    @Override
+    public synchronized void runAt(JavaPlugin plugin, Location location, Runnable runnable) {
+        pending.add(new Handoff(location, null, runnable, null));
+    }
+
+    @Override
+    public synchronized void runFor(JavaPlugin plugin, Entity entity, Runnable runnable, Runnable retired) {
+        pending.add(new Handoff(null, entity, runnable, retired));
+    }
+
+    public synchronized List<Handoff> getPending() {
+        return new ArrayList<>(pending);
+    }
+
+    /**
+     * Runs everything queued so far in the calling thread
+     *
+     * @return how many invocations ran
+     */
+    public int runPending() {
+        List<Handoff> handoffs;
+
+        synchronized (this) {
+            handoffs = new ArrayList<>(pending);
+            pending.clear();
+        }
+
+        handoffs.forEach(handoff -> handoff.runnable.run());
+        return handoffs.size();
+    }
+
+    /**
+     * Removes the entity, the retired callbacks of everything queued for it run in the calling thread
+     *
+     * @return how many invocations were retired
+     */
+    public int retire(Entity entity) {
+        List<Handoff> handoffs = new ArrayList<>();
+
+        synchronized (this) {
+            pending.removeIf(handoff -> handoff.entity == entity && handoffs.add(handoff));
+        }
+
+        handoffs.forEach(handoff -> handoff.retired.run());
+        return handoffs.size();
+    }
+
+    @RequiredArgsConstructor
+    public static class Handoff {
+
+        /**
+         * Set for region handoffs
+         */
+        @Getter
+        private final Location location;
+        /**
+         * Set for entity handoffs, both are null for global ones
+         */
+        @Getter
+        private final Entity entity;
+        private final Runnable runnable;
+        private final Runnable retired;
+    }
+}
@@ -20,4 +20,9 @@ public @interface Subcommand {
     String name();
     Argument[] arguments() default {};
 
+    /**
+     * Shown next to the subcommand in the generated help
+     */
+    String description() default "";
+
 }
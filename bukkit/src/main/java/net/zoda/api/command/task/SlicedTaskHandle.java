@@ -0,0 +1,42 @@
+package net.zoda.api.command.task;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.bukkit.command.CommandSender;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ */
+@RequiredArgsConstructor
+public class SlicedTaskHandle {
+
+    /**
+     * Name of the command whose method returned the task
+     */
+    @Getter
+    private final String commandName;
+    @Getter
+    private final CommandSender sender;
+    @Getter
+    private final SlicedTask task;
+    @Getter
+    private final long startedAt = System.currentTimeMillis();
+
+    @Getter
+    private volatile boolean cancelled;
+    @Getter
+    private volatile boolean done;
+
+    /**
+     * The task stops before its next step, {@link SlicedTask#onCancel()} is called from the main thread
+     */
+    public void cancel() {
+        if (!done) cancelled = true;
+    }
+
+    void finish() {
+        done = true;
+    }
+}
@@ -0,0 +1,237 @@
+package net.zoda.api.command.task;
+
+import lombok.Getter;
+import lombok.Setter;
+import net.kyori.adventure.text.Component;
+import net.zoda.api.command.manager.CommandManager;
+import net.zoda.api.command.message.Messages;
+import net.zoda.api.command.scheduler.ContextExecutor;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Runs {@link SlicedTask}s round-robin on the main thread, never spending more than
+ * {@link #getTickBudgetMillis()} per tick across all of them. Without a main thread each task is instead
+ * driven in its own context and spends at most that budget per tick there.
+ */
+public class SlicedTaskScheduler implements Runnable {
+
+    private final Logger logger;
+    private final Deque<SlicedTaskHandle> tasks = new ArrayDeque<>();
+    /**
+     * Tasks driven through an executor instead of the tick loop, see {@link #submit(String, CommandSender, SlicedTask, ContextExecutor)}
+     */
+    private final Set<SlicedTaskHandle> handedBack = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Milliseconds all running tasks may share in a single tick
+     */
+    @Getter
+    @Setter
+    private double tickBudgetMillis = 5;
+
+    /**
+     * Ticks between progress reports sent to the task's sender, 0 disables them
+     */
+    @Getter
+    @Setter
+    private int progressInterval = 20;
+
+    private BukkitTask bukkitTask;
+    private long ticks;
+
+    public SlicedTaskScheduler(Logger logger) {
+        this.logger = logger;
+    }
+
+    /**
+     * @param commandName name of the command the task belongs to, failures are reported under it
+     */
+    public SlicedTaskHandle submit(JavaPlugin plugin, String commandName, CommandSender sender, SlicedTask task) {
+        SlicedTaskHandle handle = new SlicedTaskHandle(commandName, sender, task);
+        tasks.addLast(handle);
+
+        if (bukkitTask == null) {
+            bukkitTask = plugin.getServer().getScheduler().runTaskTimer(plugin, this, 1, 1);
+        }
+        return handle;
+    }
+
+    /**
+     * Drives the task without the main thread, for servers running several tick threads. Each run spends at most
+     * the tick budget on the task and hands the next one to the executor, which must run it on a later tick in
+     * the region or entity the command ran for. The task is cancelled if that entity is removed first.
+     */
+    public SlicedTaskHandle submit(String commandName, CommandSender sender, SlicedTask task, ContextExecutor executor) {
+        SlicedTaskHandle handle = new SlicedTaskHandle(commandName, sender, task);
+        handedBack.add(handle);
+
+        HandedBackSlice slice = new HandedBackSlice(handle, executor);
+        executor.execute(slice, slice::retire);
+        return handle;
+    }
+
+    /**
+     * @return the tasks started by the given sender which are still running
+     */
+    public List<SlicedTaskHandle> getTasks(CommandSender sender) {
+        List<SlicedTaskHandle> list = new ArrayList<>();
+
+        for (SlicedTaskHandle handle : tasks) {
+            if (handle.getSender().equals(sender) && !handle.isCancelled()) list.add(handle);
+        }
+        for (SlicedTaskHandle handle : handedBack) {
+            if (handle.getSender().equals(sender) && !handle.isCancelled()) list.add(handle);
+        }
+        return list;
+    }
+
+    /**
+     * @return how many tasks were cancelled
+     */
+    public int cancelAll(CommandSender sender) {
+        List<SlicedTaskHandle> handles = getTasks(sender);
+        handles.forEach(SlicedTaskHandle::cancel);
+        return handles.size();
+    }
+
+    @Override
+    public void run() {
+        ticks++;
+
+        long deadline = System.nanoTime() + (long) (tickBudgetMillis * TimeUnit.MILLISECONDS.toNanos(1));
+
+        do {
+            SlicedTaskHandle handle = tasks.pollFirst();
+            if (handle == null) break;
+
+            if (advance(handle)) tasks.addLast(handle);
+        } while (System.nanoTime() < deadline);
+
+        if (progressInterval > 0 && ticks % progressInterval == 0) {
+            for (SlicedTaskHandle handle : tasks) {
+                double progress = handle.getTask().getProgress();
+                if (progress >= 0) reportProgress(handle, progress);
+            }
+        }
+
+        if (tasks.isEmpty() && bukkitTask != null) {
+            bukkitTask.cancel();
+            bukkitTask = null;
+        }
+    }
+
+    /**
+     * Runs one slice of the task, or cancels it if it was cancelled or its player left
+     *
+     * @return whether the task has more to do
+     */
+    private boolean advance(SlicedTaskHandle handle) {
+        if (handle.isCancelled() || (handle.getSender() instanceof Player player && !player.isOnline())) {
+            handle.finish();
+            callback(handle, "onCancel", handle.getTask()::onCancel);
+            return false;
+        }
+
+        boolean more;
+        try {
+            more = handle.getTask().step();
+        } catch (Exception e) {
+            logger.log(Level.SEVERE, "Sliced task of command: " + handle.getCommandName() + " (started by "
+                    + handle.getSender().getName() + ") threw an exception, stopping it", e);
+            handle.finish();
+            callback(handle, "onCancel", handle.getTask()::onCancel);
+            CommandManager.getInstance().getMessages().send(handle.getSender(), Messages.TASK_FAILED);
+            return false;
+        }
+
+        if (!more) {
+            handle.finish();
+            reportProgress(handle, 1);
+            callback(handle, "onComplete", handle.getTask()::onComplete);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Runs one of the task's callbacks, a throwing callback mustn't stop the other tasks of the tick
+     */
+    private void callback(SlicedTaskHandle handle, String name, Runnable callback) {
+        try {
+            callback.run();
+        } catch (RuntimeException e) {
+            logger.log(Level.SEVERE, "Sliced task of command: " + handle.getCommandName() + " threw an exception in " + name, e);
+        }
+    }
+
+    private void reportProgress(SlicedTaskHandle handle, double progress) {
+        if (progressInterval <= 0 || handle.getTask().getProgress() < 0) return;
+
+        Component message = CommandManager.getInstance().getMessages().render(handle.getSender(), Messages.TASK_PROGRESS, (int) (progress * 100));
+
+        if (handle.getSender() instanceof Player player) {
+            player.sendActionBar(message);
+        } else {
+            handle.getSender().sendMessage(message);
+        }
+    }
+
+    private class HandedBackSlice implements Runnable {
+
+        private final SlicedTaskHandle handle;
+        private final ContextExecutor executor;
+        private long runs;
+
+        private HandedBackSlice(SlicedTaskHandle handle, ContextExecutor executor) {
+            this.handle = handle;
+            this.executor = executor;
+        }
+
+        @Override
+        public void run() {
+            long deadline = System.nanoTime() + (long) (tickBudgetMillis * TimeUnit.MILLISECONDS.toNanos(1));
+
+            do {
+                if (!advance(handle)) {
+                    handedBack.remove(handle);
+                    return;
+                }
+            } while (System.nanoTime() < deadline);
+
+            if (progressInterval > 0 && ++runs % progressInterval == 0) {
+                double progress = handle.getTask().getProgress();
+                if (progress >= 0) reportProgress(handle, progress);
+            }
+
+            executor.execute(this, this::retire);
+        }
+
+        /**
+         * The entity the task ran for was removed, the slice will never run again
+         */
+        private void retire() {
+            handedBack.remove(handle);
+            if (handle.isDone()) return;
+
+            handle.finish();
+            callback(handle, "onCancel", handle.getTask()::onCancel);
+        }
+    }
+}
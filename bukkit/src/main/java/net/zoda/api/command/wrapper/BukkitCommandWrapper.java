@@ -1,5 +1,6 @@
 package net.zoda.api.command.wrapper;
 
+import net.zoda.api.command.admission.AdmissionController;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
@@ -19,15 +20,25 @@ import java.util.List;
 public class BukkitCommandWrapper extends Command {
     private final TabCompleter completer;
     private final CommandExecutor executor;
+    private final AdmissionController admissionController;
 
     public BukkitCommandWrapper(net.zoda.api.command.Command base, CommandExecutor executor, TabCompleter completer) {
+        this(base, executor, completer, null);
+    }
+
+    public BukkitCommandWrapper(net.zoda.api.command.Command base, CommandExecutor executor, TabCompleter completer, AdmissionController admissionController) {
         super(base.name(), base.description(), base.usage(), List.of(base.aliases()));
         this.executor = executor;
         this.completer = completer;
+        this.admissionController = admissionController;
     }
 
     @Override
     public boolean execute(@NotNull CommandSender commandSender, @NotNull String s, @NotNull String[] strings) {
+        if (admissionController != null && admissionController.isEnabled()) {
+            admissionController.submit(commandSender, () -> executor.onCommand(commandSender, this, s, strings));
+            return true;
+        }
         return executor.onCommand(commandSender,this,s,strings);
     }
 
@@ -41,15 +52,25 @@ public class BukkitCommandWrapper extends Command {
     public static class ShortcutWrapper extends Command {
         private final TabCompleter completer;
         private final CommandExecutor executor;
+        private final AdmissionController admissionController;
 
         public ShortcutWrapper(String name,  CommandExecutor executor, TabCompleter completer) {
+            this(name, executor, completer, null);
+        }
+
+        public ShortcutWrapper(String name, CommandExecutor executor, TabCompleter completer, AdmissionController admissionController) {
             super(name,"","",List.of());
             this.executor = executor;
             this.completer = completer;
+            this.admissionController = admissionController;
         }
 
         @Override
         public boolean execute(@NotNull CommandSender commandSender, @NotNull String s, @NotNull String[] strings) {
+            if (admissionController != null && admissionController.isEnabled()) {
+                admissionController.submit(commandSender, () -> executor.onCommand(commandSender, this, s, strings));
+                return true;
+            }
             return  executor.onCommand(commandSender,this,s,strings);
         }
 
@@ -0,0 +1,84 @@
+package net.zoda.api.command.wrapper;
+
+import net.zoda.api.command.admission.AdmissionController;
+import net.zoda.api.command.manager.CommandManager;
+import net.zoda.api.command.manager.containers.LazyCommand;
+import net.zoda.api.command.manager.containers.MaterializedCommand;
+import net.zoda.api.command.message.Messages;
+import net.zoda.api.command.utils.Pair;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandExecutor;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.TabCompleter;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Stands in the command map for a lazily registered command or one of its shortcuts,
+ * the command is materialized on the first execution or on a tab completion by a sender holding its permissions
+ */
+public class LazyCommandWrapper extends Command {
+    private final String[] permissions;
+    private final LazyCommand lazyCommand;
+    private final String shortcut;
+    private final AdmissionController admissionController;
+
+    /**
+     * @param shortcut name of the shortcut this stub stands for, null for the command itself
+     */
+    public LazyCommandWrapper(String name, String description, String usage, List<String> aliases, String[] permissions, LazyCommand lazyCommand, String shortcut, AdmissionController admissionController) {
+        super(name, description, usage, aliases);
+        this.permissions = permissions;
+        this.lazyCommand = lazyCommand;
+        this.shortcut = shortcut;
+        this.admissionController = admissionController;
+    }
+
+    @Override
+    public boolean execute(@NotNull CommandSender commandSender, @NotNull String s, @NotNull String[] strings) {
+        Pair<CommandExecutor, TabCompleter> target = resolve();
+
+        if (target == null) {
+            CommandManager.getInstance().getMessages().send(commandSender, Messages.COMMAND_NOT_LOADED);
+            return true;
+        }
+
+        CommandExecutor executor = target.getA();
+
+        if (admissionController != null && admissionController.isEnabled()) {
+            admissionController.submit(commandSender, () -> executor.onCommand(commandSender, this, s, strings));
+            return true;
+        }
+        return executor.onCommand(commandSender, this, s, strings);
+    }
+
+    @Override
+    public @NotNull List<String> tabComplete(@NotNull CommandSender sender, @NotNull String alias, @NotNull String[] args) throws IllegalArgumentException {
+        if (!lazyCommand.isMaterialized()) {
+            for (String permission : permissions) {
+                if (!sender.hasPermission(permission)) return new ArrayList<>();
+            }
+        }
+
+        Pair<CommandExecutor, TabCompleter> target = resolve();
+        if (target == null) return new ArrayList<>();
+
+        List<String> list = target.getB().onTabComplete(sender, this, alias, args);
+        return list == null ? new ArrayList<>() : list;
+    }
+
+    private Pair<CommandExecutor, TabCompleter> resolve() {
+        MaterializedCommand materialized = lazyCommand.get();
+        if (materialized == null) return null;
+
+        if (shortcut == null) return new Pair<>(materialized.getExecutor(), materialized.getTabCompleter());
+        return materialized.getShortcuts().get(shortcut);
+    }
+}
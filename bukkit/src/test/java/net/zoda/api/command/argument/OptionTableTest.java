@@ -0,0 +1,104 @@
+package net.zoda.api.command.argument;
+
+import net.zoda.api.command.DefaultRun;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Tests for {@link OptionTable}
+ */
+public class OptionTableTest {
+
+    @DefaultRun(arguments = {
+            @Argument(name = "target", type = ArgumentType.STRING),
+            @Argument(name = "silent", type = ArgumentType.BOOLEAN, option = true, alias = 's'),
+            @Argument(name = "amount", type = ArgumentType.INTEGER),
+            @Argument(name = "radius", type = ArgumentType.DOUBLE, option = true)
+    })
+    public void mixed() {
+    }
+
+    @DefaultRun(arguments = @Argument(name = "target", type = ArgumentType.STRING))
+    public void positionalOnly() {
+    }
+
+    private static Argument[] arguments(String method) {
+        try {
+            return OptionTableTest.class.getDeclaredMethod(method).getAnnotation(DefaultRun.class).arguments();
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<String> names(Argument[] arguments) {
+        return Arrays.stream(arguments).map(Argument::name).toList();
+    }
+
+    @Test
+    public void splitsOptionsFromPositionalArguments() {
+        OptionTable table = OptionTable.compile(arguments("mixed"));
+
+        assertTrue(table.hasOptions());
+        assertEquals(List.of("target", "amount"), names(table.getPositional()));
+        assertEquals(List.of("silent", "radius"), names(table.getOptions()));
+        assertEquals(List.of("--silent", "--radius", "-s"), table.getNames());
+    }
+
+    @Test
+    public void findsOptionsByNameAndAlias() {
+        OptionTable table = OptionTable.compile(arguments("mixed"));
+
+        assertEquals("silent", table.find("--silent").name());
+        assertEquals("silent", table.find("-s").name());
+        assertEquals("radius", table.find("--radius").name());
+
+        assertNull(table.find("-r"));
+        assertNull(table.find("--Silent"));
+        assertNull(table.find("silent"));
+        assertNull(table.find("-"));
+        assertNull(table.find("--"));
+    }
+
+    @Test
+    public void onlyBooleanOptionsAreFlags() {
+        OptionTable table = OptionTable.compile(arguments("mixed"));
+
+        assertTrue(OptionTable.isFlag(table.find("-s")));
+        assertFalse(OptionTable.isFlag(table.find("--radius")));
+    }
+
+    @Test
+    public void onlyPrefixesOfOptionNamesAreOptions() {
+        OptionTable table = OptionTable.compile(arguments("mixed"));
+
+        assertTrue(table.isOptionPrefix("-"));
+        assertTrue(table.isOptionPrefix("--"));
+        assertTrue(table.isOptionPrefix("--ra"));
+        assertTrue(table.isOptionPrefix("-s"));
+
+        assertFalse(table.isOptionPrefix("-5"));
+        assertFalse(table.isOptionPrefix("-1.5"));
+        assertFalse(table.isOptionPrefix("--silently"));
+        assertFalse(table.isOptionPrefix("s"));
+        assertFalse(OptionTable.compile(arguments("positionalOnly")).isOptionPrefix("-"));
+    }
+
+    @Test
+    public void withoutOptionsNothingIsFound() {
+        OptionTable table = OptionTable.compile(arguments("positionalOnly"));
+
+        assertFalse(table.hasOptions());
+        assertEquals(List.of("target"), names(table.getPositional()));
+        assertNull(table.find("--target"));
+
+        assertSame(OptionTable.EMPTY, OptionTable.compile(new Argument[0]));
+    }
+}
@@ -0,0 +1,60 @@
+package net.zoda.api.command.argument.parser.builtin;
+
+import net.zoda.api.command.ACommand;
+import net.zoda.api.command.argument.parser.ArgumentParseException;
+import net.zoda.api.command.argument.parser.ParseContext;
+import net.zoda.api.command.loadtest.StandInSenders;
+import net.zoda.api.command.message.Messages;
+import org.bukkit.command.CommandSender;
+import org.junit.jupiter.api.Test;
+
+import static net.zoda.api.command.argument.parser.builtin.Parsing.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Tests for {@link EnumParser}, which reads the enum class from the completer of the command in the {@link ParseContext}
+ */
+public class EnumParserTest {
+
+    private final CommandSender console = new StandInSenders().get("console");
+
+    @Test
+    public void contextCarriesSenderAndCommand() {
+        ModeCommand command = new ModeCommand();
+        ParseContext context = new ParseContext(console, command);
+
+        assertSame(console, context.getSender());
+        assertSame(command, context.getCommand());
+    }
+
+    @Test
+    public void resolvesConstantsIgnoringCase() throws ArgumentParseException {
+        assertEquals(Mode.CREATIVE, parse(EnumParser.INSTANCE, console, new ModeCommand(), "creative"));
+        assertEquals(Mode.SURVIVAL, parse(EnumParser.INSTANCE, console, new ModeCommand(), "SURVIVAL"));
+        assertEquals("CREATIVE", EnumParser.INSTANCE.stringify(console, Mode.CREATIVE));
+    }
+
+    @Test
+    public void unknownConstantFails() {
+        fails(Messages.UNKNOWN_VALUE, EnumParser.INSTANCE, console, new ModeCommand(), "spectator");
+    }
+
+    @Test
+    public void commandWithoutCompleterFails() {
+        fails(Messages.UNKNOWN_VALUE, EnumParser.INSTANCE, console, new ACommand() {
+        }, "creative");
+    }
+
+    public enum Mode {
+        SURVIVAL,
+        CREATIVE
+    }
+
+    public static class ModeCommand implements ACommand {
+        private final Class<?> value = Mode.class;
+    }
+}
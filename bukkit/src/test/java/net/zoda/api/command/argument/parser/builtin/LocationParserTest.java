@@ -0,0 +1,139 @@
+package net.zoda.api.command.argument.parser.builtin;
+
+import net.zoda.api.command.argument.parser.ArgumentParseException;
+import net.zoda.api.command.loadtest.StandInSenders;
+import net.zoda.api.command.message.Messages;
+import org.bukkit.Location;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static net.zoda.api.command.argument.parser.builtin.Parsing.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Tests for {@link LocationParser}, local coordinates are checked against the vanilla axes:
+ * yaw 0 faces south (+z), yaw 90 faces west (-x) and pitch -90 faces up
+ */
+public class LocationParserTest {
+
+    private static final double DELTA = 1e-9;
+
+    private final StandInSenders senders = new StandInSenders();
+    private final CommandSender console = senders.get("console");
+    private final AtomicInteger lookups = new AtomicInteger();
+
+    /**
+     * A player standing at the given position, counting how often their location is read
+     */
+    private Player player(double x, double y, double z, float yaw, float pitch) {
+        return (Player) Proxy.newProxyInstance(Player.class.getClassLoader(), new Class<?>[]{Player.class}, (proxy, method, args) -> switch (method.getName()) {
+            case "getLocation" -> {
+                lookups.incrementAndGet();
+                yield new Location(senders.getWorld(), x, y, z, yaw, pitch);
+            }
+            case "getName" -> "Located";
+            default -> null;
+        });
+    }
+
+    private static Location parseLocation(CommandSender sender, String... tokens) throws ArgumentParseException {
+        return (Location) parse(LocationParser.INSTANCE, sender, tokens);
+    }
+
+    private static void assertAt(double x, double y, double z, Location location) {
+        assertEquals(x, location.getX(), DELTA);
+        assertEquals(y, location.getY(), DELTA);
+        assertEquals(z, location.getZ(), DELTA);
+    }
+
+    @Test
+    public void consoleGivesAWorld() throws ArgumentParseException {
+        Location location = parseLocation(console, "10", "64.5", "-3", StandInSenders.WORLD_NAME);
+
+        assertAt(10, 64.5, -3, location);
+        assertSame(senders.getWorld(), location.getWorld());
+    }
+
+    @Test
+    public void consoleFailures() {
+        fails(Messages.MISSING_COORDINATES_AND_WORLD, LocationParser.INSTANCE, console, "10", "64", "-3");
+        fails(Messages.UNKNOWN_WORLD, LocationParser.INSTANCE, console, "10", "64", "-3", "nether");
+        fails(Messages.RELATIVE_COORDINATES_PLAYERS_ONLY, LocationParser.INSTANCE, console, "~", "64", "0", StandInSenders.WORLD_NAME);
+        fails(Messages.RELATIVE_COORDINATES_PLAYERS_ONLY, LocationParser.INSTANCE, console, "@", "64", "0", StandInSenders.WORLD_NAME);
+        fails(Messages.INVALID_COORDINATE, LocationParser.INSTANCE, console, "10", "high", "0", StandInSenders.WORLD_NAME);
+    }
+
+    @Test
+    public void relativeAndCenteredAxes() throws ArgumentParseException {
+        Player player = player(10.3, 64, -3.7, 0, 0);
+
+        assertAt(11.3, 62, -3.7, parseLocation(player, "~1", "~-2", "~"));
+        assertAt(10.5, 64, -3.5, parseLocation(player, "@", "~", "@"));
+        assertAt(1, 2, 3, parseLocation(player, "1", "2", "3"));
+        assertSame(senders.getWorld(), parseLocation(player, "~", "~", "~").getWorld());
+    }
+
+    @Test
+    public void readsTheLocationOnce() throws ArgumentParseException {
+        parseLocation(player(0, 64, 0, 45, 10), "~1", "~", "~2");
+        parseLocation(player(0, 64, 0, 45, 10), "^1", "^", "^2");
+
+        assertEquals(2, lookups.get());
+    }
+
+    @Test
+    public void localAxesFacingSouth() throws ArgumentParseException {
+        Player player = player(0, 64, 0, 0, 0);
+
+        assertAt(0, 64, 5, parseLocation(player, "^", "^", "^5"));
+        assertAt(1, 64, 0, parseLocation(player, "^1", "^", "^"));
+        assertAt(0, 66, 0, parseLocation(player, "^", "^2", "^"));
+        assertAt(0, 64, 0, parseLocation(player, "^", "^", "^"));
+    }
+
+    @Test
+    public void localAxesFollowYawAndPitch() throws ArgumentParseException {
+        assertAt(-2, 64, 0, parseLocation(player(0, 64, 0, 90, 0), "^", "^", "^2"));
+        assertAt(0, 64, 3, parseLocation(player(0, 64, 0, 90, 0), "^3", "^", "^"));
+        assertAt(0, 65, 0, parseLocation(player(0, 64, 0, 0, -90), "^", "^", "^1"));
+        assertAt(0, 64, -1, parseLocation(player(0, 64, 0, 0, -90), "^", "^1", "^"));
+
+        double half = Math.sqrt(0.5);
+        assertAt(-half, 64 - half, 0, parseLocation(player(0, 64, 0, 90, 45), "^", "^", "^1"));
+    }
+
+    @Test
+    public void localAxesCannotBeMixed() {
+        Player player = player(0, 64, 0, 0, 0);
+
+        fails(Messages.MIXED_LOCAL_COORDINATES, LocationParser.INSTANCE, player, "^", "~", "^");
+        fails(Messages.MIXED_LOCAL_COORDINATES, LocationParser.INSTANCE, player, "1", "2", "^");
+        fails(Messages.INVALID_COORDINATE, LocationParser.INSTANCE, player, "^", "^x", "^");
+        fails(Messages.MISSING_COORDINATES, LocationParser.INSTANCE, player, "^", "^");
+    }
+
+    @Test
+    public void suggestions() {
+        CommandSender standIn = senders.get("Player0");
+
+        assertEquals(List.of("~ ~ ~", "^ ^ ^", "0.50 64.00 0.50"), suggest(LocationParser.INSTANCE, standIn, ""));
+        assertEquals(List.of("~", "^", "64.00"), suggest(LocationParser.INSTANCE, standIn, "1", ""));
+        assertEquals(List.of(StandInSenders.WORLD_NAME), suggest(LocationParser.INSTANCE, console, "1", "2", "3", "w"));
+    }
+
+    @Test
+    public void formatsHundredthsWithoutTheLocale() {
+        assertEquals("-0.50", LocationParser.formatHundredths(-0.5));
+        assertEquals("0.00", LocationParser.formatHundredths(-0.001));
+        assertEquals("12.06", LocationParser.formatHundredths(12.057));
+    }
+}
@@ -0,0 +1,73 @@
+package net.zoda.api.command.argument.parser.builtin;
+
+import net.zoda.api.command.ACommand;
+import net.zoda.api.command.argument.Argument;
+import net.zoda.api.command.argument.parser.ArgumentParseException;
+import net.zoda.api.command.argument.parser.ArgumentParser;
+import net.zoda.api.command.argument.parser.ArgumentReader;
+import net.zoda.api.command.argument.parser.ParseContext;
+import net.zoda.api.command.argument.parser.Suggestions;
+import net.zoda.api.command.message.MessageKey;
+import org.bukkit.command.CommandSender;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Runs a parser over raw tokens the way a command node does
+ */
+final class Parsing {
+
+    @Argument(name = "value")
+    private static final Object VALUE = null;
+
+    static final Argument ARGUMENT = argument();
+
+    private Parsing() {
+    }
+
+    /**
+     * Parses every token, failing if the parser leaves any behind
+     */
+    static <T> T parse(ArgumentParser<T> parser, CommandSender sender, ACommand command, String... tokens) throws ArgumentParseException {
+        ArgumentReader reader = new ArgumentReader(tokens);
+        T value = parser.parse(new ParseContext(sender, command), ARGUMENT, reader);
+
+        assertFalse(reader.hasNext(), "tokens left after parsing");
+        return value;
+    }
+
+    static <T> T parse(ArgumentParser<T> parser, CommandSender sender, String... tokens) throws ArgumentParseException {
+        return parse(parser, sender, null, tokens);
+    }
+
+    static void fails(MessageKey key, ArgumentParser<?> parser, CommandSender sender, ACommand command, String... tokens) {
+        ArgumentParseException exception = assertThrows(ArgumentParseException.class,
+                () -> parser.parse(new ParseContext(sender, command), ARGUMENT, new ArgumentReader(tokens)));
+
+        assertEquals(key.getId(), exception.getKey().getId());
+    }
+
+    static void fails(MessageKey key, ArgumentParser<?> parser, CommandSender sender, String... tokens) {
+        fails(key, parser, sender, null, tokens);
+    }
+
+    static List<String> suggest(ArgumentParser<?> parser, CommandSender sender, String... tokens) {
+        Suggestions suggestions = new Suggestions(tokens, 0);
+        parser.suggest(new ParseContext(sender, null), ARGUMENT, suggestions);
+        return suggestions.getList();
+    }
+
+    private static Argument argument() {
+        try {
+            return Parsing.class.getDeclaredField("VALUE").getAnnotation(Argument.class);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package net.zoda.api.command.argument.parser.builtin;
+
+import net.zoda.api.command.argument.parser.ArgumentParseException;
+import net.zoda.api.command.loadtest.StandInSenders;
+import net.zoda.api.command.message.Messages;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static net.zoda.api.command.argument.parser.builtin.Parsing.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Tests for {@link PlayerParser} and {@link AnyPlayerParser} against the stand-in server
+ */
+public class PlayerParserTest {
+
+    private final StandInSenders senders = new StandInSenders();
+    private final CommandSender console = senders.get("console");
+    private final Player online = (Player) senders.get("Player0");
+
+    @Test
+    public void findsOnlinePlayersByName() throws ArgumentParseException {
+        assertSame(online, parse(PlayerParser.INSTANCE, console, "player0"));
+
+        fails(Messages.PLAYER_NOT_FOUND, PlayerParser.INSTANCE, console, "Nobody");
+    }
+
+    @Test
+    public void suggestsOnlinePlayers() {
+        senders.get("Admin");
+
+        assertEquals(List.of("Player0"), suggest(PlayerParser.INSTANCE, console, "p"));
+        assertEquals("Player0", PlayerParser.INSTANCE.stringify(console, online));
+    }
+
+    @Test
+    public void findsAnyPlayerByUniqueIdOrName() throws ArgumentParseException {
+        assertSame(online, parse(AnyPlayerParser.INSTANCE, console, online.getUniqueId().toString()));
+        assertSame(online, parse(AnyPlayerParser.INSTANCE, console, "Player0"));
+    }
+
+    @Test
+    public void unknownAnyPlayerFails() {
+        fails(Messages.PLAYER_NOT_FOUND, AnyPlayerParser.INSTANCE, console, UUID.randomUUID().toString());
+        fails(Messages.PLAYER_NOT_FOUND, AnyPlayerParser.INSTANCE, console, "Nobody");
+    }
+}
@@ -0,0 +1,48 @@
+package net.zoda.api.command.argument.parser.builtin;
+
+import net.zoda.api.command.argument.Rotation;
+import net.zoda.api.command.argument.parser.ArgumentParseException;
+import net.zoda.api.command.loadtest.StandInSenders;
+import net.zoda.api.command.message.Messages;
+import org.bukkit.command.CommandSender;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static net.zoda.api.command.argument.parser.builtin.Parsing.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Tests for {@link RotationParser}
+ */
+public class RotationParserTest {
+
+    private final StandInSenders senders = new StandInSenders();
+    private final CommandSender console = senders.get("console");
+
+    @Test
+    public void parsesDirectionsAndAngles() throws ArgumentParseException {
+        assertEquals(new Rotation(180, -90), parse(RotationParser.INSTANCE, console, "NORTH", "up"));
+        assertEquals(new Rotation(-90, 90), parse(RotationParser.INSTANCE, console, "east", "down"));
+        assertEquals(new Rotation(12.5f, -20), parse(RotationParser.INSTANCE, console, "12.5", "-20"));
+    }
+
+    @Test
+    public void rejectsInvalidAngles() {
+        fails(Messages.INVALID_YAW, RotationParser.INSTANCE, console, "left", "0");
+        fails(Messages.INVALID_PITCH, RotationParser.INSTANCE, console, "0", "sideways");
+        fails(Messages.MISSING_ROTATION, RotationParser.INSTANCE, console, "north");
+    }
+
+    @Test
+    public void suggestsThePlayersRotation() {
+        CommandSender player = senders.get("Player0");
+
+        assertEquals(List.of("north", "east", "west", "south", "0.00"), suggest(RotationParser.INSTANCE, player, ""));
+        assertEquals(List.of("up"), suggest(RotationParser.INSTANCE, console, "0", "u"));
+    }
+}
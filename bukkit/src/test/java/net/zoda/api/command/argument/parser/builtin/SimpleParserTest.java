@@ -0,0 +1,63 @@
+package net.zoda.api.command.argument.parser.builtin;
+
+import net.zoda.api.command.argument.parser.ArgumentParseException;
+import net.zoda.api.command.loadtest.StandInSenders;
+import net.zoda.api.command.message.Messages;
+import org.bukkit.command.CommandSender;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static net.zoda.api.command.argument.parser.builtin.Parsing.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Tests for {@link SimpleParser}
+ */
+public class SimpleParserTest {
+
+    private final CommandSender console = new StandInSenders().get("console");
+
+    @Test
+    public void parsesNumbers() throws ArgumentParseException {
+        assertEquals(42, parse(SimpleParser.INTEGER, console, "42"));
+        assertEquals(-0.5, parse(SimpleParser.DOUBLE, console, "-0.5"));
+        assertEquals(1.25f, parse(SimpleParser.FLOAT, console, "1.25"));
+    }
+
+    @Test
+    public void rejectsMalformedNumbers() {
+        fails(Messages.NOT_AN_INTEGER, SimpleParser.INTEGER, console, "4.2");
+        fails(Messages.NOT_AN_INTEGER, SimpleParser.INTEGER, console, "99999999999");
+        fails(Messages.NOT_A_NUMBER, SimpleParser.DOUBLE, console, "ten");
+        fails(Messages.NOT_A_FLOAT, SimpleParser.FLOAT, console, "1,5");
+    }
+
+    @Test
+    public void parsesBooleansIgnoringCase() throws ArgumentParseException {
+        assertEquals(true, parse(SimpleParser.BOOLEAN, console, "TRUE"));
+        assertEquals(false, parse(SimpleParser.BOOLEAN, console, "false"));
+
+        fails(Messages.NOT_A_BOOLEAN, SimpleParser.BOOLEAN, console, "yes");
+    }
+
+    @Test
+    public void suggestsMatchingDefaults() {
+        assertEquals(List.of("true"), suggest(SimpleParser.BOOLEAN, console, "t"));
+        assertEquals(List.of("true", "false"), suggest(SimpleParser.BOOLEAN, console, ""));
+        assertEquals(List.of(), suggest(SimpleParser.INTEGER, console, ""));
+    }
+
+    @Test
+    public void customErrorIsSentWithTheToken() {
+        SimpleParser<Short> parser = new SimpleParser<>(Short.class, Short::valueOf, " is not a short", new String[0]);
+
+        ArgumentParseException exception = assertThrows(ArgumentParseException.class, () -> parse(parser, console, "abc"));
+        assertEquals("short-parse-error", exception.getKey().getId());
+        assertArrayEquals(new Object[]{"abc"}, exception.getValues());
+    }
+}
@@ -0,0 +1,55 @@
+package net.zoda.api.command.argument.parser.builtin;
+
+import net.zoda.api.command.argument.parser.ArgumentParseException;
+import net.zoda.api.command.argument.parser.ArgumentReader;
+import net.zoda.api.command.argument.parser.ParseContext;
+import net.zoda.api.command.loadtest.StandInSenders;
+import net.zoda.api.command.message.Messages;
+import org.bukkit.command.CommandSender;
+import org.junit.jupiter.api.Test;
+
+import static net.zoda.api.command.argument.parser.builtin.Parsing.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Tests for {@link StringParser} and {@link GreedyStringParser}
+ */
+public class StringParserTest {
+
+    private final CommandSender console = new StandInSenders().get("console");
+
+    @Test
+    public void readsASingleWord() throws ArgumentParseException {
+        ArgumentReader reader = new ArgumentReader(new String[]{"hello", "world"});
+
+        assertEquals("hello", StringParser.INSTANCE.parse(new ParseContext(console, null), ARGUMENT, reader));
+        assertEquals(1, reader.getCursor());
+    }
+
+    @Test
+    public void readsAQuotedSpan() throws ArgumentParseException {
+        assertEquals("hello big world", parse(StringParser.INSTANCE, console, "\"hello", "big", "world\""));
+        assertEquals("\"hello", parse(StringParser.INSTANCE, console, "\"\"hello"));
+    }
+
+    @Test
+    public void rejectsAnUnterminatedQuote() {
+        fails(Messages.UNTERMINATED_STRING, StringParser.INSTANCE, console, "\"hello", "world");
+    }
+
+    @Test
+    public void quotesWhenStringified() {
+        assertEquals("\"hello world\"", StringParser.INSTANCE.stringify(console, "hello world"));
+        assertEquals("hello", StringParser.INSTANCE.stringify(console, "hello"));
+    }
+
+    @Test
+    public void greedyReadsEverythingAsTyped() throws ArgumentParseException {
+        assertEquals("say \"hi\" now", parse(GreedyStringParser.INSTANCE, console, "say", "\"hi\"", "now"));
+        assertEquals("", GreedyStringParser.INSTANCE.parse(new ParseContext(console, null), ARGUMENT, new ArgumentReader(new String[0])));
+    }
+}
@@ -0,0 +1,76 @@
+package net.zoda.api.command.argument.parser.builtin;
+
+import net.zoda.api.command.argument.parser.ArgumentParseException;
+import net.zoda.api.command.loadtest.StandInSenders;
+import net.zoda.api.command.message.Messages;
+import org.bukkit.command.CommandSender;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static net.zoda.api.command.argument.parser.builtin.Parsing.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Tests for {@link TimestampParser}
+ */
+public class TimestampParserTest {
+
+    private static final long SECOND = 1000;
+    private static final long HOUR = 3600 * SECOND;
+    private static final long DAY = 24 * HOUR;
+    private static final long MONTH = 2628000 * SECOND;
+
+    private final CommandSender console = new StandInSenders().get("console");
+
+    @Test
+    public void parsesCompactAndSpacedUnits() throws ArgumentParseException {
+        assertEquals(DAY + 5 * HOUR, parse(TimestampParser.INSTANCE, console, "\"1d", "5h\""));
+        assertEquals(2 * DAY + 30 * SECOND, parse(TimestampParser.INSTANCE, console, "\"2", "days", "30s\""));
+        assertEquals(10 * 60 * SECOND, parse(TimestampParser.INSTANCE, console, "\"10min\""));
+    }
+
+    @Test
+    public void rejectsMalformedTimestamps() {
+        fails(Messages.TIMESTAMP_NOT_QUOTED, TimestampParser.INSTANCE, console, "1d");
+        fails(Messages.UNTERMINATED_TIMESTAMP, TimestampParser.INSTANCE, console, "\"1d", "5h");
+        fails(Messages.MISSING_TIMESTAMP_TYPE, TimestampParser.INSTANCE, console, "\"1", "day", "5\"");
+        fails(Messages.UNKNOWN_TIMESTAMP_TYPE, TimestampParser.INSTANCE, console, "\"1", "parsecs\"");
+        fails(Messages.UNKNOWN_TIMESTAMP_TYPE, TimestampParser.INSTANCE, console, "\"1y\"");
+        fails(Messages.DUPLICATE_TIMESTAMP_TYPE, TimestampParser.INSTANCE, console, "\"1d", "2d\"");
+    }
+
+    @Test
+    public void stringifiesBackToUnits() {
+        assertEquals("\"1 day 5 hours\"", TimestampParser.INSTANCE.stringify(console, DAY + 5 * HOUR));
+        assertEquals("1 minute 1 second", TimestampParser.millisToTime(61 * SECOND));
+    }
+
+    @Test
+    public void stringifiedValuesParseBack() throws ArgumentParseException {
+        for (long value : new long[]{0, SECOND, MONTH, MONTH + 31 * DAY + 2 * HOUR + 59 * SECOND, 14 * MONTH + 3 * DAY, -(DAY + HOUR)}) {
+            String stringified = TimestampParser.INSTANCE.stringify(console, value);
+
+            assertEquals(value, parse(TimestampParser.INSTANCE, console, stringified.split(" ")), stringified);
+        }
+    }
+
+    @Test
+    public void zeroAndMonthsAreStringified() throws ArgumentParseException {
+        assertEquals(0L, parse(TimestampParser.INSTANCE, console, "\"0s\""));
+        assertEquals("0 seconds", TimestampParser.millisToTime(0));
+        assertEquals("1 month", TimestampParser.millisToTime(MONTH));
+        assertEquals("2 months 1 day", TimestampParser.millisToTime(2 * MONTH + DAY));
+    }
+
+    @Test
+    public void suggestsUnitsForTheTypedNumber() {
+        assertEquals(List.of("\"2 months", "\"2 days", "\"2 hours", "\"2 minutes", "\"2 seconds"), suggest(TimestampParser.INSTANCE, console, "\"2"));
+        assertEquals(List.of("hour"), suggest(TimestampParser.INSTANCE, console, "\"1", "h"));
+        assertEquals(List.of(), suggest(TimestampParser.INSTANCE, console, ""));
+    }
+}
@@ -0,0 +1,126 @@
+package net.zoda.api.command.argument.selector;
+
+import net.zoda.api.command.argument.parser.ArgumentParseException;
+import net.zoda.api.command.message.MessageKey;
+import net.zoda.api.command.message.Messages;
+import org.bukkit.entity.EntityType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Tests for {@link SelectorParser}
+ */
+public class SelectorParserTest {
+
+    @Test
+    public void recognizesSelectors() {
+        assertTrue(SelectorParser.isSelector("@a"));
+        assertTrue(SelectorParser.isSelector("@e[type=cow]"));
+        assertFalse(SelectorParser.isSelector("@"));
+        assertFalse(SelectorParser.isSelector("Steve"));
+    }
+
+    @Test
+    public void basesCarryTheirDefaults() throws ArgumentParseException {
+        EntitySelector all = SelectorParser.parse("@a");
+        assertEquals(EntitySelector.Base.ALL_PLAYERS, all.base);
+        assertEquals(EntitySelector.Sort.ARBITRARY, all.sort);
+        assertEquals(Integer.MAX_VALUE, all.limit);
+
+        EntitySelector nearest = SelectorParser.parse("@p");
+        assertEquals(EntitySelector.Base.NEAREST_PLAYER, nearest.base);
+        assertEquals(EntitySelector.Sort.NEAREST, nearest.sort);
+        assertEquals(1, nearest.limit);
+
+        EntitySelector random = SelectorParser.parse("@r");
+        assertEquals(EntitySelector.Base.RANDOM_PLAYER, random.base);
+        assertEquals(EntitySelector.Sort.RANDOM, random.sort);
+        assertEquals(1, random.limit);
+
+        assertEquals(EntitySelector.Base.ALL_ENTITIES, SelectorParser.parse("@e").base);
+        assertEquals(EntitySelector.Base.SELF, SelectorParser.parse("@s").base);
+        assertEquals(EntitySelector.Base.ALL_PLAYERS, SelectorParser.parse("@a[]").base);
+    }
+
+    @Test
+    public void parsesOptions() throws ArgumentParseException {
+        EntitySelector selector = SelectorParser.parse(
+                "@e[type=!minecraft:zombie,name=!Steve,x=1,y=2.5,z=-3,dx=4,dy=5,dz=6,distance=..10,limit=5,sort=furthest]");
+
+        assertEquals(EntityType.ZOMBIE, selector.type);
+        assertTrue(selector.negateType);
+        assertEquals("Steve", selector.name);
+        assertTrue(selector.negateName);
+        assertEquals(1.0, selector.x);
+        assertEquals(2.5, selector.y);
+        assertEquals(-3.0, selector.z);
+        assertEquals(4.0, selector.dx);
+        assertEquals(5.0, selector.dy);
+        assertEquals(6.0, selector.dz);
+        assertEquals(0.0, selector.minDistance);
+        assertEquals(10.0, selector.maxDistance);
+        assertEquals(5, selector.limit);
+        assertEquals(EntitySelector.Sort.FURTHEST, selector.sort);
+    }
+
+    @Test
+    public void parsesDistances() throws ArgumentParseException {
+        EntitySelector exact = SelectorParser.parse("@e[distance=3]");
+        assertEquals(3.0, exact.minDistance);
+        assertEquals(3.0, exact.maxDistance);
+
+        EntitySelector open = SelectorParser.parse("@e[distance=2..]");
+        assertEquals(2.0, open.minDistance);
+        assertEquals(Double.POSITIVE_INFINITY, open.maxDistance);
+
+        EntitySelector legacy = SelectorParser.parse("@e[rm=1,r=8,c=2]");
+        assertEquals(1.0, legacy.minDistance);
+        assertEquals(8.0, legacy.maxDistance);
+        assertEquals(2, legacy.limit);
+    }
+
+    @Test
+    public void onlyPlayerTypedEntitySelectorsArePlayersOnly() throws ArgumentParseException {
+        assertTrue(SelectorParser.parse("@a").isPlayersOnly());
+        assertTrue(SelectorParser.parse("@e[type=player]").isPlayersOnly());
+        assertFalse(SelectorParser.parse("@e").isPlayersOnly());
+        assertFalse(SelectorParser.parse("@e[type=!player]").isPlayersOnly());
+        assertFalse(SelectorParser.parse("@e[type=cow]").isPlayersOnly());
+    }
+
+    @Test
+    public void reusesCompiledSelectors() throws ArgumentParseException {
+        EntitySelector first = SelectorParser.parse("@e[type=cow,limit=3]");
+
+        assertSame(first, SelectorParser.parse("@e[type=cow,limit=3]"));
+        assertNotSame(first, SelectorParser.parse("@e[type=cow,limit=4]"));
+    }
+
+    @Test
+    public void rejectsMalformedSelectors() {
+        fails(Messages.INVALID_SELECTOR, "Steve");
+        fails(Messages.UNKNOWN_SELECTOR_TYPE, "@x");
+        fails(Messages.INVALID_SELECTOR, "@a[limit=1");
+        fails(Messages.INVALID_SELECTOR, "@ax");
+        fails(Messages.INVALID_SELECTOR_OPTION_FORMAT, "@a[limit]");
+        fails(Messages.UNKNOWN_SELECTOR_OPTION, "@a[level=3]");
+        fails(Messages.UNKNOWN_ENTITY_TYPE, "@e[type=dragon]");
+        fails(Messages.INVALID_SELECTOR_OPTION_VALUE, "@e[x=north]");
+        fails(Messages.INVALID_SELECTOR_LIMIT, "@e[limit=many]");
+        fails(Messages.NON_POSITIVE_SELECTOR_LIMIT, "@e[limit=0]");
+        fails(Messages.UNKNOWN_SELECTOR_SORT, "@e[sort=upwards]");
+        fails(Messages.INVALID_SELECTOR_DISTANCE, "@e[distance=5..2]");
+        fails(Messages.INVALID_SELECTOR_DISTANCE, "@e[rm=-1]");
+    }
+
+    private static void fails(MessageKey key, String raw) {
+        ArgumentParseException exception = assertThrows(ArgumentParseException.class, () -> SelectorParser.parse(raw));
+
+        assertEquals(key.getId(), exception.getKey().getId());
+    }
+}
@@ -0,0 +1,82 @@
+package net.zoda.api.command.argument.selector;
+
+import net.zoda.api.command.loadtest.StandInSenders;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.Vehicle;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.vehicle.VehicleMoveEvent;
+import org.junit.jupiter.api.Test;
+import org.spigotmc.event.entity.EntityDismountEvent;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Tests for {@link SpatialIndex}, stand-in players stand at the world's spawn in chunk 0 0
+ */
+public class SpatialIndexTest {
+
+    private final StandInSenders senders = new StandInSenders();
+    private final Player player = (Player) senders.get("Player0");
+    private final SpatialIndex index = new SpatialIndex();
+
+    private Location at(double x, double z) {
+        return new Location(senders.getWorld(), x, 64, z);
+    }
+
+    /**
+     * @return the players indexed in the chunk holding the position
+     */
+    private List<Player> near(double x, double z) {
+        List<Player> found = new ArrayList<>();
+        index.forEachNear(senders.getWorld(), x, z, x, z, found::add);
+        return found;
+    }
+
+    private Vehicle carrying(Player passenger) {
+        return (Vehicle) Proxy.newProxyInstance(Vehicle.class.getClassLoader(), new Class<?>[]{Vehicle.class},
+                (proxy, method, args) -> method.getName().equals("getPassengers") ? List.of(passenger) : null);
+    }
+
+    @Test
+    public void followsChunkCrossingMoves() {
+        index.onMove(new PlayerMoveEvent(player, at(0.5, 0.5), at(0.5, 0.5)));
+        assertEquals(List.of(player), near(0.5, 0.5));
+
+        index.onMove(new PlayerMoveEvent(player, at(15.5, 0.5), at(16.5, 0.5)));
+        assertEquals(List.of(), near(0.5, 0.5));
+        assertEquals(List.of(player), near(16.5, 0.5));
+    }
+
+    @Test
+    public void moveWithinAChunkFixesAStaleBucket() {
+        index.onMove(new PlayerMoveEvent(player, at(0.5, 0.5), at(0.5, 0.5)));
+
+        // the first move after riding somewhere stays inside the new chunk
+        index.onMove(new PlayerMoveEvent(player, at(100.5, 100.5), at(101.5, 100.5)));
+
+        assertEquals(List.of(), near(0.5, 0.5));
+        assertEquals(List.of(player), near(101.5, 100.5));
+    }
+
+    @Test
+    public void passengersFollowTheirVehicle() {
+        index.onMove(new PlayerMoveEvent(player, at(0.5, 0.5), at(0.5, 0.5)));
+
+        Vehicle vehicle = carrying(player);
+        index.onVehicleMove(new VehicleMoveEvent(vehicle, at(90.5, 100.5), at(100.5, 100.5)));
+        assertEquals(List.of(player), near(100.5, 100.5));
+
+        index.onDismount(new EntityDismountEvent(player, vehicle));
+        assertEquals(List.of(player), near(0.5, 0.5));
+        assertEquals(List.of(), near(100.5, 100.5));
+    }
+}
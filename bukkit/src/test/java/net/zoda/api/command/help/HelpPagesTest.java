@@ -0,0 +1,126 @@
+package net.zoda.api.command.help;
+
+import net.kyori.adventure.text.Component;
+import net.zoda.api.command.ACommand;
+import net.zoda.api.command.Command;
+import net.zoda.api.command.CommandShortcut;
+import net.zoda.api.command.DefaultRun;
+import net.zoda.api.command.manager.CommandManager;
+import net.zoda.api.command.message.MessageCatalog;
+import net.zoda.api.command.scheduler.LocalCommandScheduler;
+import net.zoda.api.command.subcommand.Subcommand;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Help pages rendered for senders of different locales
+ */
+public class HelpPagesTest {
+
+    private final MessageCatalog messages = new MessageCatalog(Logger.getLogger("HelpPagesTest"));
+    private HelpPages helpPages;
+
+    @BeforeEach
+    public void register() {
+        CommandManager manager = CommandManager.getInstance();
+        manager.setCommandScheduler(new LocalCommandScheduler());
+        manager.registerCommand(new ManualCommand(), null);
+
+        helpPages = new HelpPages(manager::getCommand, messages);
+
+        messages.override("de", "help-header", "Hilfe: /{command} ({page}/{pages})");
+        messages.override("de", "help-shortcut", "Kurzform von {command}");
+        messages.override("de", "help-next", "Weiter >");
+    }
+
+    @Test
+    public void pagesAreRenderedPerLocale() {
+        List<Component> english = helpPages.getPages(player("en_us"), "manual");
+        List<Component> german = helpPages.getPages(player("de_de"), "manual");
+
+        assertEquals(2, english.size());
+        assertEquals(2, german.size());
+
+        assertTrue(english.get(0).toString().startsWith("Help: /manual (1/2)"), english.get(0).toString());
+        assertTrue(english.get(0).toString().endsWith("< Previous | Next >"), english.get(0).toString());
+
+        assertTrue(german.get(0).toString().startsWith("Hilfe: /manual (1/2)"), german.get(0).toString());
+        assertTrue(german.get(0).toString().endsWith("< Previous | Weiter >"), german.get(0).toString());
+    }
+
+    @Test
+    public void shortcutsAreDescribedInTheSendersLocale() {
+        String english = String.join("\n", helpPages.getPages(player("en_us"), "manual").stream().map(Component::toString).toList());
+        String german = String.join("\n", helpPages.getPages(player("de_de"), "manual").stream().map(Component::toString).toList());
+
+        assertTrue(english.contains("/read - Shortcut for /manual"), english);
+        assertTrue(german.contains("/read - Kurzform von /manual"), german);
+    }
+
+    private static Player player(String locale) {
+        return (Player) Proxy.newProxyInstance(HelpPagesTest.class.getClassLoader(), new Class<?>[]{Player.class}, (proxy, method, args) -> switch (method.getName()) {
+            case "getLocale" -> locale;
+            case "getName" -> "reader";
+            case "hasPermission" -> true;
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> null;
+        });
+    }
+
+    @Command(name = "manual", help = true)
+    public static class ManualCommand implements ACommand {
+
+        @CommandShortcut(value = "default", shortcutName = "read")
+        private final Map<String, Object> read = Map.of();
+
+        @DefaultRun
+        public void run(CommandSender sender) {
+        }
+
+        @Subcommand(name = "a")
+        public void a(CommandSender sender) {
+        }
+
+        @Subcommand(name = "b")
+        public void b(CommandSender sender) {
+        }
+
+        @Subcommand(name = "c")
+        public void c(CommandSender sender) {
+        }
+
+        @Subcommand(name = "d")
+        public void d(CommandSender sender) {
+        }
+
+        @Subcommand(name = "e")
+        public void e(CommandSender sender) {
+        }
+
+        @Subcommand(name = "f")
+        public void f(CommandSender sender) {
+        }
+
+        @Subcommand(name = "g")
+        public void g(CommandSender sender) {
+        }
+
+        @Subcommand(name = "h")
+        public void h(CommandSender sender) {
+        }
+    }
+}
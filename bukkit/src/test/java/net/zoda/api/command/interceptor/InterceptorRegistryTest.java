@@ -0,0 +1,129 @@
+package net.zoda.api.command.interceptor;
+
+import net.zoda.api.command.argument.Argument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Tests for {@link InterceptorRegistry}
+ */
+public class InterceptorRegistryTest {
+
+    private final List<String> calls = new ArrayList<>();
+    private final InterceptorRegistry registry = new InterceptorRegistry(invocation -> {
+        calls.add("method");
+        return "result";
+    });
+
+    private Method warp;
+    private Method warpSet;
+    private Method warps;
+
+    @BeforeEach
+    public void registerNodes() throws NoSuchMethodException {
+        warp = InterceptorRegistryTest.class.getDeclaredMethod("warp");
+        warpSet = InterceptorRegistryTest.class.getDeclaredMethod("warpSet");
+        warps = InterceptorRegistryTest.class.getDeclaredMethod("warps");
+
+        registry.registerNode(warp, "warp");
+        registry.registerNode(warpSet, "Warp set");
+        registry.registerNode(warps, "warps");
+    }
+
+    private void warp() {
+    }
+
+    private void warpSet() {
+    }
+
+    private void warps() {
+    }
+
+    private void home() {
+    }
+
+    private CommandInterceptor recording(String name) {
+        return CommandInterceptor.before(invocation -> calls.add(name));
+    }
+
+    private Object run(Method method) throws Exception {
+        InterceptorRegistry.Chain chain = registry.get(method);
+        return chain.getTarget().invoke(new Invocation(null, null, chain.getPath(), method, new Argument[0], new Object[0]));
+    }
+
+    @Test
+    public void broaderInterceptorsWrapNarrowerOnes() throws Exception {
+        registry.add("warp set", recording("subcommand"));
+        registry.add("", recording("global 1"));
+        registry.add("WARP", recording("command"));
+        registry.add("", recording("global 2"));
+
+        assertEquals("result", run(warpSet));
+        assertEquals(List.of("global 1", "global 2", "command", "subcommand", "method"), calls);
+
+        calls.clear();
+        run(warp);
+        assertEquals(List.of("global 1", "global 2", "command", "method"), calls);
+    }
+
+    @Test
+    public void onlyWholePathSegmentsMatch() throws Exception {
+        registry.add("warp", recording("command"));
+
+        assertNull(registry.get(warps));
+        assertNotNull(registry.get(warpSet));
+        assertEquals("warp set", registry.get(warpSet).getPath());
+    }
+
+    @Test
+    public void nodesWithoutInterceptorsHaveNoChain() throws Exception {
+        assertNull(registry.get(warp));
+
+        CommandInterceptor interceptor = recording("command");
+        registry.add("warp", interceptor);
+        assertNotNull(registry.get(warp));
+
+        assertTrue(registry.remove(interceptor));
+        assertFalse(registry.remove(interceptor));
+        assertNull(registry.get(warp));
+    }
+
+    @Test
+    public void nodesRegisteredLaterGetTheirChain() throws Exception {
+        registry.add("home", recording("command"));
+
+        Method home = InterceptorRegistryTest.class.getDeclaredMethod("home");
+        registry.registerNode(home, "home");
+
+        run(home);
+        assertEquals(List.of("command", "method"), calls);
+    }
+
+    @Test
+    public void interceptorsMayStopTheChain() throws Exception {
+        registry.add("", (invocation, next) -> "denied");
+        registry.add("warp", recording("command"));
+
+        assertEquals("denied", run(warp));
+        assertTrue(calls.isEmpty());
+    }
+
+    @Test
+    public void afterInterceptorsSeeTheResult() throws Exception {
+        List<Object> results = new ArrayList<>();
+        registry.add("warp", CommandInterceptor.after((invocation, result) -> results.add(result)));
+
+        run(warp);
+        assertEquals(List.of("result"), results);
+    }
+}
@@ -0,0 +1,101 @@
+package net.zoda.api.command.loadtest;
+
+import net.zoda.api.command.ACommand;
+import net.zoda.api.command.Command;
+import net.zoda.api.command.DefaultRun;
+import net.zoda.api.command.argument.Argument;
+import net.zoda.api.command.argument.ArgumentType;
+import net.zoda.api.command.manager.CommandManager;
+import net.zoda.api.command.scheduler.LocalCommandScheduler;
+import org.bukkit.Location;
+import org.bukkit.command.CommandSender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Replays traces against a detached {@link CommandManager}, no server is running
+ */
+public class LoadGeneratorTest {
+
+    private static final List<String> LINES = List.of("loadwarp spawn", "loadwarp shop ~ ~1 ~", "loadwarp arena 10 64 -3");
+
+    private final WarpCommand command = new WarpCommand();
+
+    @BeforeEach
+    public void register() {
+        CommandManager manager = CommandManager.getInstance();
+        manager.setCommandScheduler(new LocalCommandScheduler());
+        manager.registerCommand(command, null);
+    }
+
+    @Test
+    public void managerIsDetached() {
+        assertTrue(CommandManager.getInstance().isDetached());
+        assertNotNull(CommandManager.getInstance().getBukkitCommand("loadwarp"));
+        assertNotNull(CommandManager.getInstance().getBukkitCommand("lw"));
+    }
+
+    @Test
+    public void tabRequestsStartAfterTheLabel() {
+        SyntheticTraffic traffic = new SyntheticTraffic(LINES);
+        traffic.setPlayers(5);
+
+        for (TraceEntry entry : traffic.generate()) {
+            if (entry.isTabRequest()) assertTrue(entry.getCommandLine().startsWith("loadwarp "), entry.getCommandLine());
+        }
+    }
+
+    @Test
+    public void replaysWithoutErrors() {
+        SyntheticTraffic traffic = new SyntheticTraffic(LINES);
+        traffic.setPlayers(5);
+        traffic.setDurationMillis(30_000);
+
+        List<TraceEntry> trace = traffic.generate();
+        LoadReport report = new LoadGenerator().replay(trace);
+
+        long executions = trace.stream().filter(entry -> !entry.isTabRequest()).count();
+
+        assertEquals(0, report.getExecution().getErrors());
+        assertEquals(0, report.getCompletion().getErrors());
+        assertEquals(executions, report.getExecution().getCount());
+        assertEquals(executions, command.targets.size());
+    }
+
+    @Test
+    public void standInPlayersHaveALocation() {
+        LoadGenerator generator = new LoadGenerator();
+        generator.replay(List.of(new TraceEntry(0, "Player0", false, "loadwarp shop ~ ~1 ~")));
+
+        Location target = command.targets.get(0);
+        assertNotNull(target);
+        assertEquals(generator.getSenders().getSpawn().getY() + 1, target.getY(), 1e-9);
+        assertSame(generator.getSenders().getWorld(), target.getWorld());
+    }
+
+    @Command(name = "loadwarp", aliases = "lw")
+    public static class WarpCommand implements ACommand {
+
+        private final List<Location> targets = new ArrayList<>();
+
+        private final Function<CommandSender, List<String>> name = sender -> List.of("spawn", "shop", "arena");
+
+        @DefaultRun(arguments = {
+                @Argument(name = "name", type = ArgumentType.STRING),
+                @Argument(name = "at", type = ArgumentType.LOCATION, required = false)
+        })
+        public void run(CommandSender sender, String name, Location at) {
+            targets.add(at);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package net.zoda.api.command.manager;
+
+import net.zoda.api.command.ACommand;
+import net.zoda.api.command.Audited;
+import net.zoda.api.command.Command;
+import net.zoda.api.command.DefaultRun;
+import net.zoda.api.command.argument.Argument;
+import net.zoda.api.command.argument.ArgumentType;
+import net.zoda.api.command.argument.parser.ArgumentParser;
+import net.zoda.api.command.argument.parser.ArgumentParsers;
+import net.zoda.api.command.argument.parser.ArgumentReader;
+import net.zoda.api.command.argument.parser.ParseContext;
+import net.zoda.api.command.loadtest.StandInSenders;
+import net.zoda.api.command.scheduler.LocalCommandScheduler;
+import org.bukkit.command.CommandSender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Invocations of {@link Audited} commands against a detached {@link CommandManager}
+ */
+public class AuditTest {
+
+    private static final String PARSER = "test:unprintable";
+
+    private final AuditedCommand command = new AuditedCommand();
+    private Path directory;
+
+    @BeforeEach
+    public void register() throws IOException {
+        if (ArgumentParsers.get(PARSER) == null) ArgumentParsers.register(PARSER, new UnprintableParser());
+
+        directory = Files.createTempDirectory("audit");
+
+        CommandManager manager = CommandManager.getInstance();
+        manager.setCommandScheduler(new LocalCommandScheduler());
+        manager.registerCommand(command, null);
+        manager.enableAudit(directory);
+    }
+
+    @AfterEach
+    public void disable() {
+        CommandManager.getInstance().disableAudit();
+    }
+
+    @Test
+    public void failingStringifyKeepsTheInvocation() throws IOException {
+        CommandSender sender = new StandInSenders().get("console");
+
+        CommandManager.getInstance().getBukkitCommand("audited").execute(sender, "audited", new String[]{"anything"});
+        assertEquals(List.of("anything"), command.values);
+
+        CommandManager.getInstance().disableAudit();
+
+        String written = Files.readString(directory.resolve("audit.log"));
+        assertTrue(written.contains(CommandManager.UNPRINTABLE_VALUE), written);
+        assertTrue(written.contains("\"SUCCESS\""), written);
+    }
+
+    @Audited
+    @Command(name = "audited")
+    public static class AuditedCommand implements ACommand {
+
+        private final List<String> values = new ArrayList<>();
+
+        @DefaultRun(arguments = @Argument(name = "value", parser = PARSER, disableCompletions = true))
+        public void run(CommandSender sender, String value) {
+            values.add(value);
+        }
+    }
+
+    private static final class UnprintableParser implements ArgumentParser<String> {
+
+        @Override
+        public Class<?> getType() {
+            return String.class;
+        }
+
+        @Override
+        public String parse(ParseContext context, Argument argument, ArgumentReader reader) {
+            return reader.next();
+        }
+
+        @Override
+        public String stringify(CommandSender sender, String value) {
+            throw new IllegalStateException("unprintable");
+        }
+    }
+}
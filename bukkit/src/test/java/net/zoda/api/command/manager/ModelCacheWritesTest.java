@@ -0,0 +1,118 @@
+package net.zoda.api.command.manager;
+
+import net.zoda.api.command.ACommand;
+import net.zoda.api.command.Command;
+import net.zoda.api.command.DefaultRun;
+import net.zoda.api.command.argument.Argument;
+import net.zoda.api.command.argument.ArgumentType;
+import net.zoda.api.command.argument.parser.ArgumentParser;
+import net.zoda.api.command.argument.parser.ArgumentParsers;
+import net.zoda.api.command.argument.parser.ArgumentReader;
+import net.zoda.api.command.argument.parser.ParseContext;
+import net.zoda.api.command.scheduler.LocalCommandScheduler;
+import org.bukkit.command.CommandSender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * When the command model cache is written and when its models are discarded
+ */
+public class ModelCacheWritesTest {
+
+    private static final String PARSER = "test:salted";
+
+    private Path file;
+
+    @BeforeEach
+    public void enable() throws IOException {
+        file = Files.createTempDirectory("models").resolve("command-models.bin");
+
+        CommandManager manager = CommandManager.getInstance();
+        manager.setCommandScheduler(new LocalCommandScheduler());
+        manager.enableModelCache(file);
+    }
+
+    @Test
+    public void singleRegistrationsWaitForSave() {
+        CommandManager manager = CommandManager.getInstance();
+        manager.registerCommand(new CachedCommand(), null);
+
+        assertFalse(Files.exists(file));
+
+        manager.saveModelCache();
+        assertTrue(Files.exists(file));
+
+        manager.enableModelCache(file);
+        assertEquals(1, manager.getModelCache().size());
+    }
+
+    @Test
+    public void batchRegistrationWritesOnce() {
+        CommandManager manager = CommandManager.getInstance();
+        manager.registerCommands(null, new CachedCommand(), new OtherCachedCommand());
+
+        assertTrue(Files.exists(file));
+
+        manager.enableModelCache(file);
+        assertEquals(2, manager.getModelCache().size());
+    }
+
+    @Test
+    public void registeringAParserDiscardsTheModels() {
+        CommandManager manager = CommandManager.getInstance();
+        manager.registerCommand(new CachedCommand(), null);
+        manager.saveModelCache();
+
+        ArgumentParsers.register(PARSER, new SaltedParser());
+
+        try {
+            manager.enableModelCache(file);
+            assertEquals(0, manager.getModelCache().size());
+        } finally {
+            ArgumentParsers.unregister(PARSER);
+        }
+    }
+
+    @Command(name = "cached")
+    public static class CachedCommand implements ACommand {
+
+        private final Function<CommandSender, List<String>> value = sender -> List.of("a", "b");
+
+        @DefaultRun(arguments = @Argument(name = "value", type = ArgumentType.STRING))
+        public void run(CommandSender sender, String value) {
+        }
+    }
+
+    @Command(name = "othercached")
+    public static class OtherCachedCommand implements ACommand {
+
+        @DefaultRun
+        public void run(CommandSender sender) {
+        }
+    }
+
+    private static final class SaltedParser implements ArgumentParser<String> {
+
+        @Override
+        public Class<?> getType() {
+            return String.class;
+        }
+
+        @Override
+        public String parse(ParseContext context, Argument argument, ArgumentReader reader) {
+            return reader.next();
+        }
+    }
+}
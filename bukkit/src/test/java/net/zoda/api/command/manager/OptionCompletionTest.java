@@ -0,0 +1,65 @@
+package net.zoda.api.command.manager;
+
+import net.zoda.api.command.ACommand;
+import net.zoda.api.command.Command;
+import net.zoda.api.command.DefaultRun;
+import net.zoda.api.command.argument.Argument;
+import net.zoda.api.command.argument.ArgumentType;
+import net.zoda.api.command.loadtest.StandInSenders;
+import net.zoda.api.command.scheduler.LocalCommandScheduler;
+import org.bukkit.command.CommandSender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Completions of a node mixing options with a numeric argument
+ */
+public class OptionCompletionTest {
+
+    private final CommandSender sender = new StandInSenders().get("completer");
+
+    @BeforeEach
+    public void register() {
+        CommandManager manager = CommandManager.getInstance();
+        manager.setCommandScheduler(new LocalCommandScheduler());
+        manager.registerCommand(new OffsetCommand(), null);
+    }
+
+    @Test
+    public void dashSuggestsOptions() {
+        assertEquals(List.of("--radius", "--silent", "-s"), complete("-").stream().sorted().toList());
+        assertEquals(List.of("--radius"), complete("--r"));
+    }
+
+    @Test
+    public void negativeNumbersAreCompletedAsValues() {
+        assertEquals(List.of("-5", "-50"), complete("-5"));
+    }
+
+    private List<String> complete(String token) {
+        return CommandManager.getInstance().getBukkitCommand("offset").tabComplete(sender, "offset", new String[]{token});
+    }
+
+    @Command(name = "offset")
+    public static class OffsetCommand implements ACommand {
+
+        private final Function<CommandSender, List<Integer>> amount = sender -> List.of(-50, -5, 5, 50);
+
+        @DefaultRun(arguments = {
+                @Argument(name = "amount", type = ArgumentType.INTEGER),
+                @Argument(name = "silent", type = ArgumentType.BOOLEAN, option = true, alias = 's'),
+                @Argument(name = "radius", type = ArgumentType.DOUBLE, option = true, disableCompletions = true)
+        })
+        public void run(CommandSender sender, Integer amount, Boolean silent, Double radius) {
+        }
+    }
+}
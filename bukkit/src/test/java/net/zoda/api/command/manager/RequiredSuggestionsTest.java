@@ -0,0 +1,81 @@
+package net.zoda.api.command.manager;
+
+import net.zoda.api.command.ACommand;
+import net.zoda.api.command.Command;
+import net.zoda.api.command.DefaultRun;
+import net.zoda.api.command.argument.Argument;
+import net.zoda.api.command.argument.ArgumentType;
+import net.zoda.api.command.loadtest.StandInSenders;
+import net.zoda.api.command.scheduler.LocalCommandScheduler;
+import org.bukkit.command.CommandSender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Arguments whose value must be one of a future completer's suggestions
+ */
+public class RequiredSuggestionsTest {
+
+    private final RequiredCommand command = new RequiredCommand();
+    private final StandInSenders senders = new StandInSenders();
+
+    @BeforeEach
+    public void register() {
+        CommandManager manager = CommandManager.getInstance();
+        manager.setCommandScheduler(new LocalCommandScheduler());
+        manager.registerCommand(command, null);
+    }
+
+    @Test
+    public void pendingCompleterRejectsTheValue() {
+        CommandSender sender = senders.get("pending");
+        long messages = senders.getMessages();
+
+        run(sender, "anything");
+
+        assertTrue(command.values.isEmpty());
+        assertEquals(messages + 1, senders.getMessages());
+    }
+
+    @Test
+    public void settledCompleterChecksTheValue() {
+        CommandSender sender = senders.get("settled");
+
+        run(sender, "anything");
+        command.names.complete(List.of("alpha", "beta"));
+
+        run(sender, "alpha");
+        run(sender, "gamma");
+
+        assertEquals(List.of("alpha"), command.values);
+    }
+
+    private static void run(CommandSender sender, String value) {
+        CommandManager.getInstance().getBukkitCommand("required").execute(sender, "required", new String[]{value});
+    }
+
+    @Command(name = "required")
+    public static class RequiredCommand implements ACommand {
+
+        private final CompletableFuture<List<String>> names = new CompletableFuture<>();
+        private final List<String> values = new ArrayList<>();
+
+        private final Function<CommandSender, CompletableFuture<List<String>>> name = sender -> names;
+
+        @DefaultRun(arguments = @Argument(name = "name", type = ArgumentType.STRING))
+        public void run(CommandSender sender, String value) {
+            values.add(value);
+        }
+    }
+}
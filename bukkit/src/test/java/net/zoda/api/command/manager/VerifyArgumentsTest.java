@@ -0,0 +1,107 @@
+package net.zoda.api.command.manager;
+
+import net.zoda.api.command.ACommand;
+import net.zoda.api.command.DefaultRun;
+import net.zoda.api.command.argument.Argument;
+import net.zoda.api.command.argument.ArgumentType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Registration checks of {@link CommandManager#verifyArguments}, every argument is checked whatever comes before it
+ */
+public class VerifyArgumentsTest {
+
+    private final List<String> errors = new ArrayList<>();
+    private final Logger logger = Logger.getLogger("VerifyArgumentsTest");
+
+    {
+        logger.setUseParentHandlers(false);
+        logger.addHandler(new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                errors.add(record.getMessage());
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+    }
+
+    private boolean verify(String method) {
+        try {
+            Argument[] arguments = EnumCommand.class.getDeclaredMethod(method).getAnnotation(DefaultRun.class).arguments();
+            return CommandManager.verifyArguments(arguments, EnumCommand.class, method, false, logger);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    public void validArgumentsAfterAnEnumPass() {
+        assertTrue(verify("valid"));
+    }
+
+    @Test
+    public void invalidPatternAfterAFieldEnumFails() {
+        assertFalse(verify("badPattern"));
+        assertTrue(errors.stream().anyMatch(error -> error.contains("invalid pattern")), errors.toString());
+    }
+
+    @Test
+    public void numericBoundsOnAStringAfterAMethodEnumFail() {
+        assertFalse(verify("badBounds"));
+        assertTrue(errors.stream().anyMatch(error -> error.contains("min and max only apply to numbers")), errors.toString());
+    }
+
+    public enum Mode {
+        SURVIVAL,
+        CREATIVE
+    }
+
+    public static class EnumCommand implements ACommand {
+
+        private final Class<Mode> mode = Mode.class;
+
+        private Class<Mode> other() {
+            return Mode.class;
+        }
+
+        @DefaultRun(arguments = {
+                @Argument(name = "mode", type = ArgumentType.ENUM),
+                @Argument(name = "reason", type = ArgumentType.STRING, pattern = "[a-z]+", disableCompletions = true)
+        })
+        public void valid() {
+        }
+
+        @DefaultRun(arguments = {
+                @Argument(name = "mode", type = ArgumentType.ENUM),
+                @Argument(name = "reason", type = ArgumentType.STRING, pattern = "[a-z", disableCompletions = true)
+        })
+        public void badPattern() {
+        }
+
+        @DefaultRun(arguments = {
+                @Argument(name = "mode", type = ArgumentType.ENUM, completer = "other"),
+                @Argument(name = "reason", type = ArgumentType.STRING, min = 1, disableCompletions = true)
+        })
+        public void badBounds() {
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package net.zoda.api.command.scheduler;
+
+import net.zoda.api.command.ACommand;
+import net.zoda.api.command.Command;
+import net.zoda.api.command.DefaultRun;
+import net.zoda.api.command.ExecuteOn;
+import net.zoda.api.command.argument.Argument;
+import net.zoda.api.command.argument.ArgumentType;
+import net.zoda.api.command.loadtest.StandInSenders;
+import net.zoda.api.command.manager.CommandManager;
+import net.zoda.api.command.recording.InvocationLog;
+import net.zoda.api.command.recording.InvocationOutcome;
+import net.zoda.api.command.recording.InvocationRecord;
+import net.zoda.api.command.subcommand.Subcommand;
+import net.zoda.api.command.task.SlicedTask;
+import org.bukkit.Location;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Dispatches {@link ExecuteOn} methods of a detached {@link CommandManager} through a {@link LocalCommandScheduler}
+ */
+public class ExecutionContextTest {
+
+    private final LocalCommandScheduler local = new LocalCommandScheduler();
+    private final StandInSenders senders = new StandInSenders();
+    private final RegionCommand command = new RegionCommand();
+
+    @BeforeEach
+    public void register() {
+        CommandManager manager = CommandManager.getInstance();
+        manager.setCommandScheduler(local);
+        manager.getTaskScheduler().setTickBudgetMillis(0);
+        manager.registerCommand(command, null);
+    }
+
+    private void run(CommandSender sender, String... args) {
+        CommandManager.getInstance().getBukkitCommand("region").execute(sender, "region", args);
+    }
+
+    @Test
+    public void senderContextWaitsForTheSendersEntity() {
+        Player player = (Player) senders.get("Player0");
+        run(player, "sender");
+
+        assertTrue(command.ran.isEmpty(), "ran before the handoff");
+        assertEquals(1, local.getPending().size());
+        assertSame(player, local.getPending().get(0).getEntity());
+
+        assertEquals(1, local.runPending());
+        assertEquals(List.of("sender"), command.ran);
+    }
+
+    @Test
+    public void removedSenderDropsTheInvocation() {
+        Player player = (Player) senders.get("Player0");
+        run(player, "sender");
+
+        long messages = senders.getMessages();
+        assertEquals(1, local.retire(player));
+
+        assertEquals(0, local.runPending());
+        assertTrue(command.ran.isEmpty());
+        assertEquals(messages + 1, senders.getMessages());
+    }
+
+    @Test
+    public void handoffsAreRecordedAsDeferred() throws IOException {
+        Path path = Files.createTempDirectory("invocations").resolve("invocations.log");
+        CommandManager manager = CommandManager.getInstance();
+
+        manager.startRecording(path, 16);
+        try {
+            run(senders.get("console"));
+            run(senders.get("console"), "sender");
+        } finally {
+            manager.stopRecording();
+        }
+
+        List<InvocationRecord> records = InvocationLog.read(path);
+        assertEquals(List.of(InvocationOutcome.SUCCESS, InvocationOutcome.DEFERRED), records.stream().map(InvocationRecord::getOutcome).toList());
+    }
+
+    @Test
+    public void consoleSenderContextIsGlobal() {
+        run(senders.get("console"), "sender");
+
+        LocalCommandScheduler.Handoff handoff = local.getPending().get(0);
+        assertNull(handoff.getEntity());
+        assertNull(handoff.getLocation());
+    }
+
+    @Test
+    public void argumentContextUsesTheParsedLocation() {
+        run(senders.get("console"), "at", "10", "64", "-3", StandInSenders.WORLD_NAME);
+
+        Location location = local.getPending().get(0).getLocation();
+        assertNotNull(location);
+        assertEquals(10, location.getX());
+        assertEquals(-3, location.getZ());
+    }
+
+    @Test
+    public void invalidArgumentsNeverReachTheScheduler() {
+        run(senders.get("console"), "at", "ten", "64", "-3", StandInSenders.WORLD_NAME);
+
+        assertTrue(local.getPending().isEmpty());
+    }
+
+    @Test
+    public void slicedResultStaysInTheContext() {
+        run(senders.get("Player0"), "sliced");
+
+        local.runPending();
+        assertEquals(List.of("sliced"), command.ran);
+
+        // every slice is handed back, nothing waits for a main thread
+        for (int slice = 0; slice < 3; slice++) {
+            assertEquals(1, local.runPending());
+        }
+        assertEquals(3, command.slices);
+        assertEquals(0, local.runPending());
+    }
+
+    @Command(name = "region")
+    public static class RegionCommand implements ACommand {
+
+        private final List<String> ran = new ArrayList<>();
+        private int slices;
+
+        @DefaultRun
+        public void run(CommandSender sender) {
+            ran.add("default");
+        }
+
+        @ExecuteOn(ExecuteOn.Context.SENDER)
+        @Subcommand(name = "sender")
+        public void sender(CommandSender sender) {
+            ran.add("sender");
+        }
+
+        @ExecuteOn(value = ExecuteOn.Context.ARGUMENT, argument = "target")
+        @Subcommand(name = "at", arguments = @Argument(name = "target", type = ArgumentType.LOCATION, disableCompletions = true))
+        public void at(CommandSender sender, Location target) {
+            ran.add("at");
+        }
+
+        @ExecuteOn(ExecuteOn.Context.SENDER)
+        @Subcommand(name = "sliced")
+        public SlicedTask sliced(CommandSender sender) {
+            ran.add("sliced");
+            return () -> ++slices < 3;
+        }
+    }
+}
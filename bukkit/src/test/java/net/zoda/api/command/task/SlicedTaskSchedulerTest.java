@@ -0,0 +1,133 @@
+package net.zoda.api.command.task;
+
+import net.zoda.api.command.loadtest.StandInSenders;
+import net.zoda.api.command.scheduler.ContextExecutor;
+import net.zoda.api.command.scheduler.LocalCommandScheduler;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Tests for {@link SlicedTaskScheduler} driving tasks through a {@link LocalCommandScheduler}
+ */
+public class SlicedTaskSchedulerTest {
+
+    private final SlicedTaskScheduler scheduler = new SlicedTaskScheduler(Logger.getLogger("SlicedTaskSchedulerTest"));
+    private final LocalCommandScheduler local = new LocalCommandScheduler();
+    private final StandInSenders senders = new StandInSenders();
+    private final CommandSender console = senders.get("console");
+    private final ContextExecutor global = (runnable, retired) -> local.runGlobal(null, runnable);
+
+    @BeforeEach
+    public void oneSlicePerRun() {
+        scheduler.setTickBudgetMillis(0);
+    }
+
+    @Test
+    public void handedBackTaskOnlyRunsThroughTheExecutor() {
+        AtomicInteger steps = new AtomicInteger();
+        AtomicInteger completed = new AtomicInteger();
+
+        SlicedTaskHandle handle = scheduler.submit("test", console, new SlicedTask() {
+            @Override
+            public boolean step() {
+                return steps.incrementAndGet() < 3;
+            }
+
+            @Override
+            public void onComplete() {
+                completed.incrementAndGet();
+            }
+        }, global);
+
+        assertEquals(0, steps.get());
+        assertEquals(1, scheduler.getTasks(console).size());
+
+        for (int run = 1; run <= 3; run++) {
+            assertEquals(1, local.runPending());
+            assertEquals(run, steps.get());
+        }
+
+        assertEquals(0, local.runPending());
+        assertTrue(handle.isDone());
+        assertEquals(1, completed.get());
+        assertTrue(scheduler.getTasks(console).isEmpty());
+    }
+
+    @Test
+    public void cancelledTaskStopsBeforeItsNextSlice() {
+        AtomicInteger steps = new AtomicInteger();
+        AtomicInteger cancelled = new AtomicInteger();
+
+        SlicedTaskHandle handle = scheduler.submit("test", console, new SlicedTask() {
+            @Override
+            public boolean step() {
+                steps.incrementAndGet();
+                return true;
+            }
+
+            @Override
+            public void onCancel() {
+                cancelled.incrementAndGet();
+            }
+        }, global);
+
+        local.runPending();
+        assertEquals(1, scheduler.cancelAll(console));
+
+        local.runPending();
+        assertEquals(1, steps.get());
+        assertEquals(1, cancelled.get());
+        assertEquals(0, local.runPending());
+        assertTrue(handle.isDone());
+    }
+
+    @Test
+    public void removedEntityCancelsTheTask() {
+        Player player = (Player) senders.get("Player0");
+        AtomicInteger steps = new AtomicInteger();
+        AtomicInteger cancelled = new AtomicInteger();
+
+        SlicedTaskHandle handle = scheduler.submit("test", player, new SlicedTask() {
+            @Override
+            public boolean step() {
+                steps.incrementAndGet();
+                return true;
+            }
+
+            @Override
+            public void onCancel() {
+                cancelled.incrementAndGet();
+            }
+        }, (runnable, retired) -> local.runFor(null, player, runnable, retired));
+
+        local.runPending();
+        assertEquals(1, local.retire(player));
+
+        assertEquals(1, steps.get());
+        assertEquals(1, cancelled.get());
+        assertTrue(handle.isDone());
+        assertTrue(scheduler.getTasks(player).isEmpty());
+        assertEquals(0, local.runPending());
+    }
+
+    @Test
+    public void handoffKeepsTheContext() {
+        scheduler.submit("test", console, SlicedTask.of(List.of(1, 2, 3).iterator()), global);
+
+        assertEquals(1, local.getPending().size());
+        assertNull(local.getPending().get(0).getLocation());
+        assertNull(local.getPending().get(0).getEntity());
+    }
+}
@@ -0,0 +1,56 @@
+package net.zoda.api.command.argument;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ */
+@RequiredArgsConstructor
+public enum TimeStampType {
+
+    MONTH(new String[]{"m", "month", "months"}, 2628000),
+    DAY(new String[]{"d", "day", "days"}, 86400),
+    HOUR(new String[]{"h", "hour", "hours"}, 3600),
+    MINUTE(new String[]{"min", "minute", "minutes"}, 60),
+    SECOND(new String[]{"s", "second", "seconds"}, 1);
+
+    static final String[] TYPES = new String[]{"month", "day", "hour", "minute", "second"};
+
+    private static final Map<String, TimeStampType> MAPPED;
+
+    static {
+        Map<String, TimeStampType> map = new HashMap<>();
+        for (TimeStampType type : values()) {
+            for (String s : type.aliases) {
+                map.put(s, type);
+            }
+        }
+        MAPPED = Collections.unmodifiableMap(map);
+    }
+
+    private final String[] aliases;
+    @Getter
+    private final long multiply;
+
+    public static Map<String, TimeStampType> getMapped() {
+        return MAPPED;
+    }
+
+    public static List<String> getAppropriate(int parsed) {
+        List<String> list = new ArrayList<>();
+
+        for (String type : TYPES) {
+            list.add(type + (parsed == 1 ? "" : "s"));
+        }
+        return list;
+    }
+}
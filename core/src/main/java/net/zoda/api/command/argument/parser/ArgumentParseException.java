@@ -0,0 +1,44 @@
+package net.zoda.api.command.argument.parser;
+
+import lombok.Getter;
+import net.zoda.api.command.message.MessageKey;
+import net.zoda.api.command.message.Messages;
+
+import java.util.Locale;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Thrown by an {@link ArgumentParser} when its span can't be parsed. The sender gets the message rendered for their
+ * locale, a plain message is sent through {@link Messages#PARSE_ERROR}.
+ */
+public class ArgumentParseException extends Exception {
+
+    @Getter
+    private final MessageKey key;
+    @Getter
+    private final Object[] values;
+
+    public ArgumentParseException(String message) {
+        super(message, null, false, false);
+        this.key = Messages.PARSE_ERROR;
+        this.values = new Object[]{message};
+    }
+
+    public ArgumentParseException(MessageKey key, Object... values) {
+        super(null, null, false, false);
+        this.key = key;
+        this.values = values;
+    }
+
+    /**
+     * @return the plain message, a keyed one is only rendered when asked for since senders get theirs from the key
+     */
+    @Override
+    public String getMessage() {
+        String message = super.getMessage();
+        return message != null ? message : key.getDefaultTemplate().toPlain(Locale.ROOT, values);
+    }
+}
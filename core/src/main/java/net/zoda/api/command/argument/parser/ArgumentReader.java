@@ -0,0 +1,128 @@
+package net.zoda.api.command.argument.parser;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * A cursor over the raw tokens of an invocation, parsers read their span straight from the
+ * backing array instead of receiving a copied sub-array.
+ */
+public final class ArgumentReader {
+
+    private final String[] tokens;
+    private int cursor;
+
+    public ArgumentReader(String[] tokens) {
+        this(tokens, 0);
+    }
+
+    public ArgumentReader(String[] tokens, int cursor) {
+        this.tokens = tokens;
+        this.cursor = cursor;
+    }
+
+    public boolean hasNext() {
+        return cursor < tokens.length;
+    }
+
+    public int remaining() {
+        return tokens.length - cursor;
+    }
+
+    public String peek() {
+        return tokens[cursor];
+    }
+
+    public String next() {
+        return tokens[cursor++];
+    }
+
+    public int getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(int cursor) {
+        this.cursor = cursor;
+    }
+
+    public int length() {
+        return tokens.length;
+    }
+
+    public String get(int index) {
+        return tokens[index];
+    }
+
+    /**
+     * @return whether the token at the cursor opens a quoted span ({@code ""} escapes a literal quote)
+     */
+    public boolean isQuoted() {
+        return hasNext() && isQuoteStart(tokens[cursor]);
+    }
+
+    /**
+     * Reads a span wrapped in double quotes, the cursor is left after the closing token
+     *
+     * @return the span without its quotes, or null if the span never ends
+     */
+    public String readQuoted() {
+        int start = cursor;
+        int end = findQuoteEnd(tokens, start);
+
+        if (end == -1) return null;
+
+        StringBuilder builder = new StringBuilder();
+        for (int i = start; i <= end; i++) {
+            if (i != start) builder.append(' ');
+            builder.append(tokens[i]);
+        }
+
+        cursor = end + 1;
+
+        int from = 1;
+        int to = builder.length() - (builder.length() > 1 ? 1 : 0);
+        return builder.substring(from, Math.max(from, to));
+    }
+
+    /**
+     * Reads every token left, joined by single spaces
+     */
+    public String readRemaining() {
+        StringBuilder builder = new StringBuilder();
+
+        for (int i = cursor; i < tokens.length; i++) {
+            if (i != cursor) builder.append(' ');
+            builder.append(tokens[i]);
+        }
+
+        cursor = tokens.length;
+        return builder.toString();
+    }
+
+    /**
+     * Reads a single token, unescaping a leading {@code ""}
+     */
+    public String readUnquoted() {
+        String token = next();
+        return token.startsWith("\"\"") ? token.substring(1) : token;
+    }
+
+    public static boolean isQuoteStart(String token) {
+        return token.startsWith("\"") && !token.startsWith("\"\"");
+    }
+
+    /**
+     * @return the index of the token closing the quoted span opened at {@code start}, or -1
+     */
+    public static int findQuoteEnd(String[] tokens, int start) {
+        for (int i = start; i < tokens.length; i++) {
+            String token = tokens[i];
+            if (!token.endsWith("\"")) continue;
+            if (i == start && token.length() == 1) continue;
+
+            return i;
+        }
+        return -1;
+    }
+}
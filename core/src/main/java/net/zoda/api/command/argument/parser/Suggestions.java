@@ -0,0 +1,62 @@
+package net.zoda.api.command.argument.parser;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Collects suggestions for the token being typed inside an argument's span.
+ */
+public class Suggestions {
+
+    private final String[] tokens;
+    @Getter
+    private final int start;
+    @Getter
+    private final int index;
+    @Getter
+    private final String prefix;
+    @Getter
+    private final List<String> list = new ArrayList<>();
+    /**
+     * Whether the candidates are about to change, e.g. an asynchronous completer is still loading
+     */
+    @Getter
+    private boolean provisional;
+
+    public Suggestions(String[] tokens, int start) {
+        this.tokens = tokens;
+        this.start = start;
+        this.index = tokens.length - 1 - start;
+        this.prefix = tokens[tokens.length - 1];
+    }
+
+    /**
+     * @return the token at the given offset inside the span
+     */
+    public String getToken(int offset) {
+        return tokens[start + offset];
+    }
+
+    public boolean matches(String suggestion) {
+        return suggestion.regionMatches(true, 0, prefix, 0, prefix.length());
+    }
+
+    public boolean add(String suggestion) {
+        if (!matches(suggestion)) return false;
+        return list.add(suggestion);
+    }
+
+    public void markProvisional() {
+        provisional = true;
+    }
+
+    public boolean isEmpty() {
+        return list.isEmpty();
+    }
+}
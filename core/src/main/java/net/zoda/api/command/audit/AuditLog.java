@@ -0,0 +1,202 @@
+package net.zoda.api.command.audit;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Writes {@link AuditRecord}s as JSON lines to {@code audit.log} in the given directory. Callers only offer records
+ * to a bounded queue. A daemon thread writes them out in batches and rotates the file once it grows past
+ * {@link #getMaxFileBytes()} or gets older than {@link #getMaxFileAgeMillis()}.
+ * Records offered while the queue is full are dropped and counted.
+ */
+public class AuditLog implements Runnable {
+
+    private static final int MAX_BATCH = 512;
+
+    private final Path directory;
+    private final Logger logger;
+    private final BlockingQueue<AuditRecord> queue;
+    private final AtomicLong dropped = new AtomicLong();
+
+    @Getter
+    @Setter
+    private long flushIntervalMillis = 1000;
+    @Getter
+    @Setter
+    private long maxFileBytes = 16 * 1024 * 1024;
+    @Getter
+    @Setter
+    private long maxFileAgeMillis = TimeUnit.DAYS.toMillis(1);
+
+    private volatile boolean running;
+    private Thread thread;
+
+    private FileChannel channel;
+    private long fileBytes;
+    private long fileOpenedAt;
+    private ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+
+    public AuditLog(Path directory, int capacity, Logger logger) {
+        this.directory = directory;
+        this.logger = logger;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    public synchronized void start() throws IOException {
+        if (running) return;
+
+        Files.createDirectories(directory);
+        open();
+
+        running = true;
+        thread = new Thread(this, "CommandAPI Audit Writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the writer once everything queued so far was written
+     */
+    public synchronized void stop() {
+        if (!running) return;
+        running = false;
+
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Never blocks
+     *
+     * @return false if the record was dropped
+     */
+    public boolean offer(AuditRecord record) {
+        if (running && queue.offer(record)) return true;
+
+        dropped.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * @return how many records were dropped because the queue was full or the log stopped
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    public int getQueued() {
+        return queue.size();
+    }
+
+    @Override
+    public void run() {
+        List<AuditRecord> batch = new ArrayList<>(MAX_BATCH);
+        StringBuilder builder = new StringBuilder(256);
+
+        try {
+            while (running || !queue.isEmpty()) {
+                AuditRecord first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, MAX_BATCH - 1);
+
+                    write(batch, builder);
+                    batch.clear();
+                }
+
+                if (fileBytes >= maxFileBytes || (fileBytes > 0 && System.currentTimeMillis() - fileOpenedAt >= maxFileAgeMillis)) {
+                    rotate();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            logger.severe("Audit log writer stopped: " + e.getMessage());
+            running = false;
+        } finally {
+            try {
+                channel.force(false);
+                channel.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private void write(List<AuditRecord> batch, StringBuilder builder) throws IOException {
+        buffer.clear();
+
+        for (AuditRecord record : batch) {
+            builder.setLength(0);
+            record.appendJson(builder);
+            byte[] bytes = builder.toString().getBytes(StandardCharsets.UTF_8);
+
+            if (buffer.remaining() < bytes.length) {
+                flush();
+                if (buffer.capacity() < bytes.length) buffer = ByteBuffer.allocate(bytes.length);
+            }
+            buffer.put(bytes);
+        }
+        flush();
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            fileBytes += channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void open() throws IOException {
+        Path file = directory.resolve("audit.log");
+
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        fileBytes = channel.size();
+        fileOpenedAt = System.currentTimeMillis();
+    }
+
+    private void rotate() throws IOException {
+        channel.force(false);
+        channel.close();
+
+        String stamp = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+        Path target = directory.resolve("audit-" + stamp + ".log");
+
+        for (int i = 1; Files.exists(target); i++) {
+            target = directory.resolve("audit-" + stamp + "-" + i + ".log");
+        }
+
+        Files.move(directory.resolve("audit.log"), target, StandardCopyOption.ATOMIC_MOVE);
+        open();
+    }
+}
@@ -0,0 +1,93 @@
+package net.zoda.api.command.audit;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import net.zoda.api.command.recording.InvocationOutcome;
+
+import java.util.UUID;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * One audited invocation, every value is already a string so the record can leave the main thread
+ */
+@RequiredArgsConstructor
+public class AuditRecord {
+
+    @Getter
+    private final long timestamp;
+    @Getter
+    private final String sender;
+    /**
+     * Null for senders that aren't players
+     */
+    @Getter
+    private final UUID owner;
+    /**
+     * Command name followed by the subcommand path, e.g. {@code "punish ban"}
+     */
+    @Getter
+    private final String path;
+    @Getter
+    private final String[] argumentNames;
+    /**
+     * Stringified argument values, null where an optional argument was left out
+     */
+    @Getter
+    private final String[] argumentValues;
+    @Getter
+    private final InvocationOutcome outcome;
+
+    /**
+     * Appends the record as a single JSON line
+     */
+    public void appendJson(StringBuilder builder) {
+        builder.append("{\"time\":").append(timestamp)
+                .append(",\"sender\":");
+        appendString(builder, sender);
+        builder.append(",\"uuid\":");
+        appendString(builder, owner == null ? null : owner.toString());
+        builder.append(",\"path\":");
+        appendString(builder, path);
+        builder.append(",\"arguments\":{");
+
+        for (int i = 0; i < argumentNames.length; i++) {
+            if (i != 0) builder.append(',');
+            appendString(builder, argumentNames[i]);
+            builder.append(':');
+            appendString(builder, argumentValues[i]);
+        }
+
+        builder.append("},\"outcome\":\"").append(outcome.name()).append("\"}\n");
+    }
+
+    private static void appendString(StringBuilder builder, String value) {
+        if (value == null) {
+            builder.append("null");
+            return;
+        }
+
+        builder.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+                }
+            }
+        }
+        builder.append('"');
+    }
+}
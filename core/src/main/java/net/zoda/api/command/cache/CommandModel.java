@@ -0,0 +1,138 @@
+package net.zoda.api.command.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Validated shape of a command, everything is kept by name so it can be written to disk and
+ * bound back to the reflective members on the next start without validating them again
+ */
+@RequiredArgsConstructor
+public class CommandModel {
+
+    @Getter
+    private final MethodModel defaultRun;
+    @Getter
+    private final List<RouteModel> routes;
+    @Getter
+    private final List<GroupModel> groups;
+    /**
+     * Fields of the shortcuts that were built successfully
+     */
+    @Getter
+    private final List<String> shortcuts;
+
+    public void write(DataOutputStream out) throws IOException {
+        defaultRun.write(out);
+
+        out.writeShort(routes.size());
+        for (RouteModel route : routes) {
+            out.writeUTF(route.key);
+            out.writeUTF(route.group == null ? "" : route.group);
+            route.method.write(out);
+        }
+
+        out.writeShort(groups.size());
+        for (GroupModel group : groups) {
+            out.writeUTF(group.name);
+            writeStrings(out, group.permissions);
+        }
+
+        writeStrings(out, shortcuts.toArray(new String[0]));
+    }
+
+    public static CommandModel read(DataInputStream in) throws IOException {
+        MethodModel defaultRun = MethodModel.read(in);
+
+        int routeCount = in.readUnsignedShort();
+        List<RouteModel> routes = new ArrayList<>(routeCount);
+        for (int i = 0; i < routeCount; i++) {
+            String key = in.readUTF();
+            String group = in.readUTF();
+            routes.add(new RouteModel(key, group.isEmpty() ? null : group, MethodModel.read(in)));
+        }
+
+        int groupCount = in.readUnsignedShort();
+        List<GroupModel> groups = new ArrayList<>(groupCount);
+        for (int i = 0; i < groupCount; i++) {
+            groups.add(new GroupModel(in.readUTF(), readStrings(in)));
+        }
+
+        return new CommandModel(defaultRun, routes, groups, List.of(readStrings(in)));
+    }
+
+    private static void writeStrings(DataOutputStream out, String[] strings) throws IOException {
+        out.writeShort(strings.length);
+        for (String string : strings) out.writeUTF(string);
+    }
+
+    private static String[] readStrings(DataInputStream in) throws IOException {
+        String[] strings = new String[in.readUnsignedShort()];
+        for (int i = 0; i < strings.length; i++) strings[i] = in.readUTF();
+        return strings;
+    }
+
+    /**
+     * A run method bound by name and parameter types, with its arguments in parsing order
+     */
+    @RequiredArgsConstructor
+    public static class MethodModel {
+
+        @Getter
+        private final String name;
+        @Getter
+        private final String[] parameterTypes;
+        @Getter
+        private final String[] arguments;
+        /**
+         * Completer member of each ordered argument, empty if there is none and suffixed with
+         * {@code "()"} if it is a method
+         */
+        @Getter
+        private final String[] completers;
+
+        void write(DataOutputStream out) throws IOException {
+            out.writeUTF(name);
+            writeStrings(out, parameterTypes);
+            writeStrings(out, arguments);
+            writeStrings(out, completers);
+        }
+
+        static MethodModel read(DataInputStream in) throws IOException {
+            return new MethodModel(in.readUTF(), readStrings(in), readStrings(in), readStrings(in));
+        }
+    }
+
+    /**
+     * A subcommand under its full route key, the group is null for ungrouped subcommands
+     */
+    @RequiredArgsConstructor
+    public static class RouteModel {
+
+        @Getter
+        private final String key;
+        @Getter
+        private final String group;
+        @Getter
+        private final MethodModel method;
+    }
+
+    @RequiredArgsConstructor
+    public static class GroupModel {
+
+        @Getter
+        private final String name;
+        @Getter
+        private final String[] permissions;
+    }
+}
@@ -0,0 +1,195 @@
+package net.zoda.api.command.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * On-disk store of validated command models keyed by class name, an entry is only handed out while the
+ * SHA-256 of the command's class file still matches the one it was stored under.
+ * The whole file is discarded when its salt differs, callers salt it with their own version so a library
+ * update never reuses models validated by older rules.
+ * <p>
+ * File layout: magic (int), version (int), salt (UTF), entry count (int), then per entry the class name (UTF),
+ * class hash (UTF) and the model.
+ */
+public class ModelCache {
+
+    private static final int MAGIC = 0x434D444C;
+    private static final int VERSION = 1;
+
+    @Getter
+    private final Path file;
+    private final String salt;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    /**
+     * Classes looked up or stored since the cache was opened
+     */
+    private final Set<String> used = ConcurrentHashMap.newKeySet();
+    private volatile boolean dirty;
+
+    private ModelCache(Path file, String salt) {
+        this.file = file;
+        this.salt = salt;
+    }
+
+    /**
+     * Opens the cache, starting empty if the file is missing, unreadable or salted differently
+     */
+    public static ModelCache open(Path file, String salt) {
+        ModelCache cache = new ModelCache(file, salt);
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION || !in.readUTF().equals(salt)) {
+                cache.dirty = true;
+                return cache;
+            }
+
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String className = in.readUTF();
+                String hash = in.readUTF();
+                cache.entries.put(className, new Entry(hash, CommandModel.read(in)));
+            }
+        } catch (NoSuchFileException ignored) {
+            cache.dirty = true;
+        } catch (IOException e) {
+            cache.entries.clear();
+            cache.dirty = true;
+        }
+
+        return cache;
+    }
+
+    /**
+     * @return the stored model if the class hasn't changed since it was stored, null otherwise
+     */
+    public CommandModel get(String className, String hash) {
+        used.add(className);
+
+        Entry entry = entries.get(className);
+        if (entry == null || !entry.hash.equals(hash)) return null;
+
+        return entry.model;
+    }
+
+    public void put(String className, String hash, CommandModel model) {
+        used.add(className);
+        entries.put(className, new Entry(hash, model));
+        dirty = true;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Drops the entries of classes that weren't looked up since the cache was opened
+     */
+    public void prune() {
+        if (entries.keySet().retainAll(used)) dirty = true;
+    }
+
+    /**
+     * Writes the cache if it changed, the file is replaced atomically so a crash mid-write leaves the previous
+     * cache intact
+     *
+     * @return false if there was nothing to write
+     */
+    public synchronized boolean save() throws IOException {
+        if (!dirty) return false;
+        dirty = false;
+
+        List<Map.Entry<String, Entry>> snapshot = new ArrayList<>(entries.entrySet());
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) Files.createDirectories(parent);
+
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeUTF(salt);
+                out.writeInt(snapshot.size());
+
+                for (Map.Entry<String, Entry> entry : snapshot) {
+                    out.writeUTF(entry.getKey());
+                    out.writeUTF(entry.getValue().hash);
+                    entry.getValue().model.write(out);
+                }
+            }
+
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            dirty = true;
+            throw e;
+        }
+
+        return true;
+    }
+
+    /**
+     * @return the hex SHA-256 of the class file, null if its bytes can't be read
+     */
+    public static String hashOf(Class<?> clazz) {
+        String resource = clazz.getName().substring(clazz.getName().lastIndexOf('.') + 1) + ".class";
+
+        try (InputStream in = clazz.getResourceAsStream(resource)) {
+            if (in == null) return null;
+
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            int read;
+
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return the hex SHA-256 of the text's UTF-8 bytes
+     */
+    public static String hashOf(String text) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class Entry {
+
+        private final String hash;
+        private final CommandModel model;
+    }
+}
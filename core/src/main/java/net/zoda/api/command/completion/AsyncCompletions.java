@@ -0,0 +1,143 @@
+package net.zoda.api.command.completion;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Results of completers returning a {@link CompletableFuture}, kept per completer and owner. A request waits for a
+ * load at most the completer's deadline, past it the last result is served while the load finishes in the
+ * background (stale-while-revalidate). Results are reloaded ahead of expiry once they are three quarters of their
+ * max age old, so a completer used steadily never has to be waited for.
+ */
+public class AsyncCompletions {
+
+    private static final int SWEEP_THRESHOLD = 256;
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * @param completer the completer's field or method
+     * @param owner     whom the completer ran for, results aren't shared between owners
+     * @param loader    runs the completer, called only when no load of the entry is in flight
+     * @return the latest candidates, empty if none ever arrived in time
+     */
+    public Result get(Object completer, Object owner, Supplier<? extends CompletableFuture<?>> loader, long deadlineMillis, long maxAgeMillis) {
+        if (entries.size() > SWEEP_THRESHOLD) sweep(maxAgeMillis);
+
+        Entry entry = entries.computeIfAbsent(new Key(completer, owner), key -> new Entry());
+        List<?> value = entry.value;
+        long age = System.currentTimeMillis() - entry.loadedAt;
+
+        if (value != null && age < maxAgeMillis) {
+            if (age < maxAgeMillis - maxAgeMillis / 4) return new Result(value, true);
+
+            load(entry, loader);
+            return new Result(value, false);
+        }
+
+        CompletableFuture<List<?>> loading = load(entry, loader);
+
+        try {
+            return new Result(loading.get(deadlineMillis, TimeUnit.MILLISECONDS), true);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException ignored) {
+        }
+
+        return new Result(value == null ? List.of() : value, false);
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private CompletableFuture<List<?>> load(Entry entry, Supplier<? extends CompletableFuture<?>> loader) {
+        CompletableFuture<List<?>> loading;
+
+        synchronized (entry) {
+            if (entry.loading != null) return entry.loading;
+
+            try {
+                loading = loader.get().thenApply(CompletionSources::collect);
+            } catch (RuntimeException e) {
+                loading = CompletableFuture.failedFuture(e);
+            }
+
+            entry.loading = loading;
+        }
+
+        CompletableFuture<List<?>> started = loading;
+
+        // a failed load keeps serving the previous result
+        started.whenComplete((result, throwable) -> {
+            synchronized (entry) {
+                if (result != null) {
+                    entry.value = result;
+                    entry.loadedAt = System.currentTimeMillis();
+                }
+                if (entry.loading == started) entry.loading = null;
+            }
+        });
+
+        return started;
+    }
+
+    /**
+     * Drops entries idle for several max ages, their owners most likely left
+     */
+    private void sweep(long maxAgeMillis) {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.loading == null && now - entry.loadedAt > maxAgeMillis * 4);
+    }
+
+    @RequiredArgsConstructor
+    public static final class Result {
+        @Getter
+        private final List<?> candidates;
+        /**
+         * Whether the candidates are the completer's current answer, false while they are stale or a load
+         * is still pending, such candidates will soon be replaced and mustn't be remembered
+         */
+        @Getter
+        private final boolean settled;
+    }
+
+    @RequiredArgsConstructor
+    private static final class Key {
+        private final Object completer;
+        private final Object owner;
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key key && completer.equals(key.completer) && owner.equals(key.owner);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * completer.hashCode() + owner.hashCode();
+        }
+    }
+
+    private static final class Entry {
+        private volatile List<?> value;
+        private volatile long loadedAt;
+        private volatile CompletableFuture<List<?>> loading;
+    }
+}
@@ -0,0 +1,143 @@
+package net.zoda.api.command.completion;
+
+import lombok.Getter;
+import lombok.Setter;
+import net.zoda.api.command.argument.parser.Suggestions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Remembers each player's last completer candidates, when the next request only extends the typed
+ * prefix at the same argument position the candidates are narrowed instead of being recomputed.
+ * Entries are keyed by the player's unique id, a null owner (console, command blocks) is never cached.
+ */
+public class CompletionCache {
+
+    private static final int SWEEP_THRESHOLD = 64;
+
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Entries unused for longer than this are dropped
+     */
+    @Getter
+    @Setter
+    private long idleMillis = 3000;
+
+    /**
+     * Entries are recomputed after this long even while being narrowed, so completers can change
+     */
+    @Getter
+    @Setter
+    private long maxAgeMillis = 15000;
+
+    /**
+     * Adds the cached candidates still matching the prefix
+     *
+     * @return whether the completer supplied anything, or null if there's nothing to narrow from
+     */
+    public Boolean narrow(UUID owner, Object node, Suggestions suggestions) {
+        if (owner == null) return null;
+
+        Entry entry = entries.get(owner);
+        if (entry == null) return null;
+
+        long now = System.currentTimeMillis();
+
+        if (now - entry.lastUsed > idleMillis || now - entry.createdAt > maxAgeMillis || !entry.extendedBy(node, suggestions)) {
+            entries.remove(owner, entry);
+            return null;
+        }
+
+        List<String> narrowed = new ArrayList<>(Math.min(entry.candidates.size(), 16));
+
+        for (String candidate : entry.candidates) {
+            if (suggestions.add(candidate)) narrowed.add(candidate);
+        }
+
+        entries.put(owner, new Entry(entry, suggestions, narrowed, now));
+        return entry.supplied;
+    }
+
+    /**
+     * Remembers the suggestions to narrow the next request from, provisional suggestions aren't kept
+     */
+    public void store(UUID owner, Object node, Suggestions suggestions, boolean supplied) {
+        if (owner == null || suggestions.isProvisional()) return;
+
+        if (entries.size() > SWEEP_THRESHOLD) sweep();
+
+        entries.put(owner, new Entry(node, suggestions, new ArrayList<>(suggestions.getList()), supplied, System.currentTimeMillis()));
+    }
+
+    public void invalidate(UUID owner) {
+        entries.remove(owner);
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    private void sweep() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> now - entry.lastUsed > idleMillis);
+    }
+
+    private static final class Entry {
+        private final Object node;
+        private final int start;
+        private final String[] span;
+        private final String prefix;
+        private final List<String> candidates;
+        private final boolean supplied;
+        private final long createdAt;
+        private final long lastUsed;
+
+        private Entry(Object node, Suggestions suggestions, List<String> candidates, boolean supplied, long now) {
+            this.node = node;
+            this.start = suggestions.getStart();
+            this.span = new String[suggestions.getIndex()];
+            for (int i = 0; i < span.length; i++) {
+                span[i] = suggestions.getToken(i);
+            }
+            this.prefix = suggestions.getPrefix();
+            this.candidates = candidates;
+            this.supplied = supplied;
+            this.createdAt = now;
+            this.lastUsed = now;
+        }
+
+        private Entry(Entry previous, Suggestions suggestions, List<String> candidates, long now) {
+            this.node = previous.node;
+            this.start = previous.start;
+            this.span = previous.span;
+            this.prefix = suggestions.getPrefix();
+            this.candidates = candidates;
+            this.supplied = previous.supplied;
+            this.createdAt = previous.createdAt;
+            this.lastUsed = now;
+        }
+
+        private boolean extendedBy(Object node, Suggestions suggestions) {
+            if (this.node != node || start != suggestions.getStart() || span.length != suggestions.getIndex()) return false;
+
+            String prefix = suggestions.getPrefix();
+            if (prefix.length() < this.prefix.length() || !prefix.regionMatches(true, 0, this.prefix, 0, this.prefix.length())) {
+                return false;
+            }
+
+            for (int i = 0; i < span.length; i++) {
+                if (!span[i].equals(suggestions.getToken(i))) return false;
+            }
+            return true;
+        }
+    }
+}
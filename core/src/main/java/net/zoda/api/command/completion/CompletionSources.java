@@ -0,0 +1,66 @@
+package net.zoda.api.command.completion;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Turns what a completer returned into a lazy stream of candidates. Lists are streamed as they are, while
+ * {@link Stream}s and {@link Iterator}s are only pulled as far as the caller reads, so a completer backed by a large
+ * data set costs as much as the suggestions actually shown. A completer may also return a {@link CompletableFuture} of
+ * any of those, see {@link AsyncCompletions}.
+ */
+public final class CompletionSources {
+
+    /**
+     * Types a completer function may return
+     */
+    public static final List<Class<?>> TYPES = List.of(List.class, Stream.class, Iterator.class);
+
+    private CompletionSources() {
+    }
+
+    public static boolean isSupported(Class<?> type) {
+        return TYPES.contains(type);
+    }
+
+    /**
+     * @return whether the completer type is a future of one of the {@link #TYPES}, checked separately
+     */
+    public static boolean isFuture(Class<?> type) {
+        return type == CompletableFuture.class;
+    }
+
+    /**
+     * @return every candidate of the source
+     */
+    public static List<?> collect(Object source) {
+        try (Stream<?> stream = open(source)) {
+            return stream.collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * @return the candidates of the source, which must be closed once read, empty for null
+     */
+    public static Stream<?> open(Object source) {
+        if (source == null) return Stream.empty();
+        if (source instanceof Collection<?> collection) return collection.stream();
+        if (source instanceof Stream<?> stream) return stream;
+        if (source instanceof Iterator<?> iterator) {
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
+        }
+
+        throw new IllegalArgumentException("Unsupported completion source: " + source.getClass().getName());
+    }
+}
@@ -0,0 +1,78 @@
+package net.zoda.api.command.message;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Identifies a message of the catalog and carries its default template, the placeholders a template of this
+ * message may use are fixed here and values are always passed in this order.
+ * Placeholders are declared as {@code "name"} for text or {@code "name:number"} for numbers, which are
+ * formatted for the reader's locale.
+ */
+public final class MessageKey {
+
+    public enum Type {
+        TEXT,
+        NUMBER
+    }
+
+    @Getter
+    private final String id;
+    @Getter
+    private final String template;
+    @Getter
+    private final String[] placeholders;
+    @Getter
+    private final Type[] types;
+
+    private volatile MessageTemplate parsed;
+
+    private MessageKey(String id, String template, String[] placeholders, Type[] types) {
+        this.id = id;
+        this.template = template;
+        this.placeholders = placeholders;
+        this.types = types;
+    }
+
+    public static MessageKey of(String id, String template, String... placeholders) {
+        String[] names = new String[placeholders.length];
+        Type[] types = new Type[placeholders.length];
+
+        for (int i = 0; i < placeholders.length; i++) {
+            int colon = placeholders[i].indexOf(':');
+
+            names[i] = colon == -1 ? placeholders[i] : placeholders[i].substring(0, colon);
+            types[i] = colon == -1 ? Type.TEXT : Type.valueOf(placeholders[i].substring(colon + 1).toUpperCase());
+        }
+
+        MessageKey key = new MessageKey(id, template, names, types);
+        key.getDefaultTemplate();
+        return key;
+    }
+
+    /**
+     * @return the index values of this placeholder are passed at, -1 if the message has no such placeholder
+     */
+    public int indexOf(String placeholder) {
+        return Arrays.asList(placeholders).indexOf(placeholder);
+    }
+
+    /**
+     * The default template parsed once, keys are validated when created so this never fails
+     */
+    public MessageTemplate getDefaultTemplate() {
+        MessageTemplate template = parsed;
+        if (template == null) parsed = template = MessageTemplate.parse(this, this.template);
+        return template;
+    }
+
+    @Override
+    public String toString() {
+        return id;
+    }
+}
@@ -0,0 +1,179 @@
+package net.zoda.api.command.message;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * A message template parsed into styled segments, each either literal text or a placeholder of its key.
+ * Styles use the legacy {@code &} codes: {@code &0}-{@code &f} set a color and clear decorations,
+ * {@code &k}-{@code &o} add a decoration and {@code &r} resets both. {@code &&} and {@code {{} are literal.
+ * Placeholder values are inserted as plain text, formatting codes inside them are never interpreted.
+ */
+public final class MessageTemplate {
+
+    public static final int OBFUSCATED = 1;
+    public static final int BOLD = 1 << 1;
+    public static final int STRIKETHROUGH = 1 << 2;
+    public static final int UNDERLINED = 1 << 3;
+    public static final int ITALIC = 1 << 4;
+
+    private static final String COLORS = "0123456789abcdef";
+    private static final String DECORATIONS = "klmno";
+
+    private static final Map<Locale, NumberFormat> NUMBER_FORMATS = new ConcurrentHashMap<>();
+
+    @Getter
+    private final MessageKey key;
+    @Getter
+    private final Segment[] segments;
+
+    private MessageTemplate(MessageKey key, Segment[] segments) {
+        this.key = key;
+        this.segments = segments;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the template uses a placeholder the key doesn't declare or a brace is never closed
+     */
+    public static MessageTemplate parse(MessageKey key, String source) {
+        List<Segment> segments = new ArrayList<>();
+        StringBuilder text = new StringBuilder();
+        char color = 0;
+        int decorations = 0;
+
+        for (int i = 0; i < source.length(); i++) {
+            char c = source.charAt(i);
+
+            if (c == '&' && i + 1 < source.length()) {
+                char code = Character.toLowerCase(source.charAt(i + 1));
+                int decoration = DECORATIONS.indexOf(code);
+
+                if (code == '&') {
+                    text.append('&');
+                } else if (COLORS.indexOf(code) != -1 || code == 'r' || decoration != -1) {
+                    flush(segments, text, color, decorations);
+
+                    if (code == 'r') {
+                        color = 0;
+                        decorations = 0;
+                    } else if (decoration == -1) {
+                        color = code;
+                        decorations = 0;
+                    } else {
+                        decorations |= 1 << decoration;
+                    }
+                } else {
+                    text.append(c);
+                    continue;
+                }
+
+                i++;
+                continue;
+            }
+
+            if (c == '{') {
+                if (i + 1 < source.length() && source.charAt(i + 1) == '{') {
+                    text.append('{');
+                    i++;
+                    continue;
+                }
+
+                int end = source.indexOf('}', i);
+                if (end == -1) throw new IllegalArgumentException("Unclosed placeholder in message: " + key.getId());
+
+                String name = source.substring(i + 1, end);
+                int index = key.indexOf(name);
+                if (index == -1) throw new IllegalArgumentException("Unknown placeholder: " + name + " in message: " + key.getId());
+
+                flush(segments, text, color, decorations);
+                segments.add(new Segment(null, index, color, decorations));
+                i = end;
+                continue;
+            }
+
+            text.append(c);
+        }
+
+        flush(segments, text, color, decorations);
+        return new MessageTemplate(key, segments.toArray(new Segment[0]));
+    }
+
+    private static void flush(List<Segment> segments, StringBuilder text, char color, int decorations) {
+        if (text.isEmpty()) return;
+
+        segments.add(new Segment(text.toString(), -1, color, decorations));
+        text.setLength(0);
+    }
+
+    public boolean hasPlaceholders() {
+        for (Segment segment : segments) {
+            if (segment.isPlaceholder()) return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return the message without any styling
+     */
+    public String toPlain(Locale locale, Object... values) {
+        StringBuilder builder = new StringBuilder();
+
+        for (Segment segment : segments) {
+            builder.append(segment.isPlaceholder() ? format(locale, segment.placeholder, values) : segment.text);
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * @return the value of the placeholder at this index as text, numbers formatted for the locale
+     */
+    public String format(Locale locale, int placeholder, Object[] values) {
+        Object value = placeholder < values.length ? values[placeholder] : null;
+        if (value == null) return "";
+
+        if (key.getTypes()[placeholder] == MessageKey.Type.NUMBER && value instanceof Number number) {
+            NumberFormat format = NUMBER_FORMATS.computeIfAbsent(locale, NumberFormat::getNumberInstance);
+
+            synchronized (format) {
+                return format.format(number);
+            }
+        }
+
+        return String.valueOf(value);
+    }
+
+    @RequiredArgsConstructor
+    public static class Segment {
+
+        /**
+         * Null for placeholders
+         */
+        @Getter
+        private final String text;
+        @Getter
+        private final int placeholder;
+        /**
+         * Legacy color code, 0 if the segment keeps the default color
+         */
+        @Getter
+        private final char color;
+        @Getter
+        private final int decorations;
+
+        public boolean isPlaceholder() {
+            return text == null;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package net.zoda.api.command.message;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Every message the library sends, catalogs override them by id per locale
+ */
+public final class Messages {
+
+    private Messages() {
+    }
+
+    // Dispatching
+
+    public static final MessageKey ONLY_PLAYERS = MessageKey.of("only-players", "&cOnly players can execute this command!");
+    public static final MessageKey NO_PERMISSION = MessageKey.of("no-permission", "&cNot enough permissions");
+    public static final MessageKey MISSING_ARGUMENT = MessageKey.of("missing-argument", "&cMissing argument: {argument}", "argument");
+    public static final MessageKey INVALID_ARGUMENT = MessageKey.of("invalid-argument", "&cInvalid argument: {argument}", "argument");
+    public static final MessageKey SUGGESTIONS_LOADING = MessageKey.of("suggestions-loading", "&c{argument} can't be checked yet, please try again in a moment", "argument");
+    public static final MessageKey MISSING_SUBCOMMAND = MessageKey.of("missing-subcommand", "&cMissing subcommand");
+    public static final MessageKey UNKNOWN_SUBCOMMAND = MessageKey.of("unknown-subcommand", "&cCouldn't find subcommand: {subcommand}", "subcommand");
+    public static final MessageKey UNKNOWN_SUBCOMMAND_SUGGESTIONS = MessageKey.of("unknown-subcommand-suggestions",
+            "&cCouldn't find subcommand: {subcommand}, did you mean: {suggestions}?", "subcommand", "suggestions");
+    /**
+     * Wraps the message of a parse error that has no key of its own
+     */
+    public static final MessageKey PARSE_ERROR = MessageKey.of("parse-error", "&c{message}", "message");
+    public static final MessageKey COMMAND_NOT_LOADED = MessageKey.of("command-not-loaded", "&cThis command couldn't be loaded");
+    public static final MessageKey SERVER_BUSY = MessageKey.of("server-busy", "&cThe server is busy, please try again in a moment");
+    public static final MessageKey TASK_FAILED = MessageKey.of("task-failed", "&cAn error occurred while running this command");
+    public static final MessageKey TARGET_REMOVED = MessageKey.of("target-removed", "&cWhat this command should run for was removed before it could run");
+    public static final MessageKey TASK_PROGRESS = MessageKey.of("task-progress", "&7Progress: {progress}%", "progress:number");
+
+    // Help
+
+    public static final MessageKey UNKNOWN_COMMAND = MessageKey.of("unknown-command", "&cUnknown command: {command}", "command");
+    public static final MessageKey INVALID_HELP_PAGE = MessageKey.of("invalid-help-page", "&cInvalid help page: {page}", "page");
+    public static final MessageKey UNKNOWN_HELP_PAGE = MessageKey.of("unknown-help-page", "&cUnknown help page: {page} (1 - {pages})", "page:number", "pages:number");
+    public static final MessageKey HELP_HEADER = MessageKey.of("help-header", "&6Help: /{command} &7({page}/{pages})", "command", "page:number", "pages:number");
+    public static final MessageKey HELP_SHORTCUT = MessageKey.of("help-shortcut", "Shortcut for {command}", "command");
+    public static final MessageKey HELP_CLICK_TO_USE = MessageKey.of("help-click-to-use", "&7Click to use");
+    public static final MessageKey HELP_PREVIOUS = MessageKey.of("help-previous", "< Previous");
+    public static final MessageKey HELP_NEXT = MessageKey.of("help-next", "Next >");
+
+    // Constraints
+
+    public static final MessageKey BELOW_MINIMUM = MessageKey.of("below-minimum", "&c{argument} must be at least {min}", "argument", "min:number");
+    public static final MessageKey ABOVE_MAXIMUM = MessageKey.of("above-maximum", "&c{argument} must be at most {max}", "argument", "max:number");
+    public static final MessageKey TOO_SHORT = MessageKey.of("too-short", "&c{argument} must be at least {length} characters long", "argument", "length:number");
+    public static final MessageKey TOO_LONG = MessageKey.of("too-long", "&c{argument} must be at most {length} characters long", "argument", "length:number");
+    public static final MessageKey PATTERN_MISMATCH = MessageKey.of("pattern-mismatch", "&c{argument} has an invalid format", "argument");
+    public static final MessageKey NOT_ALLOWED = MessageKey.of("not-allowed", "&c{argument} must be one of: {allowed}", "argument", "allowed");
+
+    // Parsing
+
+    public static final MessageKey NOT_A_BOOLEAN = MessageKey.of("not-a-boolean", "&c{value} is not true or false!", "value");
+    public static final MessageKey NOT_AN_INTEGER = MessageKey.of("not-an-integer", "&c{value} is not an integer!", "value");
+    public static final MessageKey NOT_A_FLOAT = MessageKey.of("not-a-float", "&c{value} is not a floating point number!", "value");
+    public static final MessageKey NOT_A_NUMBER = MessageKey.of("not-a-number", "&c{value} is not a number!", "value");
+    public static final MessageKey UNKNOWN_VALUE = MessageKey.of("unknown-value", "&cUnknown value: {value}", "value");
+    public static final MessageKey PLAYER_NOT_FOUND = MessageKey.of("player-not-found", "&cCouldn't find this player!");
+    public static final MessageKey UNTERMINATED_STRING = MessageKey.of("unterminated-string", "&cArgument: {argument}, String never ends", "argument");
+
+    public static final MessageKey TIMESTAMP_NOT_QUOTED = MessageKey.of("timestamp-not-quoted", "&cTimestamps must be captured between double quotes (\")");
+    public static final MessageKey UNTERMINATED_TIMESTAMP = MessageKey.of("unterminated-timestamp", "&cArgument: {argument}, timestamp never ends", "argument");
+    public static final MessageKey MISSING_TIMESTAMP_TYPE = MessageKey.of("missing-timestamp-type", "&cArgument: {argument}, timestamp type not found!", "argument");
+    public static final MessageKey UNKNOWN_TIMESTAMP_TYPE = MessageKey.of("unknown-timestamp-type", "&cUnknown timestamp type: {type}", "type");
+    public static final MessageKey DUPLICATE_TIMESTAMP_TYPE = MessageKey.of("duplicate-timestamp-type", "&cDuplicate timestamp types: {type}", "type");
+    public static final MessageKey INVALID_TIMESTAMP_VALUE = MessageKey.of("invalid-timestamp-value", "&cCouldn't parse timestamp integer: {value}", "value");
+    public static final MessageKey NO_TIMESTAMPS = MessageKey.of("no-timestamps", "&cNo timestamps found!");
+
+    public static final MessageKey MISSING_COORDINATES = MessageKey.of("missing-coordinates", "&cMissing value, need: <x> <y> <z>");
+    public static final MessageKey MISSING_COORDINATES_AND_WORLD = MessageKey.of("missing-coordinates-and-world", "&cMissing value, need: <x> <y> <z> <world>");
+    public static final MessageKey UNKNOWN_WORLD = MessageKey.of("unknown-world", "&cUnknown world: {world}", "world");
+    public static final MessageKey RELATIVE_COORDINATES_PLAYERS_ONLY = MessageKey.of("relative-coordinates-players-only", "&cOnly players can use ~, ^ and @ ");
+    public static final MessageKey INVALID_COORDINATE = MessageKey.of("invalid-coordinate", "&cInvalid {axis} value.", "axis");
+    public static final MessageKey MIXED_LOCAL_COORDINATES = MessageKey.of("mixed-local-coordinates", "&cLocal coordinates (^) can't be mixed with world coordinates");
+    public static final MessageKey MISSING_ROTATION = MessageKey.of("missing-rotation",
+            "&cNot enough sub-arguments for: {argument} (need: 2 got: {remaining})", "argument", "remaining:number");
+    public static final MessageKey INVALID_YAW = MessageKey.of("invalid-yaw", "&cInvalid Yaw value.");
+    public static final MessageKey INVALID_PITCH = MessageKey.of("invalid-pitch", "&cInvalid Pitch value.");
+
+    // Selectors
+
+    public static final MessageKey NO_ENTITY_FOUND = MessageKey.of("no-entity-found", "&cNo entity was found");
+    public static final MessageKey NO_PLAYER_FOUND = MessageKey.of("no-player-found", "&cNo player was found");
+    public static final MessageKey SELECTOR_NEEDS_POSITION = MessageKey.of("selector-needs-position", "&cThis selector needs a position, use x, y and z");
+    public static final MessageKey PLAYERS_ONLY_SELECTOR = MessageKey.of("players-only-selector", "&cOnly players may be selected, use type=player");
+    public static final MessageKey INVALID_SELECTOR = MessageKey.of("invalid-selector", "&cInvalid selector: {selector}", "selector");
+    public static final MessageKey UNKNOWN_SELECTOR_TYPE = MessageKey.of("unknown-selector-type", "&cUnknown selector type: {type}", "type");
+    public static final MessageKey INVALID_SELECTOR_OPTION_FORMAT = MessageKey.of("invalid-selector-option-format", "&cExpected key=value in selector: {option}", "option");
+    public static final MessageKey UNKNOWN_ENTITY_TYPE = MessageKey.of("unknown-entity-type", "&cUnknown entity type: {type}", "type");
+    public static final MessageKey INVALID_SELECTOR_LIMIT = MessageKey.of("invalid-selector-limit", "&cInvalid selector limit: {limit}", "limit");
+    public static final MessageKey NON_POSITIVE_SELECTOR_LIMIT = MessageKey.of("non-positive-selector-limit", "&cSelector limit must be positive");
+    public static final MessageKey UNKNOWN_SELECTOR_SORT = MessageKey.of("unknown-selector-sort", "&cUnknown selector sort: {sort}", "sort");
+    public static final MessageKey UNKNOWN_SELECTOR_OPTION = MessageKey.of("unknown-selector-option", "&cUnknown selector option: {option}", "option");
+    public static final MessageKey INVALID_SELECTOR_DISTANCE = MessageKey.of("invalid-selector-distance", "&cInvalid selector distance");
+    public static final MessageKey INVALID_SELECTOR_OPTION_VALUE = MessageKey.of("invalid-selector-option-value",
+            "&cInvalid value of selector option {option}: {value}", "option", "value");
+}
@@ -0,0 +1,341 @@
+package net.zoda.api.command.player;
+
+import lombok.Getter;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Name to UUID index of every player ever seen, kept in a memory-mapped file of fixed-width records sorted by
+ * case-folded name so exact and prefix lookups are binary searches over the mapping, without loading anything
+ * in memory. New names are put in a small sorted overlay consulted first, {@link #compact()} merges it into a new
+ * file which replaces the old one atomically.
+ * <p>
+ * File layout: magic, version, record count, reserved (int each), then per record the ASCII name zero padded to
+ * 16 bytes followed by the UUID's most / least significant bits (long, long). Only valid Minecraft names are indexed.
+ */
+public final class OfflineNameIndex {
+
+    private static final int MAGIC = 0x4e414d45;
+    private static final int VERSION = 1;
+    private static final int HEADER = 16;
+    private static final int NAME_BYTES = 16;
+    private static final int RECORD = NAME_BYTES + 16;
+
+    private static final Pattern VALID_NAME = Pattern.compile("[A-Za-z0-9_]{1,16}");
+
+    @Getter
+    private final Path file;
+
+    private volatile Table table;
+
+    /**
+     * Names put since the last compaction by folded name, they take precedence over the file
+     */
+    private final ConcurrentSkipListMap<String, Entry> pending = new ConcurrentSkipListMap<>();
+
+    private OfflineNameIndex(Path file, Table table) {
+        this.file = file;
+        this.table = table;
+    }
+
+    /**
+     * Maps the index file, starting empty if it is missing or unreadable
+     */
+    public static OfflineNameIndex open(Path file) throws IOException {
+        return new OfflineNameIndex(file, Table.map(file));
+    }
+
+    public static boolean isValidName(String name) {
+        return name != null && VALID_NAME.matcher(name).matches();
+    }
+
+    /**
+     * @return the UUID of the player last seen with the name, ignoring case
+     */
+    public UUID get(String name) {
+        if (!isValidName(name)) return null;
+
+        String folded = fold(name);
+        Entry entry = pending.get(folded);
+        if (entry != null) return entry.uuid;
+
+        Table table = this.table;
+        int record = table.lowerBound(folded.getBytes(StandardCharsets.US_ASCII));
+
+        return record < table.count && table.nameEquals(record, folded) ? table.uuid(record) : null;
+    }
+
+    /**
+     * Hands the names starting with the prefix, ignoring case, to the consumer
+     *
+     * @param limit most names handed
+     */
+    public void forEachPrefix(String prefix, int limit, Consumer<String> consumer) {
+        if (limit <= 0 || prefix.length() > NAME_BYTES || (!prefix.isEmpty() && !isValidName(prefix))) return;
+
+        String folded = fold(prefix);
+        int handed = 0;
+
+        NavigableMap<String, Entry> overlay = pending.subMap(folded, true, folded + Character.MAX_VALUE, false);
+        for (Entry entry : overlay.values()) {
+            if (handed++ == limit) return;
+            consumer.accept(entry.name);
+        }
+
+        Table table = this.table;
+        byte[] key = folded.getBytes(StandardCharsets.US_ASCII);
+
+        for (int record = table.lowerBound(key); record < table.count && table.startsWith(record, key); record++) {
+            String name = table.name(record);
+            if (overlay.containsKey(fold(name))) continue;
+
+            if (handed++ == limit) return;
+            consumer.accept(name);
+        }
+    }
+
+    /**
+     * Records the player's current name, invalid names are ignored
+     */
+    public void put(String name, UUID uuid) {
+        if (!isValidName(name)) return;
+
+        String folded = fold(name);
+        Entry entry = pending.get(folded);
+
+        if (entry == null || !entry.uuid.equals(uuid) || !entry.name.equals(name)) {
+            pending.put(folded, new Entry(name, uuid));
+        }
+    }
+
+    public void putAll(Map<String, UUID> names) {
+        names.forEach(this::put);
+    }
+
+    /**
+     * @return the records in the file, names put since the last compaction aren't counted
+     */
+    public int getIndexedCount() {
+        return table.count;
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Merges the pending names into a new file replacing the current one, records of players who changed their name
+     * are dropped. Lookups keep being answered from the previous mapping until the new one is in place.
+     *
+     * @return false if there was nothing to merge
+     */
+    public synchronized boolean compact() throws IOException {
+        if (pending.isEmpty()) return false;
+
+        TreeMap<String, Entry> snapshot = new TreeMap<>(pending);
+        Set<UUID> updated = new HashSet<>();
+        for (Entry entry : snapshot.values()) updated.add(entry.uuid);
+
+        Table current = this.table;
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+
+        int count = 0;
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(0);
+            out.writeInt(0);
+
+            Iterator<Map.Entry<String, Entry>> overlay = snapshot.entrySet().iterator();
+            Map.Entry<String, Entry> next = overlay.hasNext() ? overlay.next() : null;
+
+            for (int record = 0; record < current.count; record++) {
+                if (updated.contains(current.uuid(record))) continue;
+
+                String folded = fold(current.name(record));
+
+                while (next != null && next.getKey().compareTo(folded) < 0) {
+                    write(out, next.getValue());
+                    count++;
+                    next = overlay.hasNext() ? overlay.next() : null;
+                }
+
+                // the pending name replaces the record, it is written once a greater name comes
+                if (next != null && next.getKey().equals(folded)) continue;
+
+                writeRecord(out, current, record);
+                count++;
+            }
+
+            while (next != null) {
+                write(out, next.getValue());
+                count++;
+                next = overlay.hasNext() ? overlay.next() : null;
+            }
+        }
+
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4).putInt(0, count), 8);
+        }
+
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        this.table = Table.map(file);
+
+        for (Map.Entry<String, Entry> entry : snapshot.entrySet()) {
+            pending.remove(entry.getKey(), entry.getValue());
+        }
+        return true;
+    }
+
+    private static void write(DataOutputStream out, Entry entry) throws IOException {
+        byte[] name = entry.name.getBytes(StandardCharsets.US_ASCII);
+
+        out.write(name);
+        out.write(new byte[NAME_BYTES - name.length]);
+        out.writeLong(entry.uuid.getMostSignificantBits());
+        out.writeLong(entry.uuid.getLeastSignificantBits());
+    }
+
+    private static void writeRecord(DataOutputStream out, Table table, int record) throws IOException {
+        int base = HEADER + record * RECORD;
+        for (int i = 0; i < RECORD; i++) out.write(table.buffer.get(base + i));
+    }
+
+    private static String fold(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private static int fold(byte b) {
+        return b >= 'A' && b <= 'Z' ? b + ('a' - 'A') : b;
+    }
+
+    private static final class Entry {
+        private final String name;
+        private final UUID uuid;
+
+        private Entry(String name, UUID uuid) {
+            this.name = name;
+            this.uuid = uuid;
+        }
+    }
+
+    private static final class Table {
+
+        private static final Table EMPTY = new Table(null, 0);
+
+        private final ByteBuffer buffer;
+        private final int count;
+
+        private Table(ByteBuffer buffer, int count) {
+            this.buffer = buffer;
+            this.count = count;
+        }
+
+        private static Table map(Path file) throws IOException {
+            if (!Files.exists(file)) return EMPTY;
+
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                long size = channel.size();
+                if (size < HEADER || size > Integer.MAX_VALUE) return EMPTY;
+
+                ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                int count = buffer.getInt(8);
+
+                if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION || count < 0 || HEADER + (long) count * RECORD != size) {
+                    return EMPTY;
+                }
+                return new Table(buffer, count);
+            }
+        }
+
+        /**
+         * @return the first record whose folded name isn't below the key
+         */
+        private int lowerBound(byte[] key) {
+            int low = 0;
+            int high = count;
+
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+
+                if (compare(middle, key) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        private int compare(int record, byte[] key) {
+            int base = HEADER + record * RECORD;
+
+            for (int i = 0; i < NAME_BYTES; i++) {
+                int a = fold(buffer.get(base + i));
+                int b = i < key.length ? key[i] : 0;
+
+                if (a != b) return a - b;
+                if (a == 0) return 0;
+            }
+            return 0;
+        }
+
+        private boolean startsWith(int record, byte[] key) {
+            int base = HEADER + record * RECORD;
+
+            for (int i = 0; i < key.length; i++) {
+                if (fold(buffer.get(base + i)) != key[i]) return false;
+            }
+            return true;
+        }
+
+        private boolean nameEquals(int record, String folded) {
+            byte[] key = folded.getBytes(StandardCharsets.US_ASCII);
+            return compare(record, key) == 0;
+        }
+
+        private String name(int record) {
+            int base = HEADER + record * RECORD;
+            int length = 0;
+
+            while (length < NAME_BYTES && buffer.get(base + length) != 0) length++;
+
+            byte[] name = new byte[length];
+            buffer.get(base, name);
+            return new String(name, StandardCharsets.US_ASCII);
+        }
+
+        private UUID uuid(int record) {
+            int base = HEADER + record * RECORD + NAME_BYTES;
+            return new UUID(buffer.getLong(base), buffer.getLong(base + 8));
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package net.zoda.api.command.recording;
+
+import lombok.Getter;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Binary ring of invocation records in a preallocated memory-mapped file, the file never grows past
+ * {@code slots * slotSize} bytes and the oldest records are overwritten first.
+ * Writers claim a slot with a single atomic increment and fill it with absolute puts, a slot's sequence
+ * is written last so readers skip slots still being written.
+ * <p>
+ * Slot layout: sequence + 1 (long), timestamp (long), owner most / least significant bits (long, long),
+ * node (int), kind (byte), outcome (byte), args length (short), route / parse / invoke / total nanos (int each),
+ * then the UTF-8 args.
+ */
+public final class InvocationLog implements Closeable {
+
+    public static final int DEFAULT_SLOT_SIZE = 128;
+
+    private static final int MAGIC = 0x43415049;
+    private static final int VERSION = 1;
+    private static final int HEADER = 16;
+    private static final int RECORD_HEADER = 56;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    @Getter
+    private final int slots;
+    @Getter
+    private final int slotSize;
+    private final AtomicLong sequence;
+    private volatile boolean closed;
+
+    private InvocationLog(FileChannel channel, MappedByteBuffer buffer, int slots, int slotSize, long next) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.slots = slots;
+        this.slotSize = slotSize;
+        this.sequence = new AtomicLong(next);
+    }
+
+    /**
+     * Opens the ring, continuing after the newest record if the file already holds one of the same shape
+     */
+    public static InvocationLog open(Path path, int slots, int slotSize) throws IOException {
+        if (slots <= 0 || slotSize <= RECORD_HEADER) {
+            throw new IllegalArgumentException("Invalid ring shape: " + slots + " slots of " + slotSize + " bytes");
+        }
+
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long size = HEADER + (long) slots * slotSize;
+
+        if (size > Integer.MAX_VALUE) {
+            channel.close();
+            throw new IllegalArgumentException("Ring too large: " + size + " bytes");
+        }
+
+        boolean compatible = channel.size() == size;
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+
+        if (compatible && (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION || buffer.getInt(8) != slots || buffer.getInt(12) != slotSize)) {
+            compatible = false;
+        }
+
+        long next = 0;
+
+        if (compatible) {
+            for (int i = 0; i < slots; i++) {
+                next = Math.max(next, buffer.getLong(HEADER + i * slotSize));
+            }
+        } else {
+            for (int i = 0; i < slots; i++) {
+                buffer.putLong(HEADER + i * slotSize, 0);
+            }
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+            buffer.putInt(8, slots);
+            buffer.putInt(12, slotSize);
+        }
+
+        return new InvocationLog(channel, buffer, slots, slotSize, next);
+    }
+
+    /**
+     * Stable id of a node path such as {@code "warp set"}, shared by writers and readers
+     */
+    public static int nodeId(String path) {
+        return path.hashCode();
+    }
+
+    public void append(boolean tabRequest, InvocationOutcome outcome, UUID owner, String node, String[] args, InvocationStages stages) {
+        if (closed) return;
+
+        long total = stages.getElapsedNanos();
+        long claimed = sequence.getAndIncrement();
+        int base = HEADER + (int) (claimed % slots) * slotSize;
+
+        buffer.putLong(base, 0);
+        buffer.putLong(base + 8, System.currentTimeMillis());
+        buffer.putLong(base + 16, owner == null ? 0 : owner.getMostSignificantBits());
+        buffer.putLong(base + 24, owner == null ? 0 : owner.getLeastSignificantBits());
+        buffer.putInt(base + 32, nodeId(node));
+        buffer.put(base + 36, (byte) (tabRequest ? 1 : 0));
+        buffer.put(base + 37, (byte) outcome.ordinal());
+        buffer.putShort(base + 38, (short) encode(args, base + RECORD_HEADER, slotSize - RECORD_HEADER));
+        buffer.putInt(base + 40, clamp(stages.getRouteNanos()));
+        buffer.putInt(base + 44, clamp(stages.getParseNanos()));
+        buffer.putInt(base + 48, clamp(stages.getInvokeNanos()));
+        buffer.putInt(base + 52, clamp(total));
+        buffer.putLong(base, claimed + 1);
+    }
+
+    /**
+     * Writes the args as UTF-8 without allocating, stopping before the first character that doesn't fit
+     *
+     * @return the bytes written
+     */
+    private int encode(String[] args, int offset, int capacity) {
+        int written = 0;
+
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+
+            if (i != 0) {
+                if (written + 1 > capacity) return written;
+                buffer.put(offset + written++, (byte) ' ');
+            }
+
+            for (int j = 0; j < arg.length(); j++) {
+                char c = arg.charAt(j);
+
+                if (c < 0x80) {
+                    if (written + 1 > capacity) return written;
+                    buffer.put(offset + written++, (byte) c);
+                } else if (c < 0x800) {
+                    if (written + 2 > capacity) return written;
+                    buffer.put(offset + written++, (byte) (0xC0 | c >> 6));
+                    buffer.put(offset + written++, (byte) (0x80 | c & 0x3F));
+                } else {
+                    if (Character.isSurrogate(c)) c = '?';
+                    if (written + 3 > capacity) return written;
+                    buffer.put(offset + written++, (byte) (0xE0 | c >> 12));
+                    buffer.put(offset + written++, (byte) (0x80 | c >> 6 & 0x3F));
+                    buffer.put(offset + written++, (byte) (0x80 | c & 0x3F));
+                }
+            }
+        }
+        return written;
+    }
+
+    private static int clamp(long nanos) {
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(0, nanos));
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+
+        closed = true;
+        buffer.force();
+        channel.close();
+    }
+
+    /**
+     * @return the records still held by the ring, oldest first
+     */
+    public static List<InvocationRecord> read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (channel.size() < HEADER || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                throw new IOException("Not an invocation log: " + path);
+            }
+
+            int slots = buffer.getInt(8);
+            int slotSize = buffer.getInt(12);
+            List<InvocationRecord> records = new ArrayList<>();
+
+            for (int i = 0; i < slots; i++) {
+                int base = HEADER + i * slotSize;
+                long committed = buffer.getLong(base);
+                if (committed == 0) continue;
+
+                long most = buffer.getLong(base + 16);
+                long least = buffer.getLong(base + 24);
+
+                byte[] args = new byte[Math.min(buffer.getShort(base + 38) & 0xFFFF, slotSize - RECORD_HEADER)];
+                buffer.get(base + RECORD_HEADER, args);
+
+                records.add(new InvocationRecord(committed - 1, buffer.get(base + 36) == 1, InvocationOutcome.of(buffer.get(base + 37)),
+                        buffer.getLong(base + 8), most == 0 && least == 0 ? null : new UUID(most, least), buffer.getInt(base + 32),
+                        new String(args, StandardCharsets.UTF_8),
+                        buffer.getInt(base + 40), buffer.getInt(base + 44), buffer.getInt(base + 48), buffer.getInt(base + 52)));
+            }
+
+            records.sort((a, b) -> Long.compare(a.getSequence(), b.getSequence()));
+            return records;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package net.zoda.api.command.recording;
+
+/**
+ * MIT License
+ *
+ * Copyright (c) 2022 S. S.
+ */
+public enum InvocationOutcome {
+
+    SUCCESS,
+    /**
+     * Stopped by the player-only flag, a permission or a run condition
+     */
+    REJECTED,
+    UNKNOWN_SUBCOMMAND,
+    INVALID_ARGUMENTS,
+    /**
+     * The command threw
+     */
+    FAILED,
+    /**
+     * Handed to another context and not run yet when recorded, the invoke timing only covers the handoff
+     */
+    DEFERRED;
+
+    private static final InvocationOutcome[] VALUES = values();
+
+    public static InvocationOutcome of(int ordinal) {
+        return ordinal >= 0 && ordinal < VALUES.length ? VALUES[ordinal] : FAILED;
+    }
+}
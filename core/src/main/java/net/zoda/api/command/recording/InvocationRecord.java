@@ -0,0 +1,47 @@
+package net.zoda.api.command.recording;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * MIT License
+ *
+ * Copyright (c) 2022 S. S.
+ */
+@RequiredArgsConstructor
+public class InvocationRecord {
+
+    @Getter
+    private final long sequence;
+    @Getter
+    private final boolean tabRequest;
+    @Getter
+    private final InvocationOutcome outcome;
+    @Getter
+    private final long timestamp;
+    /**
+     * Null for senders that aren't players
+     */
+    @Getter
+    private final UUID owner;
+    /**
+     * Hash of the node path, see {@link InvocationLog#nodeId(String)}
+     */
+    @Getter
+    private final int node;
+    /**
+     * Raw arguments joined by spaces, cut at the slot's capacity
+     */
+    @Getter
+    private final String args;
+    @Getter
+    private final int routeNanos;
+    @Getter
+    private final int parseNanos;
+    @Getter
+    private final int invokeNanos;
+    @Getter
+    private final int totalNanos;
+}
@@ -0,0 +1,69 @@
+package net.zoda.api.command.recording;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Per-thread scratch the dispatcher marks while handling one request, reused across requests
+ */
+public final class InvocationStages {
+
+    @Getter
+    @Setter
+    private String node;
+    @Getter
+    @Setter
+    private InvocationOutcome outcome;
+
+    private long begin;
+    private long routed;
+    private long parsed;
+    private long invoked;
+
+    public void begin(String node) {
+        this.node = node;
+        this.outcome = InvocationOutcome.REJECTED;
+        this.begin = System.nanoTime();
+        this.routed = begin;
+        this.parsed = 0;
+        this.invoked = 0;
+    }
+
+    public void markRouted() {
+        routed = System.nanoTime();
+    }
+
+    public void markParsed() {
+        parsed = System.nanoTime();
+    }
+
+    public void markInvoked() {
+        invoked = System.nanoTime();
+        outcome = InvocationOutcome.SUCCESS;
+    }
+
+    public void markDeferred() {
+        invoked = System.nanoTime();
+        outcome = InvocationOutcome.DEFERRED;
+    }
+
+    public long getRouteNanos() {
+        return routed - begin;
+    }
+
+    public long getParseNanos() {
+        return parsed == 0 ? 0 : parsed - routed;
+    }
+
+    public long getInvokeNanos() {
+        return invoked == 0 || parsed == 0 ? 0 : invoked - parsed;
+    }
+
+    public long getElapsedNanos() {
+        return System.nanoTime() - begin;
+    }
+}
@@ -0,0 +1,126 @@
+package net.zoda.api.command.routing;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import net.zoda.api.command.utils.BKTree;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Routes tokens through literal paths such as {@code "group sub"} to a leaf, independent of any server.
+ * Groups are walked first, the first token naming a leaf, by its full path or inside a group by itself, ends
+ * the route. The literals allowed after each group path are kept in {@link BKTree}s for "did you mean" lookups.
+ *
+ * @param <L> leaf, e.g. a resolved subcommand
+ * @param <G> group
+ */
+public class LiteralRouter<L, G> {
+
+    private final Map<String, L> leaves;
+    private final Map<String, G> groups;
+
+    /**
+     * Literals allowed after each group path ("" being the root)
+     */
+    private final Map<String, BKTree> literalTrees = new HashMap<>();
+
+    /**
+     * @param leaves leaves by their space separated path, read but not copied
+     * @param groups groups by their space separated path, read but not copied
+     */
+    public LiteralRouter(Map<String, L> leaves, Map<String, G> groups) {
+        this.leaves = leaves;
+        this.groups = groups;
+
+        for (String fullName : leaves.keySet()) {
+            String[] split = fullName.split(" ");
+            StringBuilder parent = new StringBuilder();
+
+            for (int i = 0; i < split.length; i++) {
+                literalTrees.computeIfAbsent(parent.toString(), key -> new BKTree()).add(split[i]);
+                parent.append(i == 0 ? "" : " ").append(split[i]);
+            }
+        }
+    }
+
+    public Route<L, G> route(String[] args) {
+        L leaf = null;
+        G group = null;
+        String literal = "";
+
+        StringBuilder builder = new StringBuilder();
+        int index = 0;
+        int groupDepth = 0;
+
+        for (String arg : args) {
+            builder.append(index == 0 ? "" : " ").append(arg);
+
+            literal = arg;
+
+            if (!leaves.containsKey(builder.toString())) {
+
+                if (groups.containsKey(builder.toString())) {
+                    group = groups.get(builder.toString());
+                    index++;
+                    groupDepth = index;
+                    continue;
+                }
+
+                if (group != null) {
+                    leaf = leaves.get(arg);
+                    break;
+                }
+            } else {
+                leaf = leaves.get(builder.toString());
+                break;
+            }
+
+            index++;
+        }
+
+        return new Route<>(leaf, group, leaf == null ? groupDepth : index + 1, groupDepth, literal);
+    }
+
+    /**
+     * @return the literals closest to the mistyped one under the given group path, closest first
+     */
+    public List<String> findClosestLiterals(String parent, String typed, int limit) {
+        BKTree tree = literalTrees.get(parent);
+        if (tree == null) return List.of();
+
+        return tree.search(typed, Math.min(3, Math.max(1, typed.length() / 3)), limit);
+    }
+
+    @RequiredArgsConstructor
+    public static class Route<L, G> {
+
+        /**
+         * Null if routing failed
+         */
+        @Getter
+        private final L leaf;
+        @Getter
+        private final G group;
+        /**
+         * Tokens taken by the route, the leaf's arguments start right after
+         */
+        @Getter
+        private final int consumed;
+        /**
+         * Tokens taken by the group path alone
+         */
+        @Getter
+        private final int groupDepth;
+        /**
+         * Last token the route looked at
+         */
+        @Getter
+        private final String literal;
+    }
+}
@@ -0,0 +1,68 @@
+package net.zoda.api.command.task;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Work returned by a command method instead of being done in one go,
+ * the platform module's scheduler ({@code SlicedTaskScheduler} on Bukkit) calls {@link #step()} across ticks within its per-tick budget.
+ */
+public interface SlicedTask {
+
+    /**
+     * Performs one small unit of work
+     *
+     * @return false once there is nothing left to do
+     */
+    boolean step() throws Exception;
+
+    /**
+     * @return the progress between 0 and 1, or a negative value if unknown
+     */
+    default double getProgress() {
+        return -1;
+    }
+
+    default void onComplete() {
+    }
+
+    default void onCancel() {
+    }
+
+    /**
+     * Every {@link Iterator#next()} call is a step
+     */
+    static SlicedTask of(Iterator<?> iterator) {
+        return () -> {
+            if (!iterator.hasNext()) return false;
+            iterator.next();
+            return iterator.hasNext();
+        };
+    }
+
+    /**
+     * Applies the action to one element per step, reporting progress over the list's size
+     */
+    static <T> SlicedTask forEach(List<T> elements, Consumer<T> action) {
+        return new SlicedTask() {
+            private int index;
+
+            @Override
+            public boolean step() {
+                if (index >= elements.size()) return false;
+                action.accept(elements.get(index++));
+                return index < elements.size();
+            }
+
+            @Override
+            public double getProgress() {
+                return elements.isEmpty() ? 1 : (double) index / elements.size();
+            }
+        };
+    }
+}
@@ -0,0 +1,179 @@
+package net.zoda.api.command.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Burkhard-Keller tree over case-insensitive edit distance, used to find the literals closest to a mistyped one.
+ * Lookups only visit the subtrees whose distance band can still hold a match and reuse per-thread scratch rows.
+ */
+public class BKTree {
+
+    private static final ThreadLocal<int[][]> SCRATCH = ThreadLocal.withInitial(() -> new int[2][0]);
+
+    private Node root;
+    private int size;
+    private int maxLength;
+
+    public void add(String word) {
+        maxLength = Math.max(maxLength, word.length());
+
+        if (root == null) {
+            root = new Node(word);
+            size++;
+            return;
+        }
+
+        Node node = root;
+
+        while (true) {
+            int distance = distance(word, node.word, Integer.MAX_VALUE);
+            if (distance == 0) return;
+
+            Node child = node.getChild(distance);
+
+            if (child == null) {
+                node.setChild(distance, new Node(word));
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return up to {@code limit} words within {@code maxDistance} of the query, closest first
+     */
+    public List<String> search(String query, int maxDistance, int limit) {
+        if (root == null || limit <= 0) return List.of();
+
+        String[] words = new String[limit];
+        int[] distances = new int[limit];
+        Arrays.fill(distances, Integer.MAX_VALUE);
+
+        search(root, query, maxDistance, words, distances);
+
+        List<String> list = new ArrayList<>(limit);
+        for (String word : words) {
+            if (word != null) list.add(word);
+        }
+        return list;
+    }
+
+    private void search(Node node, String query, int maxDistance, String[] words, int[] distances) {
+        int tolerance = Math.min(maxDistance, distances[distances.length - 1]);
+        int distance = distance(query, node.word, tolerance + node.maxChildDistance());
+
+        if (distance <= tolerance) {
+            insert(node.word, distance, words, distances);
+            tolerance = Math.min(maxDistance, distances[distances.length - 1]);
+        }
+
+        if (node.children == null) return;
+
+        int from = Math.max(1, distance - tolerance);
+        int to = Math.min(node.children.length - 1, distance + tolerance);
+
+        for (int i = from; i <= to; i++) {
+            Node child = node.children[i];
+            if (child == null) continue;
+
+            search(child, query, maxDistance, words, distances);
+            tolerance = Math.min(maxDistance, distances[distances.length - 1]);
+        }
+    }
+
+    private static void insert(String word, int distance, String[] words, int[] distances) {
+        int i = distances.length - 1;
+        if (distance >= distances[i]) return;
+
+        while (i > 0 && distances[i - 1] > distance) {
+            words[i] = words[i - 1];
+            distances[i] = distances[i - 1];
+            i--;
+        }
+
+        words[i] = word;
+        distances[i] = distance;
+    }
+
+    /**
+     * Case-insensitive Levenshtein distance, giving up once it exceeds the bound
+     *
+     * @return the distance, or any value above the bound
+     */
+    private int distance(String a, String b, int bound) {
+        int lengthA = a.length();
+        int lengthB = b.length();
+
+        if (Math.abs(lengthA - lengthB) > bound) return bound == Integer.MAX_VALUE ? bound : bound + 1;
+
+        int[][] scratch = SCRATCH.get();
+        if (scratch[0].length < lengthB + 1) {
+            scratch[0] = new int[Math.max(lengthB, maxLength) + 1];
+            scratch[1] = new int[scratch[0].length];
+        }
+
+        int[] previous = scratch[0];
+        int[] current = scratch[1];
+
+        for (int j = 0; j <= lengthB; j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= lengthA; i++) {
+            char charA = Character.toLowerCase(a.charAt(i - 1));
+            current[0] = i;
+            int rowMinimum = i;
+
+            for (int j = 1; j <= lengthB; j++) {
+                int cost = charA == Character.toLowerCase(b.charAt(j - 1)) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+
+            if (rowMinimum > bound) return bound + 1;
+
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+
+        return previous[lengthB];
+    }
+
+    private static final class Node {
+        private final String word;
+        private Node[] children;
+
+        private Node(String word) {
+            this.word = word;
+        }
+
+        private Node getChild(int distance) {
+            return children == null || distance >= children.length ? null : children[distance];
+        }
+
+        private void setChild(int distance, Node child) {
+            if (children == null) {
+                children = new Node[distance + 1];
+            } else if (distance >= children.length) {
+                children = Arrays.copyOf(children, distance + 1);
+            }
+            children[distance] = child;
+        }
+
+        private int maxChildDistance() {
+            return children == null ? 0 : children.length - 1;
+        }
+    }
+}
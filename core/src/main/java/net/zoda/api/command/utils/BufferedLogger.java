@@ -0,0 +1,44 @@
+package net.zoda.api.command.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Keeps what's logged to it instead of publishing it, so work done in parallel can be reported in a fixed order
+ */
+public class BufferedLogger extends Logger {
+
+    private final List<LogRecord> records = new ArrayList<>();
+
+    public BufferedLogger(String name) {
+        super(name, null);
+        setUseParentHandlers(false);
+        setLevel(Level.ALL);
+    }
+
+    @Override
+    public synchronized void log(LogRecord record) {
+        records.add(record);
+    }
+
+    public synchronized List<LogRecord> getRecords() {
+        return new ArrayList<>(records);
+    }
+
+    /**
+     * @return whether anything at warning level or above was logged
+     */
+    public synchronized boolean hasProblems() {
+        for (LogRecord record : records) {
+            if (record.getLevel().intValue() >= Level.WARNING.intValue()) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,125 @@
+package net.zoda.api.command.utils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Immutable string to index table whose seed is searched at build time so that no two keys share a slot,
+ * a lookup is one hash, one mask and one equality check. Tables are kept at most a quarter full so a seed
+ * is usually found within a few attempts. Keys are hashed character by character together with the seed,
+ * so keys sharing a {@link String#hashCode()} still separate. Should no seed be found within a bounded number
+ * of attempts the table falls back to a plain hash map.
+ */
+public final class PerfectHash {
+
+    private static final int ATTEMPTS_PER_SIZE = 64;
+    private static final int MAX_DOUBLINGS = 4;
+
+    private final String[] keys;
+    private final int[] values;
+    private final int seed;
+    private final int mask;
+
+    /**
+     * Used instead of the slots when no seed was found
+     */
+    private final Map<String, Integer> fallback;
+
+    private PerfectHash(String[] keys, int[] values, int seed) {
+        this.keys = keys;
+        this.values = values;
+        this.seed = seed;
+        this.mask = keys.length - 1;
+        this.fallback = null;
+    }
+
+    private PerfectHash(Map<String, Integer> fallback) {
+        this.keys = null;
+        this.values = null;
+        this.seed = 0;
+        this.mask = 0;
+        this.fallback = fallback;
+    }
+
+    /**
+     * @param keys distinct keys, each mapped to its index in the list
+     * @throws IllegalArgumentException if a key appears twice
+     */
+    public static PerfectHash of(List<String> keys) {
+        int size = Integer.highestOneBit(Math.max(2, keys.size() * 4) - 1) << 1;
+
+        for (int doubling = 0; doubling <= MAX_DOUBLINGS; doubling++, size <<= 1) {
+            for (int seed = 0; seed < ATTEMPTS_PER_SIZE; seed++) {
+                PerfectHash table = tryBuild(keys, size, seed);
+                if (table != null) return table;
+            }
+        }
+
+        Map<String, Integer> fallback = new HashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            if (fallback.putIfAbsent(keys.get(i), i) != null) throw new IllegalArgumentException("Duplicate key: " + keys.get(i));
+        }
+        return new PerfectHash(fallback);
+    }
+
+    private static PerfectHash tryBuild(List<String> keys, int size, int seed) {
+        String[] slots = new String[size];
+        int[] values = new int[size];
+
+        for (int i = 0; i < keys.size(); i++) {
+            String key = keys.get(i);
+            int slot = hash(key, seed) & (size - 1);
+
+            if (slots[slot] != null) {
+                if (slots[slot].equals(key)) throw new IllegalArgumentException("Duplicate key: " + key);
+                return null;
+            }
+
+            slots[slot] = key;
+            values[slot] = i;
+        }
+
+        return new PerfectHash(slots, values, seed);
+    }
+
+    /**
+     * @return the index of the key, -1 if it isn't in the table
+     */
+    public int get(String key) {
+        if (fallback != null) return fallback.getOrDefault(key, -1);
+
+        int slot = hash(key, seed) & mask;
+        String candidate = keys[slot];
+
+        return candidate != null && candidate.equals(key) ? values[slot] : -1;
+    }
+
+    /**
+     * @return whether a collision-free seed was found, false if lookups go through a hash map
+     */
+    public boolean isPerfect() {
+        return fallback == null;
+    }
+
+    private static int hash(String key, int seed) {
+        int h = seed * 0x9E3779B9;
+        for (int i = 0; i < key.length(); i++) {
+            h = (h ^ key.charAt(i)) * 0x01000193;
+        }
+        return mix(h ^ key.length());
+    }
+
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
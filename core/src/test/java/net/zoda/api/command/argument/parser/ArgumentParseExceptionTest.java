@@ -0,0 +1,33 @@
+package net.zoda.api.command.argument.parser;
+
+import net.zoda.api.command.message.Messages;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Tests for {@link ArgumentParseException}
+ */
+public class ArgumentParseExceptionTest {
+
+    @Test
+    public void keyedMessagesAreRenderedWhenAskedFor() {
+        ArgumentParseException exception = new ArgumentParseException(Messages.NOT_AN_INTEGER, "abc");
+
+        assertSame(Messages.NOT_AN_INTEGER, exception.getKey());
+        assertEquals("abc is not an integer!", exception.getMessage());
+    }
+
+    @Test
+    public void plainMessagesAreSentAsParseErrors() {
+        ArgumentParseException exception = new ArgumentParseException("broken");
+
+        assertSame(Messages.PARSE_ERROR, exception.getKey());
+        assertEquals("broken", exception.getMessage());
+        assertArrayEquals(new Object[]{"broken"}, exception.getValues());
+    }
+}
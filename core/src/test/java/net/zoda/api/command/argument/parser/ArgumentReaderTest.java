@@ -0,0 +1,77 @@
+package net.zoda.api.command.argument.parser;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Tests for {@link ArgumentReader}
+ */
+public class ArgumentReaderTest {
+
+    @Test
+    public void cursorWalksTheTokens() {
+        ArgumentReader reader = new ArgumentReader(new String[]{"label", "a", "b"}, 1);
+
+        assertTrue(reader.hasNext());
+        assertEquals(2, reader.remaining());
+        assertEquals("a", reader.peek());
+        assertEquals("a", reader.next());
+        assertEquals(2, reader.getCursor());
+        assertEquals("b", reader.next());
+
+        assertFalse(reader.hasNext());
+        assertEquals(0, reader.remaining());
+        assertEquals(3, reader.length());
+        assertEquals("label", reader.get(0));
+    }
+
+    @Test
+    public void readsQuotedSpan() {
+        ArgumentReader reader = new ArgumentReader(new String[]{"\"hello", "big", "world\"", "tail"});
+
+        assertTrue(reader.isQuoted());
+        assertEquals("hello big world", reader.readQuoted());
+        assertEquals(3, reader.getCursor());
+        assertEquals("tail", reader.next());
+    }
+
+    @Test
+    public void readsSingleQuotedToken() {
+        ArgumentReader reader = new ArgumentReader(new String[]{"\"word\""});
+
+        assertEquals("word", reader.readQuoted());
+        assertFalse(reader.hasNext());
+    }
+
+    @Test
+    public void unterminatedQuoteLeavesTheCursor() {
+        ArgumentReader reader = new ArgumentReader(new String[]{"\"hello", "world"});
+
+        assertNull(reader.readQuoted());
+        assertEquals(0, reader.getCursor());
+        assertEquals(-1, ArgumentReader.findQuoteEnd(new String[]{"\""}, 0));
+    }
+
+    @Test
+    public void doubledQuoteIsEscaped() {
+        ArgumentReader reader = new ArgumentReader(new String[]{"\"\"quoted", "next"});
+
+        assertFalse(reader.isQuoted());
+        assertEquals("\"quoted", reader.readUnquoted());
+        assertEquals("next", reader.readUnquoted());
+    }
+
+    @Test
+    public void readsRemainingTokens() {
+        ArgumentReader reader = new ArgumentReader(new String[]{"a", "\"b", "c"}, 1);
+
+        assertEquals("\"b c", reader.readRemaining());
+        assertFalse(reader.hasNext());
+        assertEquals("", reader.readRemaining());
+    }
+}
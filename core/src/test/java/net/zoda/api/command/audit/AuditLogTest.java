@@ -0,0 +1,110 @@
+package net.zoda.api.command.audit;
+
+import net.zoda.api.command.recording.InvocationOutcome;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Tests for {@link AuditLog}
+ */
+public class AuditLogTest {
+
+    private static final Logger LOGGER = Logger.getLogger("AuditLogTest");
+
+    private Path directory;
+
+    @BeforeEach
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("audit");
+    }
+
+    private static AuditRecord record(int index) {
+        return new AuditRecord(index, "Steve", new UUID(0, index), "punish ban", new String[]{"target", "reason"},
+                new String[]{"Alex", "said \"hi\"\n"}, InvocationOutcome.SUCCESS);
+    }
+
+    /**
+     * @return the lines of every audit file, rotated ones included
+     */
+    private List<String> lines() throws IOException {
+        List<String> lines = new ArrayList<>();
+
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.sorted().toList()) lines.addAll(Files.readAllLines(file));
+        }
+        return lines;
+    }
+
+    private long files() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    @Test
+    public void recordsAreWrittenAsJsonLines() throws IOException {
+        AuditLog log = new AuditLog(directory, 16, LOGGER);
+        log.start();
+
+        assertTrue(log.offer(record(1)));
+        assertTrue(log.offer(new AuditRecord(2, "CONSOLE", null, "reload", new String[]{"all"}, new String[]{null}, InvocationOutcome.FAILED)));
+        log.stop();
+
+        assertEquals(List.of(
+                "{\"time\":1,\"sender\":\"Steve\",\"uuid\":\"00000000-0000-0000-0000-000000000001\",\"path\":\"punish ban\","
+                        + "\"arguments\":{\"target\":\"Alex\",\"reason\":\"said \\\"hi\\\"\\n\"},\"outcome\":\"SUCCESS\"}",
+                "{\"time\":2,\"sender\":\"CONSOLE\",\"uuid\":null,\"path\":\"reload\",\"arguments\":{\"all\":null},\"outcome\":\"FAILED\"}"
+        ), Files.readAllLines(directory.resolve("audit.log")));
+    }
+
+    @Test
+    public void rotationKeepsEveryRecord() throws IOException, InterruptedException {
+        AuditLog log = new AuditLog(directory, 16, LOGGER);
+        log.setFlushIntervalMillis(5);
+        log.setMaxFileBytes(1);
+        log.start();
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(log.offer(record(i)));
+            while (log.getQueued() != 0) Thread.sleep(1);
+            Thread.sleep(20);
+        }
+        log.stop();
+
+        assertTrue(files() >= 3, "files: " + files());
+        assertEquals(3, lines().size());
+        assertEquals(0, log.getDropped());
+    }
+
+    @Test
+    public void droppedRecordsAreCounted() throws IOException {
+        AuditLog log = new AuditLog(directory, 1, LOGGER);
+
+        assertFalse(log.offer(record(0)));
+        assertEquals(1, log.getDropped());
+
+        log.start();
+
+        int offered = 2000;
+        for (int i = 0; i < offered; i++) log.offer(record(i));
+        log.stop();
+
+        assertFalse(log.offer(record(0)));
+        assertEquals(offered + 2, lines().size() + log.getDropped());
+    }
+}
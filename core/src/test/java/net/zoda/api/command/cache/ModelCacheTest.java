@@ -0,0 +1,125 @@
+package net.zoda.api.command.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Tests for {@link ModelCache} and the {@link CommandModel} it stores
+ */
+public class ModelCacheTest {
+
+    private static final String SALT = "salt";
+
+    private Path file;
+
+    @BeforeEach
+    public void createFile() throws IOException {
+        file = Files.createTempDirectory("models").resolve("command-models.bin");
+    }
+
+    private static CommandModel model() {
+        CommandModel.MethodModel defaultRun = new CommandModel.MethodModel("run",
+                new String[]{"org.bukkit.command.CommandSender"}, new String[]{}, new String[]{});
+        CommandModel.MethodModel ban = new CommandModel.MethodModel("ban",
+                new String[]{"org.bukkit.command.CommandSender", "java.lang.String", "java.lang.Integer"},
+                new String[]{"target", "days"}, new String[]{"players()", ""});
+
+        return new CommandModel(defaultRun,
+                List.of(new CommandModel.RouteModel("ban", null, ban), new CommandModel.RouteModel("admin ban", "admin", ban)),
+                List.of(new CommandModel.GroupModel("admin", new String[]{"punish.admin"})),
+                List.of("quickBan"));
+    }
+
+    @Test
+    public void modelsRoundTripThroughTheFile() throws IOException {
+        ModelCache cache = ModelCache.open(file, SALT);
+        cache.put("com.example.Punish", "hash", model());
+        assertTrue(cache.save());
+
+        CommandModel read = ModelCache.open(file, SALT).get("com.example.Punish", "hash");
+        assertNotNull(read);
+
+        assertEquals("run", read.getDefaultRun().getName());
+        assertArrayEquals(new String[]{"org.bukkit.command.CommandSender"}, read.getDefaultRun().getParameterTypes());
+        assertEquals(0, read.getDefaultRun().getArguments().length);
+
+        assertEquals(2, read.getRoutes().size());
+        CommandModel.RouteModel grouped = read.getRoutes().get(1);
+        assertEquals("admin ban", grouped.getKey());
+        assertEquals("admin", grouped.getGroup());
+        assertNull(read.getRoutes().get(0).getGroup());
+        assertArrayEquals(new String[]{"target", "days"}, grouped.getMethod().getArguments());
+        assertArrayEquals(new String[]{"players()", ""}, grouped.getMethod().getCompleters());
+
+        assertEquals("admin", read.getGroups().get(0).getName());
+        assertArrayEquals(new String[]{"punish.admin"}, read.getGroups().get(0).getPermissions());
+        assertEquals(List.of("quickBan"), read.getShortcuts());
+    }
+
+    @Test
+    public void changedClassesMiss() throws IOException {
+        ModelCache cache = ModelCache.open(file, SALT);
+        cache.put("com.example.Punish", "hash", model());
+        cache.save();
+
+        ModelCache reopened = ModelCache.open(file, SALT);
+        assertNull(reopened.get("com.example.Punish", "changed"));
+        assertNull(reopened.get("com.example.Other", "hash"));
+    }
+
+    @Test
+    public void anotherSaltDiscardsTheFile() throws IOException {
+        ModelCache cache = ModelCache.open(file, SALT);
+        cache.put("com.example.Punish", "hash", model());
+        cache.save();
+
+        assertEquals(1, ModelCache.open(file, SALT).size());
+        assertEquals(0, ModelCache.open(file, "other").size());
+    }
+
+    @Test
+    public void pruneDropsClassesNotSeenSinceOpening() throws IOException {
+        ModelCache cache = ModelCache.open(file, SALT);
+        cache.put("com.example.Punish", "hash", model());
+        cache.put("com.example.Removed", "hash", model());
+        cache.save();
+
+        ModelCache reopened = ModelCache.open(file, SALT);
+        assertFalse(reopened.save());
+
+        reopened.get("com.example.Punish", "hash");
+        reopened.prune();
+        assertTrue(reopened.save());
+
+        ModelCache pruned = ModelCache.open(file, SALT);
+        assertEquals(1, pruned.size());
+        assertNotNull(pruned.get("com.example.Punish", "hash"));
+    }
+
+    @Test
+    public void unreadableFilesOpenEmpty() throws IOException {
+        Files.write(file, new byte[]{0x43, 0x4D, 0x44});
+
+        ModelCache cache = ModelCache.open(file, SALT);
+        assertEquals(0, cache.size());
+        assertTrue(cache.save());
+    }
+
+    @Test
+    public void hashesAreStable() {
+        assertEquals(ModelCache.hashOf("parsers"), ModelCache.hashOf("parsers"));
+        assertNotEquals(ModelCache.hashOf("parsers"), ModelCache.hashOf("parsers "));
+        assertEquals(64, ModelCache.hashOf(ModelCacheTest.class).length());
+    }
+}
@@ -0,0 +1,111 @@
+package net.zoda.api.command.completion;
+
+import net.zoda.api.command.argument.parser.Suggestions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Tests for {@link AsyncCompletions}
+ */
+public class AsyncCompletionsTest {
+
+    private static final String COMPLETER = "completer";
+    private static final String OWNER = "owner";
+
+    private final AsyncCompletions completions = new AsyncCompletions();
+
+    @Test
+    public void pendingLoadIsNotSettled() {
+        CompletableFuture<List<String>> future = new CompletableFuture<>();
+
+        AsyncCompletions.Result first = completions.get(COMPLETER, OWNER, () -> future, 5, 10000);
+        assertEquals(List.of(), first.getCandidates());
+        assertFalse(first.isSettled());
+
+        future.complete(List.of("alpha", "beta"));
+
+        AsyncCompletions.Result second = completions.get(COMPLETER, OWNER, () -> fail("loaded twice"), 5, 10000);
+        assertEquals(List.of("alpha", "beta"), second.getCandidates());
+        assertTrue(second.isSettled());
+    }
+
+    @Test
+    public void loadWithinTheDeadlineIsSettled() {
+        AsyncCompletions.Result result = completions.get(COMPLETER, OWNER, () -> CompletableFuture.completedFuture(List.of("alpha")), 5, 10000);
+
+        assertEquals(List.of("alpha"), result.getCandidates());
+        assertTrue(result.isSettled());
+    }
+
+    @Test
+    public void pendingLoadIsStartedOnce() {
+        AtomicInteger loads = new AtomicInteger();
+        CompletableFuture<List<String>> future = new CompletableFuture<>();
+
+        for (int i = 0; i < 3; i++) {
+            completions.get(COMPLETER, OWNER, () -> {
+                loads.incrementAndGet();
+                return future;
+            }, 1, 10000);
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void refreshesAheadOfExpiry() throws InterruptedException {
+        completions.get(COMPLETER, OWNER, () -> CompletableFuture.completedFuture(List.of("old")), 5, 400);
+        Thread.sleep(320);
+
+        // three quarters of the max age passed, the old value is served while the new one loads
+        AsyncCompletions.Result refreshing = completions.get(COMPLETER, OWNER, () -> CompletableFuture.completedFuture(List.of("new")), 5, 400);
+        assertEquals(List.of("old"), refreshing.getCandidates());
+        assertFalse(refreshing.isSettled());
+
+        AsyncCompletions.Result refreshed = completions.get(COMPLETER, OWNER, () -> fail("loaded twice"), 5, 400);
+        assertEquals(List.of("new"), refreshed.getCandidates());
+        assertTrue(refreshed.isSettled());
+    }
+
+    @Test
+    public void failedLoadServesTheStaleValue() throws InterruptedException {
+        completions.get(COMPLETER, OWNER, () -> CompletableFuture.completedFuture(List.of("old")), 5, 1);
+        Thread.sleep(5);
+
+        AsyncCompletions.Result result = completions.get(COMPLETER, OWNER, () -> CompletableFuture.failedFuture(new IllegalStateException()), 5, 1);
+        assertEquals(List.of("old"), result.getCandidates());
+        assertFalse(result.isSettled());
+    }
+
+    @Test
+    public void ownersAreSeparate() {
+        completions.get(COMPLETER, OWNER, () -> CompletableFuture.completedFuture(List.of("alpha")), 5, 10000);
+
+        AsyncCompletions.Result other = completions.get(COMPLETER, "other", () -> CompletableFuture.completedFuture(List.of("beta")), 5, 10000);
+        assertEquals(List.of("beta"), other.getCandidates());
+        assertEquals(2, completions.size());
+    }
+
+    @Test
+    public void provisionalSuggestionsAreNotCached() {
+        CompletionCache cache = new CompletionCache();
+        UUID owner = UUID.randomUUID();
+        String[] tokens = {"a"};
+
+        Suggestions pending = new Suggestions(tokens, 0);
+        pending.markProvisional();
+        cache.store(owner, COMPLETER, pending, false);
+
+        Suggestions next = new Suggestions(new String[]{"al"}, 0);
+        assertNull(cache.narrow(owner, COMPLETER, next));
+    }
+}
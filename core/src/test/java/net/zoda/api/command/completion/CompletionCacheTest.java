@@ -0,0 +1,96 @@
+package net.zoda.api.command.completion;
+
+import net.zoda.api.command.argument.parser.Suggestions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Tests for {@link CompletionCache}
+ */
+public class CompletionCacheTest {
+
+    private static final String NODE = "node";
+
+    private final CompletionCache cache = new CompletionCache();
+    private final UUID owner = UUID.randomUUID();
+
+    private Suggestions store(String... tokens) {
+        Suggestions suggestions = suggestions(tokens);
+        for (String candidate : List.of("alpha", "apple", "avocado", "beta")) suggestions.add(candidate);
+
+        cache.store(owner, NODE, suggestions, true);
+        return suggestions;
+    }
+
+    private static Suggestions suggestions(String... tokens) {
+        return new Suggestions(tokens, 0);
+    }
+
+    @Test
+    public void narrowsAnExtendedPrefix() {
+        assertEquals(List.of("alpha", "apple", "avocado"), store("a").getList());
+
+        Suggestions next = suggestions("ap");
+        assertEquals(Boolean.TRUE, cache.narrow(owner, NODE, next));
+        assertEquals(List.of("apple"), next.getList());
+
+        // narrows again from the narrowed candidates
+        Suggestions last = suggestions("app");
+        assertEquals(Boolean.TRUE, cache.narrow(owner, NODE, last));
+        assertEquals(List.of("apple"), last.getList());
+    }
+
+    @Test
+    public void shorterPrefixRecomputes() {
+        store("al");
+
+        assertNull(cache.narrow(owner, NODE, suggestions("a")));
+        // the entry was dropped
+        assertNull(cache.narrow(owner, NODE, suggestions("alp")));
+    }
+
+    @Test
+    public void otherNodeOrSpanRecomputes() {
+        store("x", "a");
+
+        assertNull(cache.narrow(owner, "other", suggestions("x", "al")));
+
+        store("x", "a");
+        assertNull(cache.narrow(owner, NODE, suggestions("y", "al")));
+
+        store("x", "a");
+        assertNull(cache.narrow(owner, NODE, suggestions("al")));
+    }
+
+    @Test
+    public void ownersAreSeparate() {
+        store("a");
+
+        assertNull(cache.narrow(UUID.randomUUID(), NODE, suggestions("al")));
+        assertNull(cache.narrow(null, NODE, suggestions("al")));
+    }
+
+    @Test
+    public void idleEntriesExpire() {
+        store("a");
+        cache.setIdleMillis(-1);
+
+        assertNull(cache.narrow(owner, NODE, suggestions("al")));
+    }
+
+    @Test
+    public void invalidateDropsTheEntry() {
+        store("a");
+        cache.invalidate(owner);
+
+        assertNull(cache.narrow(owner, NODE, suggestions("al")));
+    }
+}
@@ -0,0 +1,87 @@
+package net.zoda.api.command.message;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Tests for {@link MessageTemplate}
+ */
+public class MessageTemplateTest {
+
+    private static final MessageKey KEY = MessageKey.of("test-message", "{player}", "player", "amount:number");
+
+    @Test
+    public void codesSplitTheTextIntoStyledSegments() {
+        MessageTemplate template = MessageTemplate.parse(KEY, "&cRed &lbold&r plain");
+        MessageTemplate.Segment[] segments = template.getSegments();
+
+        assertEquals(3, segments.length);
+
+        assertEquals("Red ", segments[0].getText());
+        assertEquals('c', segments[0].getColor());
+        assertEquals(0, segments[0].getDecorations());
+
+        assertEquals("bold", segments[1].getText());
+        assertEquals('c', segments[1].getColor());
+        assertEquals(MessageTemplate.BOLD, segments[1].getDecorations());
+
+        assertEquals(" plain", segments[2].getText());
+        assertEquals(0, segments[2].getColor());
+        assertEquals(0, segments[2].getDecorations());
+
+        assertFalse(template.hasPlaceholders());
+    }
+
+    @Test
+    public void colorsClearDecorationsAndCodesIgnoreCase() {
+        MessageTemplate.Segment[] segments = MessageTemplate.parse(KEY, "&L&oa&Bb").getSegments();
+
+        assertEquals(MessageTemplate.BOLD | MessageTemplate.ITALIC, segments[0].getDecorations());
+        assertEquals('b', segments[1].getColor());
+        assertEquals(0, segments[1].getDecorations());
+    }
+
+    @Test
+    public void placeholdersKeepTheirStyle() {
+        MessageTemplate template = MessageTemplate.parse(KEY, "&aGave {player} &e{amount}");
+        MessageTemplate.Segment[] segments = template.getSegments();
+
+        assertEquals(4, segments.length);
+        assertTrue(segments[1].isPlaceholder());
+        assertEquals(0, segments[1].getPlaceholder());
+        assertEquals('a', segments[1].getColor());
+        assertEquals(1, segments[3].getPlaceholder());
+        assertEquals('e', segments[3].getColor());
+
+        assertTrue(template.hasPlaceholders());
+        assertEquals("Gave Steve 1,234", template.toPlain(Locale.US, "Steve", 1234));
+        assertEquals("Gave Steve 1.234", template.toPlain(Locale.GERMANY, "Steve", 1234));
+        assertEquals("Gave  ", template.toPlain(Locale.US));
+    }
+
+    @Test
+    public void escapesAndUnknownCodesAreLiteral() {
+        MessageTemplate template = MessageTemplate.parse(KEY, "&&a {{player} &z 100%&");
+
+        assertEquals(1, template.getSegments().length);
+        assertEquals("&a {player} &z 100%&", template.toPlain(Locale.ROOT));
+    }
+
+    @Test
+    public void placeholderValuesAreNotInterpreted() {
+        assertEquals("&cfake {amount}", MessageTemplate.parse(KEY, "{player}").toPlain(Locale.ROOT, "&cfake {amount}"));
+    }
+
+    @Test
+    public void invalidPlaceholdersAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> MessageTemplate.parse(KEY, "Hello {nobody}"));
+        assertThrows(IllegalArgumentException.class, () -> MessageTemplate.parse(KEY, "Hello {player"));
+    }
+}
@@ -0,0 +1,143 @@
+package net.zoda.api.command.player;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Tests for {@link OfflineNameIndex}
+ */
+public class OfflineNameIndexTest {
+
+    private static final UUID FIRST = new UUID(0, 1);
+    private static final UUID SECOND = new UUID(0, 2);
+    private static final UUID THIRD = new UUID(0, 3);
+
+    private Path file;
+
+    @BeforeEach
+    public void createFile() throws IOException {
+        file = Files.createTempDirectory("names").resolve("names.bin");
+    }
+
+    private static List<String> names(OfflineNameIndex index, String prefix) {
+        List<String> names = new ArrayList<>();
+        index.forEachPrefix(prefix, 100, names::add);
+        return names;
+    }
+
+    @Test
+    public void compactionMergesPendingNamesInOrder() throws IOException {
+        OfflineNameIndex index = OfflineNameIndex.open(file);
+        index.put("Charlie", THIRD);
+        index.put("alice", FIRST);
+
+        assertTrue(index.compact());
+        assertEquals(2, index.getIndexedCount());
+        assertEquals(0, index.getPendingCount());
+
+        index.put("Bob", SECOND);
+        assertTrue(index.compact());
+
+        assertEquals(List.of("alice", "Bob", "Charlie"), names(index, ""));
+        assertEquals(SECOND, index.get("BOB"));
+        assertFalse(index.compact());
+    }
+
+    @Test
+    public void renamedPlayersKeepOnlyTheirNewName() throws IOException {
+        OfflineNameIndex index = OfflineNameIndex.open(file);
+        index.put("Steve", FIRST);
+        index.compact();
+
+        index.put("Alex", FIRST);
+        assertEquals(FIRST, index.get("alex"));
+        assertEquals(FIRST, index.get("steve"));
+
+        index.compact();
+
+        assertEquals(1, index.getIndexedCount());
+        assertEquals(FIRST, index.get("alex"));
+        assertNull(index.get("steve"));
+    }
+
+    @Test
+    public void takenOverNamesPointToTheNewPlayer() throws IOException {
+        OfflineNameIndex index = OfflineNameIndex.open(file);
+        index.put("Steve", FIRST);
+        index.put("Zed", THIRD);
+        index.compact();
+
+        index.put("steve", SECOND);
+        assertEquals(SECOND, index.get("Steve"));
+
+        index.compact();
+
+        assertEquals(2, index.getIndexedCount());
+        assertEquals(SECOND, index.get("Steve"));
+        assertEquals(List.of("steve"), names(index, "st"));
+    }
+
+    @Test
+    public void pendingNamesComeFirstAndHideTheirRecords() throws IOException {
+        OfflineNameIndex index = OfflineNameIndex.open(file);
+        index.put("Sam", FIRST);
+        index.put("Sara", SECOND);
+        index.compact();
+
+        index.put("SAM", FIRST);
+        index.put("Sage", THIRD);
+
+        assertEquals(List.of("Sage", "SAM", "Sara"), names(index, "sa"));
+
+        List<String> limited = new ArrayList<>();
+        index.forEachPrefix("sa", 2, limited::add);
+        assertEquals(List.of("Sage", "SAM"), limited);
+    }
+
+    @Test
+    public void reopenedIndexAnswersFromTheFile() throws IOException {
+        OfflineNameIndex index = OfflineNameIndex.open(file);
+        index.put("Notch", FIRST);
+        index.put("jeb_", SECOND);
+        index.compact();
+
+        OfflineNameIndex reopened = OfflineNameIndex.open(file);
+
+        assertEquals(2, reopened.getIndexedCount());
+        assertEquals(FIRST, reopened.get("notch"));
+        assertEquals(SECOND, reopened.get("JEB_"));
+        assertNull(reopened.get("nobody"));
+    }
+
+    @Test
+    public void invalidNamesAreIgnored() throws IOException {
+        OfflineNameIndex index = OfflineNameIndex.open(file);
+        index.put("has space", FIRST);
+        index.put("seventeen_chars__", SECOND);
+        index.put("", THIRD);
+
+        assertEquals(0, index.getPendingCount());
+        assertFalse(index.compact());
+        assertNull(index.get("has space"));
+    }
+
+    @Test
+    public void corruptFilesOpenEmpty() throws IOException {
+        Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17});
+
+        assertEquals(0, OfflineNameIndex.open(file).getIndexedCount());
+    }
+}
@@ -0,0 +1,131 @@
+package net.zoda.api.command.recording;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Tests for {@link InvocationLog}
+ */
+public class InvocationLogTest {
+
+    private static final UUID OWNER = new UUID(7, 11);
+
+    private Path file;
+
+    @BeforeEach
+    public void createFile() throws IOException {
+        file = Files.createTempDirectory("invocations").resolve("invocations.ring");
+    }
+
+    private static void append(InvocationLog log, String node, String... args) {
+        InvocationStages stages = new InvocationStages();
+        stages.begin(node);
+        stages.markRouted();
+        stages.markParsed();
+        stages.markInvoked();
+
+        log.append(false, stages.getOutcome(), OWNER, node, args, stages);
+    }
+
+    private static List<String> args(List<InvocationRecord> records) {
+        return records.stream().map(InvocationRecord::getArgs).toList();
+    }
+
+    @Test
+    public void recordsAreReadBackOldestFirst() throws IOException {
+        try (InvocationLog log = InvocationLog.open(file, 4, InvocationLog.DEFAULT_SLOT_SIZE)) {
+            append(log, "warp set", "home");
+            InvocationStages stages = new InvocationStages();
+            stages.begin("warp");
+            log.append(true, InvocationOutcome.FAILED, null, "warp", new String[]{"ho"}, stages);
+        }
+
+        List<InvocationRecord> records = InvocationLog.read(file);
+        assertEquals(2, records.size());
+
+        InvocationRecord first = records.get(0);
+        assertEquals(0, first.getSequence());
+        assertFalse(first.isTabRequest());
+        assertEquals(InvocationOutcome.SUCCESS, first.getOutcome());
+        assertEquals(OWNER, first.getOwner());
+        assertEquals(InvocationLog.nodeId("warp set"), first.getNode());
+        assertEquals("home", first.getArgs());
+
+        InvocationRecord second = records.get(1);
+        assertEquals(1, second.getSequence());
+        assertTrue(second.isTabRequest());
+        assertEquals(InvocationOutcome.FAILED, second.getOutcome());
+        assertNull(second.getOwner());
+    }
+
+    @Test
+    public void ringOverwritesTheOldestRecords() throws IOException {
+        try (InvocationLog log = InvocationLog.open(file, 3, InvocationLog.DEFAULT_SLOT_SIZE)) {
+            for (int i = 0; i < 7; i++) append(log, "count", String.valueOf(i));
+        }
+
+        List<InvocationRecord> records = InvocationLog.read(file);
+
+        assertEquals(List.of("4", "5", "6"), args(records));
+        assertEquals(List.of(4L, 5L, 6L), records.stream().map(InvocationRecord::getSequence).toList());
+        assertEquals(16 + 3L * InvocationLog.DEFAULT_SLOT_SIZE, Files.size(file));
+    }
+
+    @Test
+    public void reopenedRingContinuesAfterTheNewestRecord() throws IOException {
+        try (InvocationLog log = InvocationLog.open(file, 3, InvocationLog.DEFAULT_SLOT_SIZE)) {
+            for (int i = 0; i < 4; i++) append(log, "count", String.valueOf(i));
+        }
+
+        try (InvocationLog log = InvocationLog.open(file, 3, InvocationLog.DEFAULT_SLOT_SIZE)) {
+            append(log, "count", "4");
+        }
+
+        List<InvocationRecord> records = InvocationLog.read(file);
+        assertEquals(List.of("2", "3", "4"), args(records));
+        assertEquals(4, records.get(2).getSequence());
+    }
+
+    @Test
+    public void reopeningWithAnotherShapeStartsOver() throws IOException {
+        try (InvocationLog log = InvocationLog.open(file, 3, InvocationLog.DEFAULT_SLOT_SIZE)) {
+            append(log, "count", "old");
+        }
+
+        try (InvocationLog log = InvocationLog.open(file, 5, InvocationLog.DEFAULT_SLOT_SIZE)) {
+            append(log, "count", "new");
+        }
+
+        List<InvocationRecord> records = InvocationLog.read(file);
+        assertEquals(List.of("new"), args(records));
+        assertEquals(0, records.get(0).getSequence());
+    }
+
+    @Test
+    public void longArgsAreCutOnCharacterBoundaries() throws IOException {
+        // 8 bytes of args fit in a slot of 64
+        try (InvocationLog log = InvocationLog.open(file, 2, 64)) {
+            append(log, "say", "ab", "\u00e9\u00e9\u00e9\u00e9");
+        }
+
+        assertEquals("ab \u00e9\u00e9", InvocationLog.read(file).get(0).getArgs());
+    }
+
+    @Test
+    public void invalidShapesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> InvocationLog.open(file, 0, InvocationLog.DEFAULT_SLOT_SIZE));
+        assertThrows(IllegalArgumentException.class, () -> InvocationLog.open(file, 4, 56));
+    }
+}
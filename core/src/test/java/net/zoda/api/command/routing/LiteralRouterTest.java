@@ -0,0 +1,59 @@
+package net.zoda.api.command.routing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Tests for {@link LiteralRouter}
+ */
+public class LiteralRouterTest {
+
+    private final LiteralRouter<String, String> router = new LiteralRouter<>(
+            Map.of("list", "list", "set", "set", "home", "home"),
+            Map.of("warp", "warp", "warp admin", "warp admin"));
+
+    @Test
+    public void routesTopLevelLiteral() {
+        LiteralRouter.Route<String, String> route = router.route(new String[]{"list", "extra"});
+
+        assertEquals("list", route.getLeaf());
+        assertNull(route.getGroup());
+        assertEquals(1, route.getConsumed());
+        assertEquals(0, route.getGroupDepth());
+    }
+
+    @Test
+    public void routesThroughGroups() {
+        LiteralRouter.Route<String, String> route = router.route(new String[]{"warp", "admin", "set", "spawn"});
+
+        assertEquals("set", route.getLeaf());
+        assertEquals("warp admin", route.getGroup());
+        assertEquals(3, route.getConsumed());
+        assertEquals(2, route.getGroupDepth());
+        assertEquals("set", route.getLiteral());
+    }
+
+    @Test
+    public void unknownLiteralFailsAfterGroupPath() {
+        LiteralRouter.Route<String, String> route = router.route(new String[]{"warp", "sett"});
+
+        assertNull(route.getLeaf());
+        assertEquals("warp", route.getGroup());
+        assertEquals(1, route.getConsumed());
+        assertEquals(1, route.getGroupDepth());
+    }
+
+    @Test
+    public void findsClosestLiterals() {
+        assertEquals(List.of("home"), router.findClosestLiterals("", "hom", 3));
+        assertEquals(List.of(), router.findClosestLiterals("missing", "hom", 3));
+    }
+}
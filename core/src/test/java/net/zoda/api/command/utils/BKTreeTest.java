@@ -0,0 +1,105 @@
+package net.zoda.api.command.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Tests for {@link BKTree}
+ */
+public class BKTreeTest {
+
+    @Test
+    public void findsClosestLiteralsFirst() {
+        BKTree tree = tree("teleport", "tell", "time", "weather", "tp");
+
+        assertEquals(List.of("tell", "tp"), tree.search("tel", 2, 3));
+        assertEquals(List.of("tell"), tree.search("tel", 2, 1));
+        assertEquals(List.of("weather"), tree.search("wether", 1, 3));
+    }
+
+    @Test
+    public void ignoresCase() {
+        BKTree tree = tree("Teleport", "tell");
+
+        assertEquals(List.of("tell"), tree.search("TELL", 0, 3));
+        assertEquals(List.of("Teleport"), tree.search("teleprot", 2, 1));
+    }
+
+    @Test
+    public void nothingWithinDistance() {
+        BKTree tree = tree("teleport", "tell");
+
+        assertEquals(List.of(), tree.search("xyz", 1, 5));
+        assertEquals(List.of(), tree.search("tell", 1, 0));
+        assertEquals(List.of(), new BKTree().search("tell", 3, 5));
+    }
+
+    @Test
+    public void keepsWordsOnce() {
+        BKTree tree = tree("tell", "tell", "TELL");
+
+        assertEquals(1, tree.size());
+    }
+
+    @Test
+    public void matchesBruteForce() {
+        Random random = new Random(42);
+        List<String> words = new ArrayList<>();
+
+        for (int i = 0; i < 300; i++) words.add(word(random));
+
+        BKTree tree = new BKTree();
+        words.forEach(tree::add);
+
+        for (int i = 0; i < 100; i++) {
+            String query = word(random);
+            List<String> found = tree.search(query, 2, 1);
+
+            int closest = Integer.MAX_VALUE;
+            for (String word : words) closest = Math.min(closest, levenshtein(query, word));
+
+            if (closest > 2) {
+                assertTrue(found.isEmpty(), query);
+            } else {
+                assertEquals(1, found.size(), query);
+                assertEquals(closest, levenshtein(query, found.get(0)), query);
+            }
+        }
+    }
+
+    private static BKTree tree(String... words) {
+        BKTree tree = new BKTree();
+        for (String word : words) tree.add(word);
+        return tree;
+    }
+
+    private static String word(Random random) {
+        char[] chars = new char[3 + random.nextInt(5)];
+        for (int i = 0; i < chars.length; i++) chars[i] = (char) ('a' + random.nextInt(6));
+        return new String(chars);
+    }
+
+    private static int levenshtein(String a, String b) {
+        int[][] table = new int[a.length() + 1][b.length() + 1];
+
+        for (int i = 0; i <= a.length(); i++) table[i][0] = i;
+        for (int j = 0; j <= b.length(); j++) table[0][j] = j;
+
+        for (int i = 1; i <= a.length(); i++) {
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                table[i][j] = Math.min(Math.min(table[i - 1][j] + 1, table[i][j - 1] + 1), table[i - 1][j - 1] + cost);
+            }
+        }
+        return table[a.length()][b.length()];
+    }
+}
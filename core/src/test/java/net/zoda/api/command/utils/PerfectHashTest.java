@@ -0,0 +1,71 @@
+package net.zoda.api.command.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MIT License
+ * <p>
+ * Copyright (c) 2022 S. S.
+ * <p>
+ * Tests for {@link PerfectHash}
+ */
+public class PerfectHashTest {
+
+    @Test
+    public void mapsEveryKeyToItsIndex() {
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 300; i++) keys.add("--option" + i);
+
+        PerfectHash hash = PerfectHash.of(keys);
+
+        for (int i = 0; i < keys.size(); i++) {
+            assertEquals(i, hash.get(keys.get(i)));
+        }
+        assertEquals(-1, hash.get("--missing"));
+        assertTrue(hash.isPerfect());
+    }
+
+    @Test
+    public void separatesKeysWithEqualHashCodes() {
+        assertEquals("--Aa".hashCode(), "--BB".hashCode());
+
+        PerfectHash hash = PerfectHash.of(List.of("--Aa", "--BB", "-a"));
+
+        assertEquals(0, hash.get("--Aa"));
+        assertEquals(1, hash.get("--BB"));
+        assertEquals(2, hash.get("-a"));
+        assertEquals(-1, hash.get("--AaBB"));
+    }
+
+    @Test
+    public void separatesManyKeysWithEqualHashCodes() {
+        // every combination of "Aa" and "BB" blocks shares one hashCode
+        List<String> keys = new ArrayList<>();
+        for (int mask = 0; mask < 64; mask++) {
+            StringBuilder builder = new StringBuilder("--");
+            for (int bit = 0; bit < 6; bit++) builder.append((mask & (1 << bit)) != 0 ? "BB" : "Aa");
+            keys.add(builder.toString());
+        }
+
+        PerfectHash hash = PerfectHash.of(keys);
+
+        for (int i = 0; i < keys.size(); i++) {
+            assertEquals(i, hash.get(keys.get(i)));
+        }
+    }
+
+    @Test
+    public void emptyTableFindsNothing() {
+        assertEquals(-1, PerfectHash.of(List.of()).get("--any"));
+    }
+
+    @Test
+    public void rejectsDuplicates() {
+        assertThrows(IllegalArgumentException.class, () -> PerfectHash.of(List.of("--name", "--name")));
+    }
+}